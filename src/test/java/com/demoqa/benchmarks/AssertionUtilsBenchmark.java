@@ -0,0 +1,35 @@
+package com.demoqa.benchmarks;
+
+import com.demoqa.utilities.AssertionUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/* JMH benchmarks for the AssertionUtils helpers on the passing path, which is what almost every call takes.
+The failing path of the eventually-style assertions sleeps between polls and is dominated by that sleep, so it is not measured here. */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertionUtilsBenchmark {
+
+    private String actualTitle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        actualTitle = new String("DEMOQA");
+    }
+
+    @Benchmark
+    public void assertEqualsEventually() {
+        AssertionUtils.assertEqualsEventually(() -> actualTitle, "DEMOQA", "The actual and current page title don't match");
+    }
+
+    @Benchmark
+    public void assertTrueEventually() {
+        AssertionUtils.assertTrueEventually(() -> !actualTitle.isEmpty(), "Checkbox Subcategory is not displayed.");
+    }
+}
@@ -0,0 +1,64 @@
+package com.demoqa.benchmarks;
+
+import com.demoqa.pages.elements.TextBoxPage;
+import com.demoqa.utilities.BrowserProfile;
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.LoggerUtil;
+import com.demoqa.utilities.SiteUrls;
+import com.demoqa.utilities.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Set;
+
+/* Reports browser startup time and the wall time of a representative test (open the Text Box page, fill and submit the
+form, read the output) for every launch profile, to pick the cheapest one for CI.
+Run the main method from the IDE, optionally with -Dbenchmark.browser=firefox -Dbenchmark.launches=3
+-Dbenchmark.iterations=5 -Dbenchmark.profiles="headed;headless;headless,no-images;ci" (add -Dmirror... / -Dbase.url to
+measure against the local mirror instead of the public site). */
+
+public class BrowserProfileBenchmark {
+
+    public static void main(String[] args) {
+        String browserName = ConfigReader.getString("benchmark.browser", "chrome");
+        int launches = ConfigReader.getInt("benchmark.launches", 3);
+        int iterations = ConfigReader.getInt("benchmark.iterations", 5);
+        String[] profileSpecs = ConfigReader.getString("benchmark.profiles",
+                "headed;headless;headless,reduced-gpu;headless,no-images;headless,fixed-viewport;ci").split(";");
+
+        LoggerUtil.info(String.format("%-45s %12s %14s", "Profile (" + browserName + ")", "startup ms", "test ms"));
+        for (String profileSpec : profileSpecs) {
+            Set<BrowserProfile> profiles = BrowserProfile.parse(profileSpec);
+            long startupNanos = 0;
+            long testNanos = 0;
+            for (int launch = 0; launch < launches; launch++) {
+                long start = System.nanoTime();
+                WebDriver driver = new WebDriverManager().initiateDriver(browserName, profiles);
+                startupNanos += System.nanoTime() - start;
+                try {
+                    TextBoxPage textBoxPage = new TextBoxPage(driver, new WebDriverWait(driver, Duration.ofSeconds(10)));
+                    for (int i = 0; i < iterations; i++) {
+                        start = System.nanoTime();
+                        runRepresentativeTest(driver, textBoxPage);
+                        testNanos += System.nanoTime() - start;
+                    }
+                } finally {
+                    driver.quit();
+                }
+            }
+            LoggerUtil.info(String.format("%-45s %12.1f %14.1f", BrowserProfile.toProfileNames(profiles),
+                    startupNanos / 1e6 / launches, testNanos / 1e6 / (launches * iterations)));
+        }
+        LoggerUtil.flush();
+    }
+
+    private static void runRepresentativeTest(WebDriver driver, TextBoxPage textBoxPage) {
+        driver.get(SiteUrls.of("text-box"));
+        textBoxPage.fillOutTextBoxForm("Zoran Dimitrievski", "zzdimitrievski@gmail.com", "Skopje", "Skopje");
+        textBoxPage.clickSubmitButton();
+        if (!textBoxPage.getNameTextFromOutputField().contains("Zoran")) {
+            throw new IllegalStateException("Text Box output was not rendered");
+        }
+    }
+}
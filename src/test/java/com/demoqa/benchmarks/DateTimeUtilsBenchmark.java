@@ -0,0 +1,81 @@
+package com.demoqa.benchmarks;
+
+import com.demoqa.utilities.DateTimeUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/* JMH benchmarks for the DateTimeUtils helpers used when logging test execution timestamps.
+simpleDateFormatPerCall() is the former implementation of formatTimestamp, kept as the baseline. appendTimestamp()
+reuses one StringBuilder per thread, like the logger does; run with -prof gc to see its allocation rate. */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateTimeUtilsBenchmark {
+
+    private Date date;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        date = new Date();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadBuffer {
+        final StringBuilder builder = new StringBuilder(64);
+    }
+
+    @Benchmark
+    public String simpleDateFormatPerCall() {
+        return new SimpleDateFormat("dd-MM-yyyy HH:mm:ss").format(date);
+    }
+
+    @Benchmark
+    public String formatTimestamp() {
+        return DateTimeUtils.formatTimestamp(date);
+    }
+
+    @Benchmark
+    @Threads(6)
+    public String formatTimestampFromSixThreads() {
+        return DateTimeUtils.formatTimestamp(date);
+    }
+
+    @Benchmark
+    public int appendTimestamp(ThreadBuffer buffer) {
+        buffer.builder.setLength(0);
+        return DateTimeUtils.appendTimestamp(buffer.builder, date.getTime()).length();
+    }
+
+    @Benchmark
+    public String getCurrentTimestamp() {
+        return DateTimeUtils.getCurrentTimestamp();
+    }
+
+    @Benchmark
+    public Date addDaysToDate() {
+        return DateTimeUtils.addDaysToDate(date, 7);
+    }
+
+    @Benchmark
+    public int getHourOfDay() {
+        return DateTimeUtils.getHourOfDay(date);
+    }
+
+    @Benchmark
+    @Threads(6)
+    public int getHourOfDayFromSixThreads() {
+        return DateTimeUtils.getHourOfDay(date);
+    }
+
+    @Benchmark
+    public String getCurrentDate() {
+        return DateTimeUtils.getCurrentDate();
+    }
+}
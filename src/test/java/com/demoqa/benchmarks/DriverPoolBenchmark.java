@@ -0,0 +1,54 @@
+package com.demoqa.benchmarks;
+
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.LoggerUtil;
+import com.demoqa.utilities.WebDriverManager;
+import com.demoqa.utilities.WebDriverPool;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URL;
+
+/* Compares the per-test session startup cost of "fresh browser per test" against leasing from the WebDriverPool.
+Each simulated test leases a driver, opens the local fixture page (which leaves cookies, storage and a tab behind) and releases it.
+Run the main method from the IDE, optionally with -Dbenchmark.browser=firefox -Dbenchmark.iterations=30 */
+
+public class DriverPoolBenchmark {
+
+    public static void main(String[] args) {
+        String browserName = ConfigReader.getString("benchmark.browser", "chrome");
+        int iterations = ConfigReader.getInt("benchmark.iterations", 20);
+        String fixtureUrl = fixtureUrl();
+
+        // maxUses = 1 quits the session on every release, which is exactly the old BaseTest behaviour
+        WebDriverPool freshPerTest = new WebDriverPool(1, 1, 120, name -> new WebDriverManager().initiateDriver(name));
+        WebDriverPool pooled = new WebDriverPool(1, Integer.MAX_VALUE, 120, name -> new WebDriverManager().initiateDriver(name));
+
+        long freshNanos = run(freshPerTest, browserName, fixtureUrl, iterations);
+        long pooledNanos = run(pooled, browserName, fixtureUrl, iterations);
+        pooled.shutdown();
+
+        LoggerUtil.info(String.format("Fresh browser per test : %8.1f ms / test", freshNanos / 1e6 / iterations));
+        LoggerUtil.info(String.format("Pooled session         : %8.1f ms / test", pooledNanos / 1e6 / iterations));
+        LoggerUtil.info(String.format("Speed-up               : %8.1fx", (double) freshNanos / pooledNanos));
+    }
+
+    private static long run(WebDriverPool pool, String browserName, String fixtureUrl, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            WebDriver driver = pool.acquire(browserName);
+            driver.get(fixtureUrl);
+            driver.findElement(By.id("openTab")).click();
+            pool.release(driver);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static String fixtureUrl() {
+        URL fixture = DriverPoolBenchmark.class.getResource("/fixtures/pool-benchmark.html");
+        if (fixture == null) {
+            throw new IllegalStateException("Fixture /fixtures/pool-benchmark.html not found on the test classpath");
+        }
+        return fixture.toString();
+    }
+}
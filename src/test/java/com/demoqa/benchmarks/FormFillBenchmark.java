@@ -0,0 +1,79 @@
+package com.demoqa.benchmarks;
+
+import com.demoqa.pages.elements.TextBoxPage;
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.FillMode;
+import com.demoqa.utilities.LoggerUtil;
+import com.demoqa.utilities.WebDriverManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.net.URL;
+import java.time.Duration;
+
+/* Compares filling the Text Box form with real keystrokes (one visibility wait and sendKeys per field) and with the
+single-script fast fill, on a local copy of the form whose inputs behave like React controlled inputs.
+Both modes must render the same output block before their timings are compared.
+Run the main method from the IDE, optionally with -Dbenchmark.browser=firefox -Dbenchmark.iterations=20 */
+
+public class FormFillBenchmark {
+
+    private static final String FULL_NAME = "Zoran Dimitrievski";
+    private static final String EMAIL = "zzdimitrievski@gmail.com";
+    private static final String ADDRESS = "Partizanski Odredi 15, 1000 Skopje, North Macedonia";
+
+    public static void main(String[] args) {
+        String browserName = ConfigReader.getString("benchmark.browser", "chrome");
+        int iterations = ConfigReader.getInt("benchmark.iterations", 20);
+
+        WebDriver driver = new WebDriverManager().initiateDriver(browserName);
+        try {
+            TextBoxPage textBoxPage = new TextBoxPage(driver, new WebDriverWait(driver, Duration.ofSeconds(10)));
+
+            String typedOutput = fillAndSubmit(driver, textBoxPage, FillMode.TYPE);
+            String fastOutput = fillAndSubmit(driver, textBoxPage, FillMode.FAST);
+            if (typedOutput.isEmpty() || !typedOutput.equals(fastOutput)) {
+                throw new IllegalStateException("Output mismatch:\n typed: " + typedOutput + "\n fast : " + fastOutput);
+            }
+
+            long typedNanos = 0;
+            long fastNanos = 0;
+            for (int i = 0; i < iterations; i++) {
+                typedNanos += timeFill(driver, textBoxPage, FillMode.TYPE);
+                fastNanos += timeFill(driver, textBoxPage, FillMode.FAST);
+            }
+
+            LoggerUtil.info(String.format("Typed (sendKeys per field): %8.1f ms / form", typedNanos / 1e6 / iterations));
+            LoggerUtil.info(String.format("Fast fill (one script)    : %8.1f ms / form", fastNanos / 1e6 / iterations));
+            LoggerUtil.info(String.format("Speed-up                  : %8.1fx", (double) typedNanos / fastNanos));
+        } finally {
+            driver.quit();
+            LoggerUtil.flush();
+        }
+    }
+
+    // Fresh form, timed fill only
+    private static long timeFill(WebDriver driver, TextBoxPage textBoxPage, FillMode mode) {
+        driver.get(fixtureUrl());
+        textBoxPage.setFillMode(mode);
+        long start = System.nanoTime();
+        textBoxPage.fillOutTextBoxForm(FULL_NAME, EMAIL, ADDRESS, ADDRESS);
+        return System.nanoTime() - start;
+    }
+
+    // The output is rendered from the form state, so it is only complete when every field fired its input event
+    private static String fillAndSubmit(WebDriver driver, TextBoxPage textBoxPage, FillMode mode) {
+        timeFill(driver, textBoxPage, mode);
+        textBoxPage.clickSubmitButton();
+        return driver.findElement(By.id("output")).getText();
+    }
+
+    private static String fixtureUrl() {
+        URL fixture = FormFillBenchmark.class.getResource("/fixtures/text-box-form.html");
+        if (fixture == null) {
+            throw new IllegalStateException("Fixture /fixtures/text-box-form.html not found on the test classpath");
+        }
+        return fixture.toString();
+    }
+}
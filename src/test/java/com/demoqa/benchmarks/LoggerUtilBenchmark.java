@@ -0,0 +1,47 @@
+package com.demoqa.benchmarks;
+
+import com.demoqa.utilities.LoggerUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
+
+/* JMH benchmarks for LoggerUtil: the full info() call and the CustomFormatter on its own.
+stderr is redirected to a null stream before LoggerUtil is loaded, so the numbers show the framework cost and not the terminal. */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggerUtilBenchmark {
+
+    private LoggerUtil.CustomFormatter formatter;
+    private LogRecord record;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+        formatter = new LoggerUtil.CustomFormatter();
+        record = new LogRecord(java.util.logging.Level.INFO, "Executing verifyTotalRowsInWebTable test...");
+    }
+
+    @Benchmark
+    public void info() {
+        LoggerUtil.info("Executing verifyTotalRowsInWebTable test...");
+    }
+
+    @Benchmark
+    @Threads(6)
+    public void infoFromSixThreads() {
+        LoggerUtil.info("Executing verifyTotalRowsInWebTable test...");
+    }
+
+    @Benchmark
+    public String customFormatterFormat() {
+        return formatter.format(record);
+    }
+}
@@ -0,0 +1,81 @@
+package com.demoqa.benchmarks;
+
+import com.demoqa.utilities.BlockedRequestMetrics;
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.LoggerUtil;
+import com.demoqa.utilities.WebDriverManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URL;
+import java.util.Map;
+
+/* Loads a local page that references ad and analytics hosts with request blocking on and off, checks that every
+third-party resource failed while blocking was on (and the page's own script still ran) and compares the load times.
+Run the main method from the IDE, optionally with -Dbenchmark.browser=edge -Dbenchmark.iterations=10; add
+-Dbenchmark.url=https://demoqa.com/text-box to measure a real page instead of the fixture. */
+
+public class NetworkBlockingBenchmark {
+
+    public static void main(String[] args) {
+        String browserName = ConfigReader.getString("benchmark.browser", "chrome");
+        int iterations = ConfigReader.getInt("benchmark.iterations", 10);
+        String url = ConfigReader.getString("benchmark.url", fixtureUrl());
+
+        try {
+            System.setProperty("network.block", "true");
+            double blockedMillis = averageLoadMillis(browserName, url, iterations, true);
+            LoggerUtil.info(BlockedRequestMetrics.global().summary());
+
+            System.setProperty("network.block", "false");
+            double unblockedMillis = averageLoadMillis(browserName, url, iterations, false);
+
+            LoggerUtil.info(String.format("Blocking on : %8.1f ms / page load", blockedMillis));
+            LoggerUtil.info(String.format("Blocking off: %8.1f ms / page load", unblockedMillis));
+        } finally {
+            System.clearProperty("network.block");
+            LoggerUtil.flush();
+        }
+    }
+
+    private static double averageLoadMillis(String browserName, String url, int iterations, boolean blocking) {
+        WebDriver driver = new WebDriverManager().initiateDriver(browserName);
+        try {
+            long totalNanos = 0;
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                driver.get(url);
+                totalNanos += System.nanoTime() - start;
+                if (blocking && url.equals(fixtureUrl())) {
+                    verifyThirdPartyRequestsFailed(driver);
+                }
+            }
+            return totalNanos / 1e6 / iterations;
+        } finally {
+            driver.quit();
+        }
+    }
+
+    // Blocked requests fail immediately, so their error handlers have run by the time the load event fired
+    private static void verifyThirdPartyRequestsFailed(WebDriver driver) {
+        Object status = ((JavascriptExecutor) driver).executeScript("return document.getElementById('status').textContent;");
+        if (!"page script ran".equals(status)) {
+            throw new IllegalStateException("The fixture's own script did not run: " + status);
+        }
+        Map<?, ?> outcomes = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript("return outcomes;");
+        if (outcomes.isEmpty() || outcomes.values().stream().anyMatch(outcome -> !"failed".equals(outcome))) {
+            throw new IllegalStateException("Third-party requests were not blocked: " + outcomes);
+        }
+        if (BlockedRequestMetrics.global().getBlockedCount() == 0) {
+            throw new IllegalStateException("No blocked requests were recorded");
+        }
+    }
+
+    private static String fixtureUrl() {
+        URL fixture = NetworkBlockingBenchmark.class.getResource("/fixtures/third-party-requests.html");
+        if (fixture == null) {
+            throw new IllegalStateException("Fixture /fixtures/third-party-requests.html not found on the test classpath");
+        }
+        return fixture.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.demoqa.benchmarks;
+
+import com.demoqa.pages.HomePage;
+import com.demoqa.pages.elements.CheckBoxPage;
+import com.demoqa.pages.elements.TextBoxPage;
+import com.demoqa.pages.elements.WebTablesPage;
+import com.demoqa.tests.support.StubWebDriver;
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/* JMH benchmarks for page object construction through BasePage's constructor (PageFactory.initElements + new Actions).
+A stub driver is used: building the element proxies never talks to the browser, so this is the pure framework cost.
+CheckBoxPage has the most @FindBy fields (27) and shows how the cost grows with the number of locators. */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageFactoryBenchmark {
+
+    private WebDriver driver;
+    private WebDriverWait wait;
+    private HomePage homePage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = StubWebDriver.create().driver();
+        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        homePage = new HomePage(driver, wait);
+    }
+
+    @Benchmark
+    public HomePage homePage() {
+        return new HomePage(driver, wait);
+    }
+
+    @Benchmark
+    public TextBoxPage textBoxPage() {
+        return new TextBoxPage(driver, wait);
+    }
+
+    @Benchmark
+    public CheckBoxPage checkBoxPage() {
+        return new CheckBoxPage(driver, wait);
+    }
+
+    @Benchmark
+    public WebTablesPage webTablesPage() {
+        return new WebTablesPage(driver, wait, homePage);
+    }
+}
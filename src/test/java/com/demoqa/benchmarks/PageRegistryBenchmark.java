@@ -0,0 +1,80 @@
+package com.demoqa.benchmarks;
+
+import com.demoqa.pages.BasePage;
+import com.demoqa.pages.HomePage;
+import com.demoqa.pages.PageRegistry;
+import com.demoqa.pages.elements.*;
+import com.demoqa.tests.support.StubWebDriver;
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/* Measures per-test setup cost of eager page construction (the old BaseTest.setUp) against the lazy PageRegistry,
+for page catalogues of growing size. A typical test touches two pages (HomePage plus one sub-category page).
+The catalogue is built by cycling the existing page classes, so a catalogue of 40 constructs 40 page objects.
+No browser is needed: page construction only creates PageFactory proxies, which is exactly the cost measured here. */
+
+public class PageRegistryBenchmark {
+
+    private static final List<Class<? extends BasePage>> PAGE_CLASSES = List.of(
+            HomePage.class, BrokenLinks_ImagesPage.class, ButtonsPage.class, CheckBoxPage.class,
+            DynamicPropertiesPage.class, LinksPage.class, RadioButtonPage.class, TextBoxPage.class,
+            UploadAndDownloadPage.class, WebTablesPage.class);
+
+    public static void main(String[] args) {
+        int iterations = ConfigReader.getInt("benchmark.iterations", 20_000);
+        WebDriver driver = StubWebDriver.create().driver();
+        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+
+        for (int catalogueSize : new int[]{10, 20, 40, 80}) {
+            List<Class<? extends BasePage>> catalogue = catalogue(catalogueSize);
+
+            // Warm-up so the JIT compiles both paths before measuring
+            runEager(catalogue, driver, wait, iterations / 10);
+            runLazy(driver, wait, iterations / 10);
+
+            long eagerNanos = runEager(catalogue, driver, wait, iterations);
+            long lazyNanos = runLazy(driver, wait, iterations);
+
+            LoggerUtil.info(String.format("%3d pages | eager %8.2f us / test | lazy %6.2f us / test | %5.1fx faster",
+                    catalogueSize, eagerNanos / 1e3 / iterations, lazyNanos / 1e3 / iterations, (double) eagerNanos / lazyNanos));
+        }
+    }
+
+    // Old behaviour: every page of the catalogue is constructed in setUp, whether the test uses it or not
+    private static long runEager(List<Class<? extends BasePage>> catalogue, WebDriver driver, WebDriverWait wait, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (Class<? extends BasePage> pageClass : catalogue) {
+                // A fresh registry per page forces construction even for repeated classes
+                new PageRegistry(driver, wait).get(pageClass);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    // New behaviour: only the pages the test actually touches are constructed
+    private static long runLazy(WebDriver driver, WebDriverWait wait, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            PageRegistry registry = new PageRegistry(driver, wait);
+            registry.get(HomePage.class);
+            registry.get(TextBoxPage.class);
+            registry.clear();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static List<Class<? extends BasePage>> catalogue(int size) {
+        List<Class<? extends BasePage>> catalogue = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            catalogue.add(PAGE_CLASSES.get(i % PAGE_CLASSES.size()));
+        }
+        return catalogue;
+    }
+}
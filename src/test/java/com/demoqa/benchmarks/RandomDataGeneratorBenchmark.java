@@ -0,0 +1,61 @@
+package com.demoqa.benchmarks;
+
+import com.demoqa.utilities.RandomDataGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/* JMH benchmarks for the Faker-backed RandomDataGenerator methods.
+generateTestClassData() mirrors the eight calls BaseTest's constructor makes for every test class instance. */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomDataGeneratorBenchmark {
+
+    @Benchmark
+    public String fullName() {
+        return RandomDataGenerator.getRandomFullName();
+    }
+
+    @Benchmark
+    public String email() {
+        return RandomDataGenerator.getRandomEmail();
+    }
+
+    @Benchmark
+    public String address() {
+        return RandomDataGenerator.getRandomAddress();
+    }
+
+    @Benchmark
+    public String password() {
+        return RandomDataGenerator.getRandomPassword();
+    }
+
+    @Benchmark
+    public String cellNumber() {
+        return RandomDataGenerator.getRandomCellNumber();
+    }
+
+    @Benchmark
+    public void generateTestClassData(Blackhole blackhole) {
+        blackhole.consume(RandomDataGenerator.getRandomEmail());
+        blackhole.consume(RandomDataGenerator.getRandomPassword());
+        blackhole.consume(RandomDataGenerator.getRandomFirstName());
+        blackhole.consume(RandomDataGenerator.getRandomLastName());
+        blackhole.consume(RandomDataGenerator.getRandomFullName());
+        blackhole.consume(RandomDataGenerator.getRandomPhoneNumber());
+        blackhole.consume(RandomDataGenerator.getRandomCellNumber());
+        blackhole.consume(RandomDataGenerator.getRandomAddress());
+    }
+
+    @Benchmark
+    @Threads(6)
+    public void generateTestClassDataFromSixThreads(Blackhole blackhole) {
+        generateTestClassData(blackhole);
+    }
+}
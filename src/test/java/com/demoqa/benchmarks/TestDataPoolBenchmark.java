@@ -0,0 +1,67 @@
+package com.demoqa.benchmarks;
+
+import com.demoqa.utilities.RandomDataGenerator;
+import com.demoqa.utilities.TestDataPool;
+import com.demoqa.utilities.TestPerson;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/* JMH benchmarks of the data a BaseTest constructor needs: one TestPerson from the pre-generated TestDataPool against
+the eight on-demand calls on RandomDataGenerator's shared Faker, on one and on six threads.
+buildPool() measures the one-off cost of building a pool of the default size, paid once per suite. */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TestDataPoolBenchmark {
+
+    private TestDataPool pool;
+
+    @Setup
+    public void buildSharedPool() {
+        pool = TestDataPool.build(42L, 256, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    public TestPerson pooledPerson() {
+        return pool.next();
+    }
+
+    @Benchmark
+    @Threads(6)
+    public TestPerson pooledPersonFromSixThreads() {
+        return pool.next();
+    }
+
+    @Benchmark
+    public void onDemandPerson(Blackhole blackhole) {
+        blackhole.consume(RandomDataGenerator.getRandomEmail());
+        blackhole.consume(RandomDataGenerator.getRandomPassword());
+        blackhole.consume(RandomDataGenerator.getRandomFirstName());
+        blackhole.consume(RandomDataGenerator.getRandomLastName());
+        blackhole.consume(RandomDataGenerator.getRandomFullName());
+        blackhole.consume(RandomDataGenerator.getRandomPhoneNumber());
+        blackhole.consume(RandomDataGenerator.getRandomCellNumber());
+        blackhole.consume(RandomDataGenerator.getRandomAddress());
+    }
+
+    @Benchmark
+    @Threads(6)
+    public void onDemandPersonFromSixThreads(Blackhole blackhole) {
+        onDemandPerson(blackhole);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public TestDataPool buildPool() {
+        return TestDataPool.build(System.nanoTime(), 256, Runtime.getRuntime().availableProcessors());
+    }
+}
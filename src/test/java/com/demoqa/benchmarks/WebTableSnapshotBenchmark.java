@@ -0,0 +1,79 @@
+package com.demoqa.benchmarks;
+
+import com.demoqa.pages.elements.WebTableSnapshot;
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.LoggerUtil;
+import com.demoqa.utilities.WebDriverManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+/* Compares reading the Web Tables grid cell by cell (the previous WebTablesPage implementation) with the single-script
+WebTableSnapshot, on a local copy of the table with 100 rows x 7 columns.
+Run the main method from the IDE, optionally with -Dbenchmark.browser=firefox -Dbenchmark.iterations=10 */
+
+public class WebTableSnapshotBenchmark {
+
+    public static void main(String[] args) {
+        String browserName = ConfigReader.getString("benchmark.browser", "chrome");
+        int iterations = ConfigReader.getInt("benchmark.iterations", 10);
+
+        WebDriver driver = new WebDriverManager().initiateDriver(browserName);
+        try {
+            driver.get(fixtureUrl());
+
+            // Both approaches must see the same data before their timings are compared
+            List<List<String>> perCellRows = readCellByCell(driver);
+            WebTableSnapshot snapshot = WebTableSnapshot.capture((JavascriptExecutor) driver);
+            if (perCellRows.size() != snapshot.getRows().size()) {
+                throw new IllegalStateException("Row count mismatch: " + perCellRows.size() + " vs " + snapshot.getRows().size());
+            }
+
+            long perCellNanos = 0;
+            long snapshotNanos = 0;
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                readCellByCell(driver);
+                perCellNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                WebTableSnapshot.capture((JavascriptExecutor) driver).findByFirstName("Zoran");
+                snapshotNanos += System.nanoTime() - start;
+            }
+
+            LoggerUtil.info(String.format("Grid: %d rows x %d columns", snapshot.getRows().size(), snapshot.getColumnCount()));
+            LoggerUtil.info(String.format("Per-cell getText()  : %9.1f ms / read", perCellNanos / 1e6 / iterations));
+            LoggerUtil.info(String.format("Single-script snapshot: %7.1f ms / read", snapshotNanos / 1e6 / iterations));
+            LoggerUtil.info(String.format("Speed-up            : %9.1fx", (double) perCellNanos / snapshotNanos));
+        } finally {
+            driver.quit();
+            LoggerUtil.flush();
+        }
+    }
+
+    // The previous implementation: one findElements per row and one getText() per cell
+    private static List<List<String>> readCellByCell(WebDriver driver) {
+        List<List<String>> rows = new ArrayList<>();
+        for (WebElement row : driver.findElements(By.xpath("//div[@class='rt-tr-group']"))) {
+            List<String> cells = new ArrayList<>();
+            for (WebElement cell : row.findElements(By.xpath(".//div[@class='rt-td']"))) {
+                cells.add(cell.getText());
+            }
+            rows.add(cells);
+        }
+        return rows;
+    }
+
+    private static String fixtureUrl() {
+        URL fixture = WebTableSnapshotBenchmark.class.getResource("/fixtures/webtables-100-rows.html");
+        if (fixture == null) {
+            throw new IllegalStateException("Fixture /fixtures/webtables-100-rows.html not found on the test classpath");
+        }
+        return fixture.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package com.demoqa.listeners;
+
+import com.demoqa.sharding.DurationStore;
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.LoggerUtil;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* Records how long every test method took into the DurationStore when a suite finishes.
+Registered for all suites through META-INF/services/org.testng.ITestNGListener; -Ddurations.record=false turns it off,
+and so does a durations.record=false suite parameter, set by the browser-free unit-tests.xml.
+Skipped tests are not recorded, they say nothing about how long the method takes, but attempts that were retried by the
+InfrastructureRetryAnalyzer are: their time counts towards the method and the method is recorded as FLAKY if it then passed. */
+
+public class DurationRecorder implements ITestListener, ISuiteListener {
+
+    private static final int NO_COUNTER = -1;
+    private static final int MILLIS = 0;
+    private static final int FAILURES = 1;
+    private static final int RETRIES = 2;
+
+    private final Map<String, long[]> runningTotals = new ConcurrentHashMap<>();   // class#method -> {millis, failures, retries}
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        add(result, NO_COUNTER);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        add(result, FAILURES);
+    }
+
+    @Override
+    public void onTestFailedWithTimeout(ITestResult result) {
+        add(result, FAILURES);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        add(result, NO_COUNTER);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            add(result, RETRIES);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!ConfigReader.getBoolean("durations.record", true) || "false".equalsIgnoreCase(suite.getParameter("durations.record"))) {
+            runningTotals.clear();
+            return;
+        }
+        if (runningTotals.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<DurationStore.Sample> samples = new ArrayList<>();
+        for (String key : new ArrayList<>(runningTotals.keySet())) {
+            long[] totals = runningTotals.remove(key);
+            int separator = key.lastIndexOf('#');
+            DurationStore.Status status = totals[FAILURES] > 0 ? DurationStore.Status.FAIL
+                    : totals[RETRIES] > 0 ? DurationStore.Status.FLAKY : DurationStore.Status.PASS;
+            samples.add(new DurationStore.Sample(now, key.substring(0, separator), key.substring(separator + 1),
+                    totals[MILLIS], status));
+        }
+
+        DurationStore store = DurationStore.fromConfig();
+        try {
+            store.append(samples);
+            store.compactIfLargerThan(ConfigReader.getInt("durations.maxLines", 20_000));
+        } catch (Exception e) {
+            LoggerUtil.warning("Could not record test durations in " + store.getFile() + ": " + e.getMessage());
+        }
+    }
+
+    // Data-driven methods report every invocation; their durations are summed so a sample is the cost of the whole method
+    private void add(ITestResult result, int counter) {
+        String key = DurationStore.key(result.getMethod().getRealClass().getName(), result.getMethod().getMethodName());
+        long millis = Math.max(0, result.getEndMillis() - result.getStartMillis());
+        runningTotals.compute(key, (k, totals) -> {
+            long[] updated = totals == null ? new long[3] : totals;
+            updated[MILLIS] += millis;
+            if (counter >= 0) {
+                updated[counter]++;
+            }
+            return updated;
+        });
+    }
+}
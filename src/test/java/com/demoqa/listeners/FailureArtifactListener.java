@@ -0,0 +1,54 @@
+package com.demoqa.listeners;
+
+import com.demoqa.tests.TestContext;
+import com.demoqa.utilities.FailureArtifacts;
+import com.demoqa.utilities.LoggerUtil;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.time.Duration;
+
+/* Attaches a screenshot, the page source and the browser console log to the Allure result of every failed test method
+(see FailureArtifacts for compression, size caps and deduplication).
+Registered for all suites through META-INF/services/org.testng.ITestNGListener. It runs right after the test method,
+before BaseTest.tearDown hands the session back to the WebDriverPool and the page is reset. Passing tests cost nothing,
+and a failure whose browser is gone (crashed or unreachable) is not captured, so the retry starts without delay. */
+
+public class FailureArtifactListener implements IInvokedMethodListener, ISuiteListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod() || result.getStatus() != ITestResult.FAILURE || !FailureArtifacts.isEnabled()
+                || !TestContext.isActive() || isBrowserGone(result.getThrowable())) {
+            return;
+        }
+        FailureArtifacts.AllureSink.forCurrentTest().ifPresent(sink ->
+                FailureArtifacts.global().capture(TestContext.current().getDriver(), sink));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        FailureArtifacts artifacts = FailureArtifacts.global();
+        if (artifacts.getAttachedCount() == 0 && artifacts.getSkippedCount() == 0) {
+            return;
+        }
+        if (!artifacts.awaitCompletion(Duration.ofSeconds(30))) {
+            LoggerUtil.warning("Some failure artifacts were still being written when the suite finished");
+        }
+        LoggerUtil.info(artifacts.summary());
+    }
+
+    private static boolean isBrowserGone(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof NoSuchSessionException || cause instanceof UnreachableBrowserException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,73 @@
+package com.demoqa.listeners;
+
+import com.demoqa.utilities.ConfigReader;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.net.ConnectException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/* Tells infrastructure failures (timeouts, stale elements, crashed or unreachable browsers) apart from real test failures.
+Only infrastructure failures are retried; an AssertionError is always a real failure, even when it was raised by an
+eventually-assertion that timed out, so broken features fail fast instead of being run again.
+More exception types can be added with -Dretry.infrastructureExceptions=<comma separated class names>. */
+
+public class FailureClassifier {
+
+    private static final List<Class<? extends Throwable>> INFRASTRUCTURE_EXCEPTIONS = List.of(
+            TimeoutException.class,
+            ScriptTimeoutException.class,
+            StaleElementReferenceException.class,
+            NoSuchSessionException.class,
+            SessionNotCreatedException.class,
+            UnreachableBrowserException.class,
+            ConnectException.class);
+
+    // Messages of plain WebDriverExceptions thrown when the browser or the driver process died
+    private static final List<String> CRASH_MESSAGES = List.of(
+            "not reachable", "disconnected", "session deleted", "browser has closed", "target window already closed",
+            "tab crashed", "connection refused");
+
+    private FailureClassifier() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static boolean isInfrastructureFailure(Throwable failure) {
+        Set<String> extraTypes = Arrays.stream(ConfigReader.getString("retry.infrastructureExceptions", "").split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+        // The cause chain is walked because TestNG and page helpers may wrap the original exception
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof AssertionError) {
+                return false;
+            }
+            for (Class<? extends Throwable> type : INFRASTRUCTURE_EXCEPTIONS) {
+                if (type.isInstance(cause)) {
+                    return true;
+                }
+            }
+            if (extraTypes.contains(cause.getClass().getName()) || isCrash(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCrash(Throwable cause) {
+        if (!(cause instanceof WebDriverException) || cause.getMessage() == null) {
+            return false;
+        }
+        String message = cause.getMessage().toLowerCase(Locale.ROOT);
+        return CRASH_MESSAGES.stream().anyMatch(message::contains);
+    }
+}
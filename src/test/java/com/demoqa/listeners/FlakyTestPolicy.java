@@ -0,0 +1,180 @@
+package com.demoqa.listeners;
+
+import com.demoqa.sharding.DurationStore;
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.LoggerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.testng.IAnnotationTransformer;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* Attaches the InfrastructureRetryAnalyzer to every test and quarantines tests that keep needing it.
+A test is quarantined when at least `quarantine.threshold` (default 0.3) of its last runs in the DurationStore were FLAKY,
+i.e. only passed after a retry, and it has at least `quarantine.minRuns` (default 3) recorded runs.
+-Dquarantine.mode decides what happens to those tests:
+  skip  (default) they are reported as SKIPPED with the reason and listed in target/quarantine.txt, so they no longer
+        slow down or break the run but stay visible in the TestNG and Allure results
+  run   they run like every other test
+  only  only the quarantined tests run, e.g. in a nightly job; once they pass without retries again they leave quarantine
+Tests are looked up in the DurationStore by their real class, as DurationRecorder records them, so a test method inherited
+from a base class is quarantined per test class. The quarantine is therefore decided when TestNG hands over the methods
+of a <test> block (IMethodInterceptor), not in transform, which only knows the declaring class, and the quarantined tests
+are skipped when they are invoked (IInvokedMethodListener).
+Registered for all suites through META-INF/services/org.testng.ITestNGListener. */
+
+public class FlakyTestPolicy implements IAnnotationTransformer, IMethodInterceptor, IInvokedMethodListener, ISuiteListener {
+
+    // What TestNG reports for a test without retryAnalyzer: the default of @Test#retryAnalyzer, read without naming its internals
+    private static final Class<?> NO_RETRY_ANALYZER = defaultRetryAnalyzer();
+
+    private final String mode;
+    private final double threshold;
+    private final int minRuns;
+    private final Set<String> quarantined = Collections.synchronizedSet(new LinkedHashSet<>());   // intercept runs per <test> block
+    private final Map<String, String> skipReasons = new ConcurrentHashMap<>();                    // class#method -> reason
+    private volatile DurationStore.History history;
+
+    public FlakyTestPolicy() {
+        this(ConfigReader.getString("quarantine.mode", "skip"), ConfigReader.getDouble("quarantine.threshold", 0.3),
+                ConfigReader.getInt("quarantine.minRuns", 3), null);
+    }
+
+    // A null history is loaded from the DurationStore on first use
+    public FlakyTestPolicy(@NotNull String mode, double threshold, int minRuns, DurationStore.History history) {
+        this.mode = mode.toLowerCase();
+        this.threshold = threshold;
+        this.minRuns = minRuns;
+        this.history = history;
+    }
+
+    @Override
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (annotation.getRetryAnalyzerClass() == null || annotation.getRetryAnalyzerClass() == NO_RETRY_ANALYZER) {
+            annotation.setRetryAnalyzer(InfrastructureRetryAnalyzer.class);
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if ("run".equals(mode)) {
+            return methods;
+        }
+        List<IMethodInstance> kept = new ArrayList<>(methods.size());
+        int quarantinedInBlock = 0;
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            String className = method.getRealClass().getName();
+            String methodName = method.getMethodName();
+            boolean isQuarantined = isQuarantined(history(), className, methodName, threshold, minRuns);
+            if (isQuarantined) {
+                quarantinedInBlock++;
+                String reason = String.format("flaky in %.0f%% of the last %d runs",
+                        history().flakeRate(className, methodName) * 100, history().runs(className, methodName));
+                quarantined.add(className + "." + methodName + " (" + reason + ")");
+                skipReasons.put(DurationStore.key(className, methodName), "quarantined: " + reason);
+            }
+            // Skipped tests stay in the list so that they are reported, beforeInvocation skips them
+            if (!"only".equals(mode) || isQuarantined) {
+                kept.add(instance);
+            }
+        }
+        if (quarantinedInBlock > 0) {
+            LoggerUtil.warning(("only".equals(mode) ? "Running only " : "Skipping ") + quarantinedInBlock
+                    + " quarantined tests of " + context.getName() + ", see " + reportFile());
+            writeReport();
+        }
+        return kept;
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!"skip".equals(mode) || !method.isTestMethod()) {
+            return;
+        }
+        ITestNGMethod testMethod = method.getTestMethod();
+        String reason = skipReasons.get(DurationStore.key(testMethod.getRealClass().getName(), testMethod.getMethodName()));
+        if (reason != null) {
+            throw new SkipException(reason);
+        }
+    }
+
+    public static boolean isQuarantined(@NotNull DurationStore.History history, String className, String methodName,
+                                        double threshold, int minRuns) {
+        return history.runs(className, methodName) >= minRuns && history.flakeRate(className, methodName) >= threshold;
+    }
+
+    public List<String> getQuarantined() {
+        synchronized (quarantined) {
+            return new ArrayList<>(quarantined);
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        InfrastructureRetryAnalyzer.resetBudget(ConfigReader.getInt("retry.suiteBudget", 5));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (InfrastructureRetryAnalyzer.getRetriesUsed() > 0) {
+            LoggerUtil.info(suite.getName() + " retried " + InfrastructureRetryAnalyzer.getRetriesUsed()
+                    + " tests after infrastructure failures");
+        }
+    }
+
+    private static Class<?> defaultRetryAnalyzer() {
+        try {
+            return (Class<?>) Test.class.getMethod("retryAnalyzer").getDefaultValue();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private DurationStore.History history() {
+        if (history == null) {
+            history = DurationStore.fromConfig().load();
+        }
+        return history;
+    }
+
+    // <test> blocks of a parallel suite are intercepted at the same time; the report lists all of them
+    private synchronized void writeReport() {
+        try {
+            Path file = reportFile();
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, getQuarantined(), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            LoggerUtil.warning("Could not write the quarantine report: " + e.getMessage());
+        }
+    }
+
+    private static Path reportFile() {
+        return Paths.get(ConfigReader.getString("quarantine.report", "target/quarantine.txt"));
+    }
+}
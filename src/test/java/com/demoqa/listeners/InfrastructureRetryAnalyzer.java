@@ -0,0 +1,74 @@
+package com.demoqa.listeners;
+
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.LoggerUtil;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* Retries a failed test only when the FailureClassifier calls it an infrastructure failure.
+ - Each test (each data provider row) is retried at most `retry.maxPerTest` times (default 1).
+ - All tests of a suite share `retry.suiteBudget` retries (default 5), so a broken grid or site cannot double the run time.
+ - BaseTest.tearDown throws away the session of an infrastructure failure, so the retry starts on a fresh pooled browser.
+Attached to every @Test without its own retryAnalyzer by the FlakyTestPolicy. */
+
+public class InfrastructureRetryAnalyzer implements IRetryAnalyzer {
+
+    private static final AtomicInteger suiteBudget = new AtomicInteger(ConfigReader.getInt("retry.suiteBudget", 5));
+    private static final AtomicInteger retriesUsed = new AtomicInteger();
+    private static final AtomicBoolean budgetExhaustedLogged = new AtomicBoolean();
+
+    private final int maxPerTest = ConfigReader.getInt("retry.maxPerTest", 1);
+    private int attempts;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        if (attempts >= maxPerTest || !FailureClassifier.isInfrastructureFailure(result.getThrowable())) {
+            return false;
+        }
+        if (!tryConsumeBudget()) {
+            if (budgetExhaustedLogged.compareAndSet(false, true)) {
+                LoggerUtil.warning("Retry budget of the suite is used up, further infrastructure failures are not retried");
+            }
+            return false;
+        }
+        attempts++;
+        LoggerUtil.warning("Retrying " + result.getMethod().getQualifiedName() + " (attempt " + (attempts + 1)
+                + ") after " + result.getThrowable().getClass().getSimpleName() + ": " + firstLine(result.getThrowable().getMessage()));
+        return true;
+    }
+
+    // Called when a suite starts, so every suite of a run gets its own budget
+    public static void resetBudget(int budget) {
+        suiteBudget.set(budget);
+        retriesUsed.set(0);
+        budgetExhaustedLogged.set(false);
+    }
+
+    public static int getRetriesUsed() {
+        return retriesUsed.get();
+    }
+
+    private static boolean tryConsumeBudget() {
+        while (true) {
+            int left = suiteBudget.get();
+            if (left <= 0) {
+                return false;
+            }
+            if (suiteBudget.compareAndSet(left, left - 1)) {
+                retriesUsed.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
@@ -0,0 +1,99 @@
+package com.demoqa.listeners;
+
+import com.demoqa.sharding.DurationStore;
+import com.demoqa.utilities.LoggerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/* Hands the methods of a <test> block to the TestNG thread pool longest first, using the averages of the DurationStore.
+With parallel="methods" a slow method that starts last keeps the whole run waiting while the other threads are idle;
+started first, it overlaps with the short ones. Methods without history are estimated with the average of their class,
+or the median of the known methods being ordered, so a new test is neither always first nor always last. The median is
+taken over the block, not the whole store, which also holds many millisecond-long unit tests.
+Registered in parallel-tests.xml; the order it returns wins over @Test(priority) within the block. */
+
+public class LongestFirstInterceptor implements IMethodInterceptor {
+
+    private static volatile DurationStore.History history;
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        DurationStore.History loaded = history();
+        if (loaded.isEmpty()) {
+            LoggerUtil.info("No test duration history yet, keeping the default order for " + context.getName());
+            return methods;
+        }
+        List<IMethodInstance> ordered = order(methods, loaded);
+        LoggerUtil.info("Ordered " + ordered.size() + " methods of " + context.getName() + " longest first, starting with "
+                + describe(ordered.get(0).getMethod()));
+        return ordered;
+    }
+
+    // Stable sort by estimated duration, descending
+    public static List<IMethodInstance> order(@NotNull List<IMethodInstance> methods, @NotNull DurationStore.History history) {
+        if (methods.isEmpty()) {
+            return methods;
+        }
+        Map<String, long[]> knownByClass = new HashMap<>();   // class -> {sum of known method averages, known methods}
+        Map<IMethodInstance, OptionalLong> measured = new IdentityHashMap<>();
+        List<Long> knownMillis = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            OptionalLong millis = history.methodMillis(method.getRealClass().getName(), method.getMethodName());
+            measured.put(instance, millis);
+            if (millis.isPresent()) {
+                knownMillis.add(millis.getAsLong());
+                long[] known = knownByClass.computeIfAbsent(method.getRealClass().getName(), k -> new long[2]);
+                known[0] += millis.getAsLong();
+                known[1]++;
+            }
+        }
+        long fallback = median(knownMillis);
+
+        Map<IMethodInstance, Long> estimates = new IdentityHashMap<>();
+        for (IMethodInstance instance : methods) {
+            OptionalLong millis = measured.get(instance);
+            long[] known = knownByClass.get(instance.getMethod().getRealClass().getName());
+            estimates.put(instance, millis.isPresent() ? millis.getAsLong() : known != null ? known[0] / known[1] : fallback);
+        }
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparing(estimates::get, Comparator.reverseOrder()));
+        return ordered;
+    }
+
+    private static long median(List<Long> millis) {
+        if (millis.isEmpty()) {
+            return 0;
+        }
+        millis.sort(null);
+        int middle = millis.size() / 2;
+        return millis.size() % 2 == 1 ? millis.get(middle) : (millis.get(middle - 1) + millis.get(middle)) / 2;
+    }
+
+    // Loaded once per JVM; every <test> block of the suite is ordered from the same history
+    private static DurationStore.History history() {
+        if (history == null) {
+            synchronized (LongestFirstInterceptor.class) {
+                if (history == null) {
+                    history = DurationStore.fromConfig().load();
+                }
+            }
+        }
+        return history;
+    }
+
+    private static String describe(ITestNGMethod method) {
+        return method.getRealClass().getSimpleName() + "." + method.getMethodName();
+    }
+}
@@ -0,0 +1,39 @@
+package com.demoqa.listeners;
+
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.LocalGridServer;
+import com.demoqa.utilities.LocalMirrorServer;
+import com.demoqa.utilities.SiteUrls;
+import com.demoqa.utilities.WebDriverManager;
+import com.demoqa.utilities.WebDriverPool;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/* Starts what the browser sessions of a suite run against and shuts it down when the suite finishes:
+ - mirror.enabled=true  every test runs against the embedded LocalMirrorServer instead of the public site
+ - grid.local=true      every session runs on a Selenium server started on this machine (LocalGridServer)
+After the suite the idle pooled sessions are quit before the grid they may run on is stopped.
+Registered for all suites through META-INF/services/org.testng.ITestNGListener; onStart runs before the @BeforeSuite
+methods and onFinish after the @AfterSuite methods. */
+
+public class SuiteEnvironmentListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (ConfigReader.getBoolean("mirror.enabled", false)) {
+            SiteUrls.useBaseUrl(LocalMirrorServer.startShared().getBaseUrl());
+        }
+        if (ConfigReader.getBoolean("grid.local", false)) {
+            WebDriverManager.useGrid(LocalGridServer.startShared().getUrl());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        WebDriverPool.getInstance().shutdown();
+        LocalGridServer.stopShared();
+        WebDriverManager.useGrid(null);
+        LocalMirrorServer.stopShared();
+        SiteUrls.reset();
+    }
+}
@@ -0,0 +1,37 @@
+package com.demoqa.listeners;
+
+import com.demoqa.utilities.BlockedRequestMetrics;
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.GridSessionThrottle;
+import com.demoqa.utilities.LoggerUtil;
+import com.demoqa.utilities.NavigationCache;
+import com.demoqa.utilities.StepMetrics;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.nio.file.Paths;
+
+/* Logs the suite summaries of blocked requests, navigation shortcuts and grid queueing, and writes the step timings
+(StepMetrics) to -Dmetrics.stepReport (target/step-metrics.json) when a suite finishes. Nothing is logged or written
+for what the suite did not use.
+Registered for all suites through META-INF/services/org.testng.ITestNGListener. */
+
+public class SuiteMetricsListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        BlockedRequestMetrics.global().reportQuietly();
+        NavigationCache navigationCache = NavigationCache.global();
+        if (navigationCache.getRecordedCount() > 0) {
+            LoggerUtil.info(navigationCache.summary());
+        }
+        String gridSummaries = GridSessionThrottle.summaries();
+        if (!gridSummaries.isEmpty()) {
+            LoggerUtil.info(gridSummaries);
+        }
+        if (!StepMetrics.global().snapshot().isEmpty()) {
+            StepMetrics.global().writeReportQuietly(
+                    Paths.get(ConfigReader.getString("metrics.stepReport", "target/step-metrics.json")), 10);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.demoqa.listeners;
+
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.TraceRecorder;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.nio.file.Paths;
+
+/* Records every test and configuration method on the execution timeline (TraceRecorder) and writes the timeline of each
+suite to -Dtrace.dir (target/traces)/<suite name>.json when it finishes, after its @AfterSuite methods.
+Registered for all suites through META-INF/services/org.testng.ITestNGListener; -Dtrace.enabled=false turns it off. */
+
+public class TraceListener implements IInvokedMethodListener, ISuiteListener {
+
+    // TestNG calls before- and afterInvocation of a method on the thread that runs it
+    private final ThreadLocal<Long> methodStart = new ThreadLocal<>();
+
+    @Override
+    public void onStart(ISuite suite) {
+        TraceRecorder.global().reset();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        if (TraceRecorder.global().isEnabled()) {
+            methodStart.set(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        Long start = methodStart.get();
+        if (start == null) {
+            return;
+        }
+        methodStart.remove();
+        String name = result.getMethod().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        TraceRecorder.global().complete(method.isTestMethod() ? "test" : "config", name, start, outcome(result));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        TraceRecorder recorder = TraceRecorder.global();
+        if (!recorder.isEnabled() || recorder.getSpanCount() == 0) {
+            return;
+        }
+        String fileName = suite.getName().replaceAll("[^A-Za-z0-9._-]+", "_") + ".json";
+        recorder.writeQuietly(Paths.get(ConfigReader.getString("trace.dir", "target/traces"), fileName), suite.getName());
+    }
+
+    private static String outcome(ITestResult result) {
+        if (result.getStatus() == ITestResult.SUCCESS) {
+            // Also when an expected exception was thrown
+            return "passed";
+        }
+        String status = result.getStatus() == ITestResult.SKIP ? "skipped" : "failed";
+        Throwable failure = result.getThrowable();
+        return failure == null ? status : status + ": " + failure.getClass().getSimpleName();
+    }
+}
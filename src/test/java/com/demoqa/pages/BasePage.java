@@ -1,6 +1,13 @@
 package com.demoqa.pages;
 
+import com.demoqa.utilities.FillMode;
 import com.demoqa.utilities.LoggerUtil;
+import com.demoqa.utilities.PendingRequestTracker;
+import com.demoqa.utilities.SiteUrls;
+import com.demoqa.utilities.StepMetrics;
+import com.demoqa.utilities.TraceRecorder;
+import com.demoqa.utilities.WaitStrategy;
+import com.demoqa.utilities.WebDriverManager;
 import org.jetbrains.annotations.NotNull;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
@@ -9,6 +16,14 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
 /* The BasePage class is made abstract to emphasize its role as a template for deriving other page classes, promoting inheritance.
 This approach enhances code reusability and encourages the creation of specialized page classes through extension,
 eliminating the necessity of declaring and initializing a BasePage within the BaseTest class.*/
@@ -19,29 +34,74 @@ public abstract class BasePage {
     protected WebDriver driver;
     protected WebDriverWait wait;
     protected Actions actions;
+    // Element waits before every interaction (fast-path by default, see WaitStrategy)
+    protected WaitStrategy waitStrategy;
+    // How fillFields populates forms (typed keystrokes by default, see FillMode)
+    protected FillMode fillMode = FillMode.configured();
+    // What driver.get waits for before it returns; anything beyond that is waited for through readiness()
+    protected PageLoadStrategy pageLoadStrategy = WebDriverManager.pageLoadStrategy();
+    // Name under which this page's interactions are timed in StepMetrics
+    private final String pageName = getClass().getSimpleName();
 
     public BasePage(WebDriver driver, WebDriverWait wait) {
         this.driver = driver;
         this.wait = wait;
         this.actions = new Actions(driver);
+        this.waitStrategy = WaitStrategy.configured(wait);
         PageFactory.initElements(driver, this);
     }
 
 
-    // Helper method for waiting until an element is visible
-    protected void waitUntilElementIsVisible(WebElement webElement) {
+    // Times an interaction into StepMetrics as <page class>#<operation>, counting timeouts and stale elements in the
+    // innermost step they occur in, and records it on the execution timeline (TraceRecorder), operations named wait... as waits
+    protected <T> T step(String operation, Supplier<T> interaction) {
+        long start = System.nanoTime();
+        StepMetrics.OpenStep metricsStep = StepMetrics.global().open(pageName, operation);
+        String failure = null;
         try {
-            wait.until(ExpectedConditions.refreshed(ExpectedConditions.visibilityOf(webElement)));
+            return interaction.get();
+        } catch (TimeoutException e) {
+            metricsStep.failed(e);
+            failure = "timeout";
+            throw e;
         } catch (StaleElementReferenceException e) {
-            LoggerUtil.warning("Stale element reference encountered. Refreshing and retrying...");
-            wait.until(ExpectedConditions.refreshed(ExpectedConditions.visibilityOf(webElement)));
+            metricsStep.failed(e);
+            failure = "stale element";
+            throw e;
+        } catch (RuntimeException | Error e) {
+            failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            metricsStep.close();
+            TraceRecorder trace = TraceRecorder.global();
+            if (trace.isEnabled()) {
+                trace.complete(operation.startsWith("wait") ? "wait" : "page", pageName + '#' + operation, start, failure);
+            }
         }
     }
 
+    protected void step(String operation, Runnable interaction) {
+        step(operation, () -> {
+            interaction.run();
+            return null;
+        });
+    }
+
+
+    // Helper method for waiting until an element is visible
+    protected void waitUntilElementIsVisible(WebElement webElement) {
+        step("waitUntilElementIsVisible", () -> waitStrategy.untilVisible(webElement));
+    }
+
 
     // region 1.    Basic Browser Operations (Get Methods and Navigation)
     public void getUrl(String url) {
-        driver.get(url);
+        step("getUrl", () -> navigate("driver.get", () -> driver.get(url)));
+    }
+
+    // Opens a page of the site under test by its path, e.g. openPage("text-box"); the host comes from SiteUrls
+    public void openPage(String path) {
+        step("openPage", () -> navigate("driver.get", () -> driver.get(SiteUrls.of(path))));
     }
 
     // Retrieves and returns the title of the current web page.
@@ -56,101 +116,267 @@ public abstract class BasePage {
     // -----------------------------------------------------------------------------------------------------------------
 
     public void navigateToPage(String url) {
-        driver.navigate().to(url);
+        step("navigateToPage", () -> navigate("driver.navigate().to", () -> driver.navigate().to(url)));
     }
 
     // @formatter:off
             // Refreshes the current page. This method navigates back to the same page, effectively reloading it.
             public void refreshPage() {
-                driver.navigate().refresh();
+                step("refreshPage", () -> navigate("driver.navigate().refresh", () -> driver.navigate().refresh()));
             }
 
             // Navigates back to the previous page in the browser's history.
 
             public void navigateBack() {
-                driver.navigate().back();
+                step("navigateBack", () -> navigate("driver.navigate().back", () -> driver.navigate().back()));
             }
 
             // Navigates forward to the next page in the browser's history.
             public void navigateForward() {
-                driver.navigate().forward();
+                step("navigateForward", () -> navigate("driver.navigate().forward", () -> driver.navigate().forward()));
             }
             // @formatter:on
     // endregion
 
 
+    // region 1a.   Page readiness (what a navigation waits for beyond the page-load strategy, see PageReadiness)
+    // Returns null once the document state, key elements and pending request count match arguments[0..2] (and the
+    // document is not the one marked with arguments[3]), otherwise what is still missing; it also installs the request
+    // counter when the browser could not register it up front
+    private static final String READINESS_SCRIPT =
+            "var pending = [];" +
+            "if (arguments[3] && window.__navigationMarker === arguments[3]) { return 'navigation to start'; }" +
+            "var state = document.readyState;" +
+            "if (state === 'loading' || (arguments[0] === 'complete' && state !== 'complete')) { pending.push('readyState ' + state); }" +
+            "for (var i = 0; i < arguments[1].length; i++) {" +
+            "    if (!document.querySelector(arguments[1][i])) { pending.push(arguments[1][i]); }" +
+            "}" +
+            "if (arguments[2]) {" +
+            "    " + PendingRequestTracker.INSTALL_SCRIPT +
+            "    if (window.__pendingRequests > 0) { pending.push(window.__pendingRequests + ' pending requests'); }" +
+            "}" +
+            "return pending.length > 0 ? pending.join(', ') : null;";
+
+    // With the none strategy driver.get may return while the previous document is still shown, so that document is marked
+    // first. Every navigation uses a new marker: a document restored from the back/forward cache keeps an older one.
+    private static final String MARK_DOCUMENT_SCRIPT = "window.__navigationMarker = arguments[0];";
+    private static final AtomicLong NAVIGATION_MARKERS = new AtomicLong();
+
+    // The signals this page is ready on; pages override it with the elements their methods need
+    protected PageReadiness readiness() {
+        return PageReadiness.documentInteractive();
+    }
+
+    public void waitUntilReady() {
+        waitUntilReady(readiness());
+    }
+
+    // One script call per poll, checking all signals together
+    public void waitUntilReady(@NotNull PageReadiness readiness) {
+        waitUntilReady(readiness, null);
+    }
+
+    private void waitUntilReady(PageReadiness readiness, String previousDocumentMarker) {
+        String state = readiness.getDocumentState().name().toLowerCase(Locale.ROOT);
+        String[] missing = {null};
+        step("waitUntilReady", () -> {
+            try {
+                wait.until(d -> {
+                    missing[0] = (String) ((JavascriptExecutor) d).executeScript(READINESS_SCRIPT,
+                            state, readiness.getKeyElements(), readiness.requiresNoPendingRequests(), previousDocumentMarker);
+                    return missing[0] == null;
+                });
+            } catch (TimeoutException e) {
+                throw new TimeoutException("Page not ready (" + readiness + "), still waiting for: " + missing[0], e);
+            }
+        });
+    }
+
+    // Runs a navigation, traced as a driver span named after the WebDriver call, and waits for the page's readiness
+    // signals that the page-load strategy did not already cover
+    private void navigate(String driverCall, Runnable navigation) {
+        PageReadiness readiness = readiness();
+        String marker = null;
+        if (pageLoadStrategy == PageLoadStrategy.NONE) {
+            marker = "navigation-" + NAVIGATION_MARKERS.incrementAndGet();
+            ((JavascriptExecutor) driver).executeScript(MARK_DOCUMENT_SCRIPT, marker);
+        }
+        TraceRecorder.global().span("driver", driverCall, navigation);
+        if (marker != null || !readiness.isDocumentInteractiveOnly()) {
+            waitUntilReady(readiness, marker);
+        }
+    }
+    // endregion
+
+
     // region 2.    Basic Elements Operations (click, submit, clear, sendKeys, getText)
     public void clickElement(WebElement webElement) {
-        try {
-            waitUntilElementIsVisible(webElement);
-            webElement.click();
-        } catch (TimeoutException e) {
-            throw new TimeoutException(e);
-        }
+        step("clickElement", () -> {
+            try {
+                waitUntilElementIsVisible(webElement);
+                webElement.click();
+            } catch (TimeoutException e) {
+                throw new TimeoutException(e);
+            }
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public void submitForm(WebElement webElement) {
-        waitUntilElementIsVisible(webElement);
-        webElement.submit();
+        step("submitForm", () -> {
+            waitUntilElementIsVisible(webElement);
+            webElement.submit();
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public void clearElement(WebElement webElement) {
-        waitUntilElementIsVisible(webElement);
-        webElement.clear();
+        step("clearElement", () -> {
+            waitUntilElementIsVisible(webElement);
+            webElement.clear();
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public void sendKeysToElement(WebElement webElement, String text) {
-        waitUntilElementIsVisible(webElement);
-        webElement.sendKeys(text);
+        step("sendKeysToElement", () -> {
+            waitUntilElementIsVisible(webElement);
+            webElement.sendKeys(text);
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public String getTextFromElement(WebElement webElement) {
-        waitUntilElementIsVisible(webElement);
-        return webElement.getText();
+        return step("getTextFromElement", () -> {
+            waitUntilElementIsVisible(webElement);
+            return webElement.getText();
+        });
+    }
+    // endregion
+
+
+    // region 2a.   Form filling (CSS selector -> value, in form order; null values leave the field untouched)
+    // Sets every field only when all of them are rendered and visible, otherwise returns the missing selectors.
+    // React keeps its own copy of an input's value, so the value goes through the prototype setter (which React
+    // watches) and the input/change events make the component's onChange update its state.
+    private static final String FAST_FILL_SCRIPT =
+            "var fields = arguments[0];" +
+            "var elements = [];" +
+            "var missing = [];" +
+            "for (var i = 0; i < fields.length; i++) {" +
+            "    var element = document.querySelector(fields[i][0]);" +
+            "    if (element && element.getClientRects().length > 0) { elements.push(element); } else { missing.push(fields[i][0]); }" +
+            "}" +
+            "if (missing.length > 0) { return missing; }" +
+            "for (var j = 0; j < elements.length; j++) {" +
+            "    var field = elements[j];" +
+            "    var prototype = field instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype" +
+            "            : field instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;" +
+            "    Object.getOwnPropertyDescriptor(prototype, 'value').set.call(field, fields[j][1]);" +
+            "    field.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "    field.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "}" +
+            "return missing;";
+
+    public void setFillMode(@NotNull FillMode fillMode) {
+        this.fillMode = fillMode;
+    }
+
+    public void fillFields(@NotNull Map<String, String> valuesBySelector) {
+        fillFields(valuesBySelector, fillMode);
+    }
+
+    public void fillFields(@NotNull Map<String, String> valuesBySelector, @NotNull FillMode mode) {
+        if (mode == FillMode.FAST) {
+            fastFillFields(valuesBySelector);
+        } else {
+            typeIntoFields(valuesBySelector);
+        }
+    }
+
+    // Real keystrokes: one presence wait, visibility wait and sendKeys per field
+    public void typeIntoFields(@NotNull Map<String, String> valuesBySelector) {
+        valuesBySelector.forEach((selector, value) -> {
+            if (value != null) {
+                sendKeysToElement(wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(selector))), value);
+            }
+        });
+    }
+
+    // One executeScript call for the whole form once it is visible; polled like an element wait while it is not
+    public void fastFillFields(@NotNull Map<String, String> valuesBySelector) {
+        List<List<String>> fields = new ArrayList<>();
+        valuesBySelector.forEach((selector, value) -> {
+            if (value != null) {
+                fields.add(Arrays.asList(selector, value));
+            }
+        });
+        if (fields.isEmpty()) {
+            return;
+        }
+        step("fastFillFields", () -> {
+            List<?>[] missing = {null};
+            try {
+                wait.until(d -> {
+                    missing[0] = (List<?>) ((JavascriptExecutor) d).executeScript(FAST_FILL_SCRIPT, fields);
+                    return missing[0] == null || missing[0].isEmpty();
+                });
+            } catch (TimeoutException e) {
+                throw new TimeoutException("Form fields not visible: " + missing[0], e);
+            }
+        });
     }
     // endregion
 
 
     // region 3.    Actions (doubleClick, rightClick, mouseHover, clickAndHold,dragAndDrop)
     public void doubleClick(WebElement webElement) {
-        waitUntilElementIsVisible(webElement);
-        actions.doubleClick(webElement).perform(); // Double-click the element
+        step("doubleClick", () -> {
+            waitUntilElementIsVisible(webElement);
+            actions.doubleClick(webElement).perform(); // Double-click the element
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public void rightClick(WebElement webElement) {
-        waitUntilElementIsVisible(webElement);
-        actions.contextClick(webElement).perform();  // Right-clicks the element (context menu)
+        step("rightClick", () -> {
+            waitUntilElementIsVisible(webElement);
+            actions.contextClick(webElement).perform();  // Right-clicks the element (context menu)
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public void mouseHover(WebElement webElement) {
-        waitUntilElementIsVisible(webElement);
-        actions.moveToElement(webElement).perform(); // Hovers the mouse over the element
+        step("mouseHover", () -> {
+            waitUntilElementIsVisible(webElement);
+            actions.moveToElement(webElement).perform(); // Hovers the mouse over the element
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public void clickAndHold(WebElement webElement) {
-        waitUntilElementIsVisible(webElement);
-        actions.clickAndHold(webElement).perform();
+        step("clickAndHold", () -> {
+            waitUntilElementIsVisible(webElement);
+            actions.clickAndHold(webElement).perform();
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public void dragAndDrop(WebElement sourceElement, WebElement targetElement) {
-        WebElement source = wait.until(ExpectedConditions.visibilityOf(sourceElement));
-        WebElement target = wait.until(ExpectedConditions.visibilityOf(targetElement));
-        actions.dragAndDrop(source, target).perform();
+        step("dragAndDrop", () -> {
+            WebElement source = waitStrategy.untilVisible(sourceElement);
+            WebElement target = waitStrategy.untilVisible(targetElement);
+            actions.dragAndDrop(source, target).perform();
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public void keyPress(WebElement webElement, Keys key, String text) {
-        waitUntilElementIsVisible(webElement);
-        actions.keyDown(key).sendKeys(text).keyUp(key).perform();
-        // Holds down the Control key, types 'a', and releases the Control key (select all)
+        step("keyPress", () -> {
+            waitUntilElementIsVisible(webElement);
+            actions.keyDown(key).sendKeys(text).keyUp(key).perform();
+            // Holds down the Control key, types 'a', and releases the Control key (select all)
+        });
     }
     // endregion
 
@@ -158,85 +384,99 @@ public abstract class BasePage {
     // region 4.    Element validation: (isEnabled, isDisplayed, isSelected, isClickable, isChecked, isTextPresentInElement)
 
     public boolean isElementEnabled(@NotNull WebElement webElement) {
-        waitUntilElementIsVisible(webElement);
-        return webElement.isEnabled();
+        return step("isElementEnabled", () -> {
+            waitUntilElementIsVisible(webElement);
+            return webElement.isEnabled();
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public boolean isElementDisplayed(@NotNull WebElement webElement) {
-        waitUntilElementIsVisible(webElement);
-        return webElement.isDisplayed();
+        return step("isElementDisplayed", () -> {
+            waitUntilElementIsVisible(webElement);
+            return webElement.isDisplayed();
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public boolean isElementChecked(@NotNull WebElement webElement) {
-        waitUntilElementIsVisible(webElement);
-        return webElement.isSelected();
+        return step("isElementChecked", () -> {
+            waitUntilElementIsVisible(webElement);
+            return webElement.isSelected();
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public boolean isElementClickable(@NotNull WebElement webElement) {
-        try {
-            wait.until(ExpectedConditions.elementToBeClickable(webElement));
-            return true; // The element is clickable
-        } catch (org.openqa.selenium.TimeoutException e) {
-            return false; // The element is not clickable
-        }
+        return step("isElementClickable", () -> {
+            try {
+                waitStrategy.untilClickable(webElement);
+                return true; // The element is clickable
+            } catch (org.openqa.selenium.TimeoutException e) {
+                return false; // The element is not clickable
+            }
+        });
     }
 
     // -----------------------------------------------------------------------------------------------------------------
 
     public boolean isCurrentPageUrlEqualTo(String expectedUrl) {
-        try {
-            // Get the actual URL
-            wait.until(ExpectedConditions.urlToBe(expectedUrl));
-            String actualUrl = driver.getCurrentUrl();
-
-            // Compare the actual URL with the expected URL
-            boolean isOnExpectedPage = actualUrl.equals(expectedUrl);
-
-            if (!isOnExpectedPage) {
-                // Log the expected and actual URLs if the test fails
-                System.out.println("Test failed. Expected URL: " + expectedUrl);
-                System.out.println("Actual URL: " + actualUrl);
+        return step("isCurrentPageUrlEqualTo", () -> {
+            try {
+                // Get the actual URL
+                wait.until(ExpectedConditions.urlToBe(expectedUrl));
+                String actualUrl = driver.getCurrentUrl();
+
+                // Compare the actual URL with the expected URL
+                boolean isOnExpectedPage = actualUrl.equals(expectedUrl);
+
+                if (!isOnExpectedPage) {
+                    // Log the expected and actual URLs if the test fails
+                    System.out.println("Test failed. Expected URL: " + expectedUrl);
+                    System.out.println("Actual URL: " + actualUrl);
+                }
+
+                return isOnExpectedPage;
+            } catch (TimeoutException e) {
+                // Handle the exception if the URL doesn't match the expected URL within the specified timeout
+                System.out.println("Test failed. URL did not match the expected URL: " + expectedUrl);
+                return false;
             }
-
-            return isOnExpectedPage;
-        } catch (TimeoutException e) {
-            // Handle the exception if the URL doesn't match the expected URL within the specified timeout
-            System.out.println("Test failed. URL did not match the expected URL: " + expectedUrl);
-            return false;
-        }
+        });
     }
 
     // -----------------------------------------------------------------------------------------------------------------
 
     public boolean isTextPresentInElement(WebElement webElement, String text) {
-        waitUntilElementIsVisible(webElement);
-        String elementText = webElement.getText();
-        return elementText.contains(text);
+        return step("isTextPresentInElement", () -> {
+            waitUntilElementIsVisible(webElement);
+            String elementText = webElement.getText();
+            return elementText.contains(text);
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
     public boolean isOptionPresentInDropdown(WebElement dropdownElement, String optionText) {
-        // Wait for the dropdown element to be visible
-        WebElement selectFromDropDown = wait.until(ExpectedConditions.visibilityOf(dropdownElement));
-
-        // Create a Select object
-        Select select = new Select(selectFromDropDown);
-
-        // Initialize a flag to track if the option is present
-        boolean isOptionPresent = false;
-
-        // Loop through the options and check if "North Macedonia" is listed
-        for (WebElement option : select.getOptions()) {
-            if (option.getText().equals(optionText)) {
-                isOptionPresent = true;
-                break;
+        return step("isOptionPresentInDropdown", () -> {
+            // Wait for the dropdown element to be visible
+            WebElement selectFromDropDown = waitStrategy.untilVisible(dropdownElement);
+
+            // Create a Select object
+            Select select = new Select(selectFromDropDown);
+
+            // Initialize a flag to track if the option is present
+            boolean isOptionPresent = false;
+
+            // Loop through the options and check if "North Macedonia" is listed
+            for (WebElement option : select.getOptions()) {
+                if (option.getText().equals(optionText)) {
+                    isOptionPresent = true;
+                    break;
+                }
             }
-        }
-        // Return the result
-        return isOptionPresent;
+            // Return the result
+            return isOptionPresent;
+        });
     }
     // -----------------------------------------------------------------------------------------------------------------
 
@@ -250,56 +490,62 @@ public abstract class BasePage {
     // region 5.    Dropdown Handling (selectByIndex/ByVisibleText/ByValue, deselectAllI/ByIndex/ByVisibleText/ByValue)
     // Selects the specified option by its Text from the given dropdown, handling potential exceptions and providing detailed error reporting.
     public void selectOptionByVisibleText(WebElement dropdown, String text) {
-        try {
-            Select select = new Select(dropdown);
-            select.selectByVisibleText(text);
-        } catch (NoSuchElementException e) {
-            // Log the exception message for better error reporting
-            LoggerUtil.error("Element not found in the dropdown: " + e.getMessage(), e);
-            // Rethrow a more specific exception to indicate the nature of the issue
-            throw new RuntimeException("Failed to select option by value: " + text, e);
-        } catch (Exception e) {
-            // Log the exception message for better error reporting
-            LoggerUtil.error("An unexpected error occurred: " + e.getMessage(), e);
-            // Rethrow the original exception
-            throw new RuntimeException(e);
-        }
+        step("selectOptionByVisibleText", () -> {
+            try {
+                Select select = new Select(dropdown);
+                select.selectByVisibleText(text);
+            } catch (NoSuchElementException e) {
+                // Log the exception message for better error reporting
+                LoggerUtil.error("Element not found in the dropdown: " + e.getMessage(), e);
+                // Rethrow a more specific exception to indicate the nature of the issue
+                throw new RuntimeException("Failed to select option by value: " + text, e);
+            } catch (Exception e) {
+                // Log the exception message for better error reporting
+                LoggerUtil.error("An unexpected error occurred: " + e.getMessage(), e);
+                // Rethrow the original exception
+                throw new RuntimeException(e);
+            }
+        });
     }
 
     // Selects the specified option by its value from the given dropdown, handling potential exceptions and providing detailed error reporting.
     public void selectOptionByValue(WebElement dropdown, String value) {
-        try {
-            Select select = new Select(dropdown);
-            select.selectByValue(value);
-        } catch (NoSuchElementException e) {
-            // Log the exception message for better error reporting
-            LoggerUtil.error("Element not found in the dropdown: " + e.getMessage(), e);
-            // Rethrow a more specific exception to indicate the nature of the issue
-            throw new RuntimeException("Failed to select option by value: " + value, e);
-        } catch (Exception e) {
-            // Log the exception message for better error reporting
-            LoggerUtil.error("An unexpected error occurred: " + e.getMessage(), e);
-            // Rethrow the original exception
-            throw new RuntimeException(e);
-        }
+        step("selectOptionByValue", () -> {
+            try {
+                Select select = new Select(dropdown);
+                select.selectByValue(value);
+            } catch (NoSuchElementException e) {
+                // Log the exception message for better error reporting
+                LoggerUtil.error("Element not found in the dropdown: " + e.getMessage(), e);
+                // Rethrow a more specific exception to indicate the nature of the issue
+                throw new RuntimeException("Failed to select option by value: " + value, e);
+            } catch (Exception e) {
+                // Log the exception message for better error reporting
+                LoggerUtil.error("An unexpected error occurred: " + e.getMessage(), e);
+                // Rethrow the original exception
+                throw new RuntimeException(e);
+            }
+        });
     }
 
     // Selects the specified option by its Index from the given dropdown, handling potential exceptions and providing detailed error reporting.
     public void selectOptionByIndex(WebElement dropdown, int index) {
-        try {
-            Select select = new Select(dropdown);
-            select.selectByIndex(index);
-        } catch (NoSuchElementException e) {
-            // Log the exception message for better error reporting
-            LoggerUtil.error("Element not found in the dropdown: " + e.getMessage(), e);
-            // Rethrow a more specific exception to indicate the nature of the issue
-            throw new RuntimeException("Failed to select option by value: " + index, e);
-        } catch (Exception e) {
-            // Log the exception message for better error reporting
-            LoggerUtil.error("An unexpected error occurred: " + e.getMessage(), e);
-            // Rethrow the original exception
-            throw new RuntimeException(e);
-        }
+        step("selectOptionByIndex", () -> {
+            try {
+                Select select = new Select(dropdown);
+                select.selectByIndex(index);
+            } catch (NoSuchElementException e) {
+                // Log the exception message for better error reporting
+                LoggerUtil.error("Element not found in the dropdown: " + e.getMessage(), e);
+                // Rethrow a more specific exception to indicate the nature of the issue
+                throw new RuntimeException("Failed to select option by value: " + index, e);
+            } catch (Exception e) {
+                // Log the exception message for better error reporting
+                LoggerUtil.error("An unexpected error occurred: " + e.getMessage(), e);
+                // Rethrow the original exception
+                throw new RuntimeException(e);
+            }
+        });
     }
 
     // - deselectAllOptionsInDropdown(Select select): Deselect all selected options in the dropdown.
@@ -318,11 +564,15 @@ public abstract class BasePage {
 
     // region 7.    Scroll Handling:
     public void scrollToElementIntoView(WebElement element) {
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
+        step("scrollToElementIntoView", () -> {
+            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
+        });
     }
 
     public void scrollToTopOfPage() {
-        ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 0);");
+        step("scrollToTopOfPage", () -> {
+            ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 0);");
+        });
     }
     //endregion
 
@@ -331,38 +581,46 @@ public abstract class BasePage {
     // included Error Handling in case the frame switching operation fails.
     // Added logging statements to indicate when the frame switching occurs.
     public void switchToFrameByIndex(int index) {
-        try {
-            driver.switchTo().frame(index);
-            LoggerUtil.info("Switched to frame with index: " + index);
-        } catch (NoSuchFrameException e) {
-            LoggerUtil.error("Frame with index " + index + " not found", e);
-            // Handle or throw an exception as appropriate for your scenario
-        }
+        step("switchToFrameByIndex", () -> {
+            try {
+                driver.switchTo().frame(index);
+                LoggerUtil.info("Switched to frame with index: " + index);
+            } catch (NoSuchFrameException e) {
+                LoggerUtil.error("Frame with index " + index + " not found", e);
+                // Handle or throw an exception as appropriate for your scenario
+            }
+        });
     }
 
     public void switchToFrameByStringName(String name) {
-        try {
-            driver.switchTo().frame(name);
-            LoggerUtil.info("Switched to frame with name: " + name);
-        } catch (NoSuchFrameException e) {
-            LoggerUtil.error("Frame with name " + name + " not found: ", e);
-            // Handle or throw an exception as appropriate for your scenario
-        }
+        step("switchToFrameByStringName", () -> {
+            try {
+                driver.switchTo().frame(name);
+                LoggerUtil.info("Switched to frame with name: " + name);
+            } catch (NoSuchFrameException e) {
+                LoggerUtil.error("Frame with name " + name + " not found: ", e);
+                // Handle or throw an exception as appropriate for your scenario
+            }
+        });
     }
 
     public void switchToFrameByWebElement(WebElement webElement) {
-        try {
-            driver.switchTo().frame(webElement);
-            LoggerUtil.info("Switched to frame with WebElement: " + webElement);
-        } catch (NoSuchFrameException e) {
-            LoggerUtil.error("Frame with WebElement " + webElement + " not found: ", e);
-            // Handle or throw an exception as appropriate for your scenario
-        }
+        step("switchToFrameByWebElement", () -> {
+            try {
+                driver.switchTo().frame(webElement);
+                LoggerUtil.info("Switched to frame with WebElement: " + webElement);
+            } catch (NoSuchFrameException e) {
+                LoggerUtil.error("Frame with WebElement " + webElement + " not found: ", e);
+                // Handle or throw an exception as appropriate for your scenario
+            }
+        });
     }
 
     public void switchToDefaultFrameContent() {
-        driver.switchTo().defaultContent();
-        LoggerUtil.info("Switched to default content");
+        step("switchToDefaultFrameContent", () -> {
+            driver.switchTo().defaultContent();
+            LoggerUtil.info("Switched to default content");
+        });
     }
 
 // endregion
@@ -370,48 +628,56 @@ public abstract class BasePage {
 
     // region 9.    Alert Handling:
     public String alertGetText() {
-        try {
-            return driver.switchTo().alert().getText();
-        } catch (Exception e) {
-            // Log the exception message and stack trace for better error reporting
-            LoggerUtil.error("Failed to retrieve text from alert: " + e.getMessage(), e);
-            // Rethrow the original exception
-            throw new RuntimeException(e);
-        }
+        return step("alertGetText", () -> {
+            try {
+                return driver.switchTo().alert().getText();
+            } catch (Exception e) {
+                // Log the exception message and stack trace for better error reporting
+                LoggerUtil.error("Failed to retrieve text from alert: " + e.getMessage(), e);
+                // Rethrow the original exception
+                throw new RuntimeException(e);
+            }
+        });
     }
 
     public void alertAccept() {
-        try {
-            driver.switchTo().alert().accept();
-        } catch (Exception e) {
-            // Log the exception message and stack trace for better error reporting
-            LoggerUtil.error("Failed to accept the alert: " + e.getMessage(), e);
-            // Rethrow the original exception
-            throw new RuntimeException(e);
-        }
+        step("alertAccept", () -> {
+            try {
+                driver.switchTo().alert().accept();
+            } catch (Exception e) {
+                // Log the exception message and stack trace for better error reporting
+                LoggerUtil.error("Failed to accept the alert: " + e.getMessage(), e);
+                // Rethrow the original exception
+                throw new RuntimeException(e);
+            }
+        });
     }
 
     // Dismiss an alert dialog
     public void alertDismiss() {
-        try {
-            driver.switchTo().alert().dismiss();
-        } catch (Exception e) {
-            // Log the exception message and stack trace for better error reporting
-            LoggerUtil.error("Failed to dismiss the alert: " + e.getMessage(), e);
-            // Rethrow the original exception
-            throw new RuntimeException(e);
-        }
+        step("alertDismiss", () -> {
+            try {
+                driver.switchTo().alert().dismiss();
+            } catch (Exception e) {
+                // Log the exception message and stack trace for better error reporting
+                LoggerUtil.error("Failed to dismiss the alert: " + e.getMessage(), e);
+                // Rethrow the original exception
+                throw new RuntimeException(e);
+            }
+        });
     }
 
     public void alertSendKeys(String keysToSend) {
-        try {
-            driver.switchTo().alert().sendKeys(keysToSend);
-        } catch (Exception e) {
-            // Log the exception message and stack trace for better error reporting
-            LoggerUtil.error("Failed to send Keys the alert: " + e.getMessage(), e);
-            // Rethrow the original exception
-            throw new RuntimeException(e);
-        }
+        step("alertSendKeys", () -> {
+            try {
+                driver.switchTo().alert().sendKeys(keysToSend);
+            } catch (Exception e) {
+                // Log the exception message and stack trace for better error reporting
+                LoggerUtil.error("Failed to send Keys the alert: " + e.getMessage(), e);
+                // Rethrow the original exception
+                throw new RuntimeException(e);
+            }
+        });
     }
     //endregion
 
@@ -24,6 +24,15 @@ public class HomePage extends BasePage {
         super(driver, wait);
     }
 
+    @Override
+    protected PageReadiness readiness() {
+        return PageReadiness.documentInteractive().keyElements(".top-card");
+    }
+
+    public void open() {
+        openPage("");
+    }
+
 
     public void clickElementsNavigationBar() {
         scrollToElementIntoView(elementsSection);
@@ -0,0 +1,80 @@
+package com.demoqa.pages;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/* The signals after which a page counts as ready for the test, declared by each page object (BasePage.readiness()).
+With the eager or none page-load strategy (-Dbrowser.pageLoadStrategy, see WebDriverManager) driver.get returns before
+images, ads and late scripts have loaded; BasePage then waits only for these signals, checked together in one script
+call per poll:
+ - the document has reached at least the declared readyState ("interactive" by default, "complete" for a full load)
+ - every declared key element is present, e.g. the form or grid the page's methods work on
+ - optionally, no fetch or XMLHttpRequest of the page is pending (counted by PendingRequestTracker)
+Instances are immutable; each method returns a copy with the extra signal. */
+
+public final class PageReadiness {
+
+    public enum DocumentState {INTERACTIVE, COMPLETE}
+
+    private static final PageReadiness DOCUMENT_INTERACTIVE =
+            new PageReadiness(DocumentState.INTERACTIVE, Collections.emptyList(), false);
+
+    private final DocumentState documentState;
+    private final List<String> keyElements;
+    private final boolean noPendingRequests;
+
+    private PageReadiness(DocumentState documentState, List<String> keyElements, boolean noPendingRequests) {
+        this.documentState = documentState;
+        this.keyElements = Collections.unmodifiableList(keyElements);
+        this.noPendingRequests = noPendingRequests;
+    }
+
+    // DOMContentLoaded has fired, what the eager strategy already waits for
+    public static PageReadiness documentInteractive() {
+        return DOCUMENT_INTERACTIVE;
+    }
+
+    // The load event has fired, what the normal strategy waits for
+    public static PageReadiness documentComplete() {
+        return new PageReadiness(DocumentState.COMPLETE, Collections.emptyList(), false);
+    }
+
+    // CSS selectors of elements that must be present
+    public PageReadiness keyElements(@NotNull String... cssSelectors) {
+        List<String> selectors = new ArrayList<>(keyElements);
+        selectors.addAll(Arrays.asList(cssSelectors));
+        return new PageReadiness(documentState, selectors, noPendingRequests);
+    }
+
+    public PageReadiness noPendingRequests() {
+        return new PageReadiness(documentState, new ArrayList<>(keyElements), true);
+    }
+
+    public DocumentState getDocumentState() {
+        return documentState;
+    }
+
+    public List<String> getKeyElements() {
+        return keyElements;
+    }
+
+    public boolean requiresNoPendingRequests() {
+        return noPendingRequests;
+    }
+
+    // Nothing beyond what the eager and normal strategies already wait for inside driver.get
+    public boolean isDocumentInteractiveOnly() {
+        return documentState == DocumentState.INTERACTIVE && keyElements.isEmpty() && !noPendingRequests;
+    }
+
+    @Override
+    public String toString() {
+        return "readyState " + documentState.name().toLowerCase(Locale.ROOT) + (keyElements.isEmpty() ? "" : ", elements " + keyElements)
+                + (noPendingRequests ? ", no pending requests" : "");
+    }
+}
@@ -0,0 +1,113 @@
+package com.demoqa.pages;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* Lazily populated page object cache for a single test.
+Instead of constructing every page up front (each one runs PageFactory.initElements and creates its own Actions),
+a page is built the first time a test calls get(SomePage.class) and reused for the rest of that test.
+Constructor parameters are resolved by type: WebDriver, WebDriverWait and other pages (e.g. WebTablesPage needs HomePage).
+A registry belongs to one test thread and is not thread-safe; only the constructor lookup cache is shared. */
+
+public class PageRegistry {
+
+    // Constructor lookups are shared across all registries, so reflection runs once per page class and JVM
+    private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final Map<Class<? extends BasePage>, BasePage> pages = new HashMap<>();
+
+    public PageRegistry(@NotNull WebDriver driver, @NotNull WebDriverWait wait) {
+        this.driver = driver;
+        this.wait = wait;
+    }
+
+
+    //region    Return the page of the given type, constructing and caching it on first use.
+    public <T extends BasePage> T get(@NotNull Class<T> pageClass) {
+        BasePage page = pages.get(pageClass);
+        if (page == null) {
+            page = create(pageClass);
+            pages.put(pageClass, page);
+        }
+        return pageClass.cast(page);
+    }
+    //endregion
+
+
+    public boolean isCreated(Class<? extends BasePage> pageClass) {
+        return pages.containsKey(pageClass);
+    }
+
+    public int size() {
+        return pages.size();
+    }
+
+    // Drop every cached page; called when the test that owns the registry ends
+    public void clear() {
+        pages.clear();
+    }
+
+
+    // Helper methods
+    private <T extends BasePage> T create(Class<T> pageClass) {
+        Constructor<?> constructor = CONSTRUCTORS.computeIfAbsent(pageClass, PageRegistry::findConstructor);
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] arguments = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            arguments[i] = resolveArgument(pageClass, parameterTypes[i]);
+        }
+
+        try {
+            return pageClass.cast(constructor.newInstance(arguments));
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Failed to create page " + pageClass.getSimpleName(), cause);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create page " + pageClass.getSimpleName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object resolveArgument(Class<?> pageClass, Class<?> parameterType) {
+        if (parameterType == WebDriver.class) {
+            return driver;
+        }
+        if (parameterType == WebDriverWait.class) {
+            return wait;
+        }
+        if (BasePage.class.isAssignableFrom(parameterType)) {
+            if (parameterType == pageClass) {
+                throw new IllegalStateException(pageClass.getSimpleName() + " cannot depend on itself");
+            }
+            return get((Class<? extends BasePage>) parameterType);
+        }
+        throw new IllegalStateException("Cannot resolve constructor parameter " + parameterType.getSimpleName()
+                + " of page " + pageClass.getSimpleName());
+    }
+
+    // Pages declare a single public constructor; the one with the most parameters wins if there are several
+    private static Constructor<?> findConstructor(Class<?> pageClass) {
+        Constructor<?> selected = null;
+        for (Constructor<?> constructor : pageClass.getConstructors()) {
+            if (selected == null || constructor.getParameterCount() > selected.getParameterCount()) {
+                selected = constructor;
+            }
+        }
+        if (selected == null) {
+            throw new IllegalStateException(pageClass.getSimpleName() + " has no public constructor");
+        }
+        return selected;
+    }
+}
@@ -1,6 +1,8 @@
 package com.demoqa.pages.elements;
 
 import com.demoqa.pages.BasePage;
+import com.demoqa.pages.PageReadiness;
+import com.demoqa.utilities.SiteUrls;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -30,12 +32,17 @@ public class ButtonsPage extends BasePage {
         super(driver, wait);
     }
 
+    @Override
+    protected PageReadiness readiness() {
+        return PageReadiness.documentInteractive().keyElements("#doubleClickBtn");
+    }
+
     public void clickOnButtonsSubCategory(){
         scrollToElementIntoView(buttonsPageSectionLink);
         clickElement(buttonsPageSectionLink);
     }
     public  boolean isOnButtonsPage(){
-        return isCurrentPageUrlEqualTo("https://demoqa.com/buttons");
+        return isCurrentPageUrlEqualTo(SiteUrls.of("buttons"));
     }
 
     public boolean isDoubleClickButtonDisplayed() {
@@ -0,0 +1,123 @@
+package com.demoqa.pages.elements;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/* One node of the Check Box tree as captured by CheckBoxTree: its label, path, expand and check state, and the label and
+toggle elements returned by the same script call, so clicking a node does not need another lookup.
+Children are only known for expanded nodes; the site does not render the children of a collapsed node. */
+
+public class CheckBoxNode {
+
+    public enum CheckState {
+        CHECKED, HALF_CHECKED, UNCHECKED
+    }
+
+    private final String value;
+    private final String title;
+    private final String path;
+    private final boolean leaf;
+    private final boolean expanded;
+    private final boolean visible;
+    private final WebElement label;
+    private final WebElement toggle;
+    private final List<CheckBoxNode> children = new ArrayList<>();
+    private CheckState checkState;
+    private CheckBoxNode parent;
+
+    public CheckBoxNode(@NotNull String value, @NotNull String title, @NotNull String path, boolean leaf, boolean expanded,
+                        boolean visible, @NotNull CheckState checkState, WebElement label, WebElement toggle) {
+        this.value = value;
+        this.title = title;
+        this.path = path;
+        this.leaf = leaf;
+        this.expanded = expanded;
+        this.visible = visible;
+        this.checkState = checkState;
+        this.label = label;
+        this.toggle = toggle;
+    }
+
+    // Title without spaces and case, so "Work Space", "WorkSpace" and "workspace" name the same node
+    public static String normalize(@NotNull String name) {
+        return name.replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+
+    // The value the site lists in "You have selected :", e.g. "wordFile"
+    public String getValue() {
+        return value;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    // Titles from the root down, e.g. "Home/Documents/WorkSpace/React"
+    public String getPath() {
+        return path;
+    }
+
+    public boolean isLeaf() {
+        return leaf;
+    }
+
+    public boolean isExpanded() {
+        return expanded;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public CheckState getCheckState() {
+        return checkState;
+    }
+
+    public boolean isChecked() {
+        return checkState == CheckState.CHECKED;
+    }
+
+    public WebElement getLabel() {
+        return label;
+    }
+
+    // The expand/collapse button, null for leaves
+    public WebElement getToggle() {
+        return toggle;
+    }
+
+    public CheckBoxNode getParent() {
+        return parent;
+    }
+
+    public List<CheckBoxNode> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    @Override
+    public String toString() {
+        return path + " [" + checkState + (leaf ? "" : expanded ? ", expanded" : ", collapsed") + "]";
+    }
+
+
+    //region    Tree maintenance, used by CheckBoxTree when a subtree is refreshed
+    void addChild(CheckBoxNode child) {
+        child.parent = this;
+        children.add(child);
+    }
+
+    void replaceChild(CheckBoxNode oldChild, CheckBoxNode newChild) {
+        newChild.parent = this;
+        children.set(children.indexOf(oldChild), newChild);
+    }
+
+    void setCheckState(CheckState checkState) {
+        this.checkState = checkState;
+    }
+    //endregion
+}
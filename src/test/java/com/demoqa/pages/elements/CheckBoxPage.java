@@ -1,15 +1,21 @@
 package com.demoqa.pages.elements;
 
 import com.demoqa.pages.BasePage;
+import com.demoqa.pages.PageReadiness;
+import com.demoqa.utilities.AssertionUtils;
+import com.demoqa.utilities.SiteUrls;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
-import org.testng.Assert;
 
-public class
-CheckBoxPage extends BasePage {
+import java.util.Arrays;
+import java.util.function.Function;
+
+public class CheckBoxPage extends BasePage {
 
     @FindBy(id = "item-1")
     private WebElement textBoxCategory;
@@ -18,59 +24,8 @@ CheckBoxPage extends BasePage {
     @FindBy(xpath = "//button[@title='Collapse all']")
     private WebElement collapseAllButton;
 
-    @FindBy(css = "#tree-node > ol > li > span > button > svg")
-    private WebElement homeToggle;
-    @FindBy(css = "#tree-node > ol > li > ol > li:nth-child(1) > span > button > svg")
-    private WebElement desktopToggle;
-    @FindBy(css = "#tree-node > ol > li > ol > li:nth-child(2) > span > button > svg")
-    private WebElement documentsToggle;
-    @FindBy(css = "#tree-node > ol > li > ol > li.rct-node.rct-node-parent.rct-node-expanded > ol > li:nth-child(1) > span > button > svg")
-    private WebElement workSpaceToggle;
-    @FindBy(css = "#tree-node > ol > li > ol > li.rct-node.rct-node-parent.rct-node-expanded > ol > li:nth-child(2) > span > button > svg")
-    private WebElement officeToggle;
-    @FindBy(css = "#tree-node > ol > li > ol > li:nth-child(3) > span > button > svg")
-    private WebElement downloadsToggle;
-
-    // @formatter:off
-    @FindBy(xpath = "//*[contains(text(), \"Home\")]")
-    private WebElement homeCheckbox;
-        @FindBy(xpath = "//*[contains(text(), 'Desktop')]")
-        private WebElement desktopCheckbox;
-            @FindBy(xpath = "//*[contains(text(), 'Notes')]")
-            private WebElement notesCheckbox;
-            @FindBy(xpath = "//*[contains(text(), 'Commands')]")
-            private WebElement commandsCheckbox;
-    //*[contains(text(), 'Commands')]
-
-        @FindBy(xpath= "//*[@class='rct-title'][contains(text(), 'Documents')]")
-        private WebElement documentsCheckbox;
-            @FindBy(xpath = "//*[@class='rct-title'][contains(text(), 'WorkSpace')]")
-            private WebElement workspaceCheckbox;
-                @FindBy(xpath = "//*[@class='rct-title'][contains(text(), 'React')]")
-                private WebElement reactCheckbox;
-                @FindBy(xpath = "//*[@class='rct-title'][contains(text(), 'Angular')]")
-                private WebElement angularCheckbox;
-                @FindBy(xpath = "//*[@class='rct-title'][contains(text(), 'Veu')]")
-                private WebElement veuCheckbox;
-
-            @FindBy(xpath = "//*[@class='rct-title'][contains(text(), 'Office')]")
-            private WebElement officeCheckbox;
-                @FindBy(xpath = "//*[@class='rct-title'][contains(text(), 'Public')]")
-                private WebElement publicCheckbox;
-                @FindBy(xpath = "//*[@class='rct-title'][contains(text(), 'Private')]")
-                private WebElement privateCheckbox;
-                @FindBy(xpath = "//*[@class='rct-title'][contains(text(), 'Classified')]")
-                private WebElement classifiedCheckbox;
-                @FindBy(xpath = "//*[@class='rct-title'][contains(text(), 'General')]")
-                private WebElement generalCheckbox;
-
-            @FindBy(xpath = "//*[@class='rct-title'][contains(text(), 'Downloads')]")
-            private WebElement downloadsCheckbox;
-                @FindBy(xpath = "//*[@class='rct-title'][contains(text(), 'Word File.doc')]")
-                private WebElement wordFileCheckbox;
-                @FindBy(xpath = "//*[@class='rct-title'][contains(text(), 'Excel File.doc')]")
-                private WebElement excelFileCheckbox;
-    // @formatter:on
+    // Snapshot of #tree-node, captured on first use and refreshed per subtree after each click (see CheckBoxTree)
+    private CheckBoxTree tree;
 
     @FindBy(id = "result")
     WebElement displaySelectedCheckboxes;
@@ -79,22 +34,69 @@ CheckBoxPage extends BasePage {
         super(driver, wait);
     }
 
+    @Override
+    protected PageReadiness readiness() {
+        return PageReadiness.documentInteractive().keyElements("#tree-node");
+    }
+
     public void clickCheckBoxSubCategory() {
         clickElement(textBoxCategory);
+        tree = null;
     }
 
     public boolean isOnCheckBoxSubCategory() {
-        return isCurrentPageUrlEqualTo("https://demoqa.com/checkbox");
+        return isCurrentPageUrlEqualTo(SiteUrls.of("checkbox"));
     }
 
     public void clickOnExpandAllButton() {
         clickElement(expandAllButton);
+        tree = null;
     }
 
     public void clickOnCollapsedAllButton() {
         clickElement(collapseAllButton);
+        tree = null;
+    }
+
+
+    // region Tree model: one script call per snapshot instead of one XPath lookup per checkbox
+    public CheckBoxTree getTree() {
+        if (tree == null) {
+            tree = step("captureTree", () -> CheckBoxTree.capture((JavascriptExecutor) driver));
+        }
+        return tree;
+    }
+
+    // Discards the cached snapshot and captures the current tree
+    public CheckBoxTree refreshTree() {
+        tree = null;
+        return getTree();
+    }
+
+    // Clicks the node's label or toggle, then re-reads only that node's subtree and the check state of its ancestors
+    private void clickNode(String elementName, Function<CheckBoxNode, WebElement> target) {
+        CheckBoxNode node = getTree().get(elementName);
+        try {
+            clickTreeElement(node, target.apply(node));
+        } catch (StaleElementReferenceException e) {
+            // The tree was re-rendered since the snapshot (e.g. by a click outside this page object)
+            node = refreshTree().get(elementName);
+            clickTreeElement(node, target.apply(node));
+        }
+        CheckBoxNode clicked = node;
+        step("refreshTree", () -> tree.refresh((JavascriptExecutor) driver, clicked));
     }
 
+    private void clickTreeElement(CheckBoxNode node, WebElement element) {
+        if (element == null) {
+            throw new IllegalArgumentException(node.getPath() + " has no toggle, it is a leaf");
+        }
+        scrollToElementIntoView(element);
+        clickElement(element);
+    }
+    // endregion
+
+
     public String getSelectedCheckboxes(){
        return getTextFromElement(displaySelectedCheckboxes);
     }
@@ -103,119 +105,26 @@ CheckBoxPage extends BasePage {
         return wait.until(ExpectedConditions.invisibilityOf(displaySelectedCheckboxes));
     }
 
+    // Expands or collapses a node by its title ("Work Space") or path ("Home/Documents/WorkSpace")
     public void clickToggle(String elementName) {
-        switch (elementName) {
-            case "Home":
-                clickElement(homeToggle);
-                break;
-            case "Desktop":
-                clickElement(desktopToggle);
-                break;
-            case "Documents":
-                clickElement(documentsToggle);
-                break;
-            case "Work Space":
-                clickElement(workSpaceToggle);
-                break;
-            case "Office":
-                clickElement(officeToggle);
-                break;
-            case "Downloads":
-                clickElement(downloadsToggle);
-                break;
-            default:
-                // Handle unsupported elementName
-                break;
-        }
+        clickNode(elementName, CheckBoxNode::getToggle);
     }
 
     public void selectCheckbox(String elementName) {
-        switch (elementName) {
-            case "Home":
-                clickElement(homeCheckbox);
-                scrollToElementIntoView(homeCheckbox);
-                break;
-            case "Desktop":
-                clickElement(desktopCheckbox);
-                scrollToElementIntoView(desktopCheckbox);
-                break;
-            case "Notes":
-                clickElement(notesCheckbox);
-                scrollToElementIntoView(notesCheckbox);
-                break;
-            case "Commands":
-                clickElement(commandsCheckbox);
-                scrollToElementIntoView(commandsCheckbox);
-                break;
-            case "Documents":
-                clickElement(documentsCheckbox);
-                scrollToElementIntoView(documentsCheckbox);
-                break;
-            case "Work Space":
-                clickElement(workspaceCheckbox);
-                scrollToElementIntoView(workspaceCheckbox);
-                break;
-            case "React":
-                clickElement(reactCheckbox);
-                scrollToElementIntoView(reactCheckbox);
-                break;
-            case "Angular":
-                clickElement(angularCheckbox);
-                scrollToElementIntoView(angularCheckbox);
-                break;
-            case "Veu":
-                clickElement(veuCheckbox);
-                scrollToElementIntoView(veuCheckbox);
-                break;
-            case "Office":
-                clickElement(officeCheckbox);
-                scrollToElementIntoView(officeCheckbox);
-                break;
-            case "Public":
-                clickElement(publicCheckbox);
-                scrollToElementIntoView(publicCheckbox);
-                break;
-            case "Private":
-                clickElement(privateCheckbox);
-                scrollToElementIntoView(privateCheckbox);
-                break;
-            case "Classified":
-                clickElement(classifiedCheckbox);
-                scrollToElementIntoView(classifiedCheckbox);
-                break;
-            case "General":
-                clickElement(generalCheckbox);
-                scrollToElementIntoView(generalCheckbox);
-                break;
-            case "Downloads":
-                clickElement(downloadsCheckbox);
-                scrollToElementIntoView(downloadsCheckbox);
-                break;
-            case "Word File.doc":
-                clickElement(wordFileCheckbox);
-                scrollToElementIntoView(wordFileCheckbox);
-                break;
-            case "Excel File.doc":
-                clickElement(excelFileCheckbox);
-                scrollToElementIntoView(excelFileCheckbox);
-                break;
-            default:
-                throw new IllegalArgumentException("Invalid element name: " + elementName);
-        }
+        clickNode(elementName, CheckBoxNode::getLabel);
     }
 
+    // Waits until the node is no longer rendered or visible, re-reading the tree with one script call per poll
     public boolean isToggleHidden(String elementName) {
-        WebElement toggleElement = getToggleCheckboxElement(elementName);
-        return wait.until(ExpectedConditions.invisibilityOf(toggleElement));
+        return wait.until(d -> !refreshTree().isDisplayed(elementName));
     }
 
-
-
     public void assertTogglesHidden(String... toggleNames) {
-        for (String toggleName : toggleNames) {
-            Assert.assertTrue(isToggleHidden(toggleName),
-                    toggleName + " toggle is not hidden.");
-        }
+        AssertionUtils.assertTrueEventually(() -> {
+                    CheckBoxTree current = refreshTree();
+                    return Arrays.stream(toggleNames).noneMatch(current::isDisplayed);
+                },
+                "Toggles should be hidden: " + String.join(", ", toggleNames));
     }
 
 
@@ -224,54 +133,17 @@ CheckBoxPage extends BasePage {
                 .isDisplayed();
     }
 
+    // All names are checked against the same snapshot, so asserting the whole expanded tree is one round-trip per poll
     public void assertTogglesCheckboxesAreDisplayed(String... toggleNames) {
-        for (String toggleName : toggleNames) {
-            WebElement toggleElement = getToggleCheckboxElement(toggleName);
-            Assert.assertTrue(isToggleDisplayed(toggleElement),
-                    toggleName + " toggle is not displayed.");
-        }
+        AssertionUtils.assertTrueEventually(() -> {
+                    CheckBoxTree current = refreshTree();
+                    return Arrays.stream(toggleNames).allMatch(current::isDisplayed);
+                },
+                "Toggles should be displayed: " + String.join(", ", toggleNames));
     }
 
     public WebElement getToggleCheckboxElement(String elementName) {
-        switch (elementName) {
-            case "Home":
-                return (homeCheckbox);
-            case "Desktop":
-                return (desktopCheckbox);
-            case "Notes":
-                return (notesCheckbox);
-            case "Commands":
-                return (commandsCheckbox);
-            case "Documents":
-                return (documentsCheckbox);
-            case "WorkSpace":
-                return (workspaceCheckbox);
-            case "React":
-                return (reactCheckbox);
-            case "Angular":
-                return (angularCheckbox);
-            case "Veu":
-                return (veuCheckbox);
-            case "Office":
-                return (officeCheckbox);
-            case "Public":
-                return (publicCheckbox);
-            case "Private":
-                return (privateCheckbox);
-            case "Classified":
-                return (classifiedCheckbox);
-            case "General":
-                return (generalCheckbox);
-            case "Downloads":
-                return (downloadsCheckbox);
-            case "Word File.doc":
-                return (wordFileCheckbox);
-            case "Excel File.doc":
-                return (excelFileCheckbox);
-            default:
-                throw new IllegalArgumentException("Invalid element name: " + elementName);
-        }
-
+        return getTree().get(elementName).getLabel();
     }
 
     public String getCurrentPageTitle(){
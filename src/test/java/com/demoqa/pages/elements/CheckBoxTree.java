@@ -0,0 +1,230 @@
+package com.demoqa.pages.elements;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/* In-memory model of the Check Box page tree (react-checkbox-tree under #tree-node), captured with one executeScript call.
+Locating the 17 nodes one by one costs a full-document XPath scan per node and per access through the PageFactory proxies.
+The script below walks #tree-node once and returns every rendered node with its title, expand state, check state and its
+label and toggle elements. Nodes are indexed by path ("Home/Documents/Office"), by title and by value.
+After a click only the changed part is read again: refresh() re-captures the clicked node's subtree plus the check state
+of its ancestors, which is all a toggle or a check can change. */
+
+public class CheckBoxTree {
+
+    // Returns {nodes: [node, ...], ancestors: [{value, check}, ...]} for the whole tree (no argument) or for the subtree of
+    // the node whose checkbox value is arguments[0]; null when #tree-node or that node is not rendered
+    private static final String CAPTURE_TREE_SCRIPT =
+            "var childWith = function (el, test) {" +
+            "    for (var i = 0; i < el.children.length; i++) { if (test(el.children[i])) { return el.children[i]; } }" +
+            "    return null;" +
+            "};" +
+            "var hasClass = function (name) { return function (el) { return el.classList.contains(name); }; };" +
+            "var isTag = function (tag) { return function (el) { return el.tagName === tag; }; };" +
+            "var labelOf = function (li) { var text = childWith(li, hasClass('rct-text')); return text && childWith(text, isTag('LABEL')); };" +
+            "var checkOf = function (li) {" +
+            "    var label = labelOf(li);" +
+            "    var input = label && childWith(label, isTag('INPUT'));" +
+            "    var icon = label && childWith(label, hasClass('rct-checkbox'));" +
+            "    if (input && input.checked) { return 'CHECKED'; }" +
+            "    var half = (input && input.indeterminate) || (icon && icon.querySelector('.rct-icon-half-check'));" +
+            "    return half ? 'HALF_CHECKED' : 'UNCHECKED';" +
+            "};" +
+            "var describe = function (li) {" +
+            "    var text = childWith(li, hasClass('rct-text'));" +
+            "    var label = labelOf(li);" +
+            "    var input = label && childWith(label, isTag('INPUT'));" +
+            "    var title = label && childWith(label, hasClass('rct-title'));" +
+            "    var list = childWith(li, isTag('OL'));" +
+            "    return {" +
+            "        value: input ? input.id.replace(/^tree-node-/, '') : ''," +
+            "        title: title ? title.textContent.trim() : ''," +
+            "        leaf: li.classList.contains('rct-node-leaf')," +
+            "        expanded: li.classList.contains('rct-node-expanded')," +
+            "        visible: li.getClientRects().length > 0," +
+            "        check: checkOf(li)," +
+            "        label: label," +
+            "        toggle: text && childWith(text, isTag('BUTTON'))," +
+            "        children: list ? Array.prototype.map.call(list.children, describe) : []" +
+            "    };" +
+            "};" +
+            "var tree = document.getElementById('tree-node');" +
+            "if (!tree) { return null; }" +
+            "if (!arguments[0]) {" +
+            "    var top = childWith(tree, isTag('OL'));" +
+            "    return {nodes: top ? Array.prototype.map.call(top.children, describe) : [], ancestors: []};" +
+            "}" +
+            "var input = document.getElementById('tree-node-' + arguments[0]);" +
+            "var node = input && input.closest('li.rct-node');" +
+            "if (!node) { return null; }" +
+            "var ancestors = [];" +
+            "var parentOf = function (li) { return li.parentElement ? li.parentElement.closest('li.rct-node') : null; };" +
+            "for (var up = parentOf(node); up; up = parentOf(up)) {" +
+            "    ancestors.push({value: childWith(labelOf(up), isTag('INPUT')).id.replace(/^tree-node-/, ''), check: checkOf(up)});" +
+            "}" +
+            "return {nodes: [describe(node)], ancestors: ancestors};";
+
+    private static final String PATH_SEPARATOR = "/";
+
+    private final List<CheckBoxNode> roots = new ArrayList<>();
+    private final Map<String, CheckBoxNode> byValue = new HashMap<>();
+    private final Map<String, CheckBoxNode> byPath = new HashMap<>();
+    private final Map<String, List<CheckBoxNode>> byTitle = new HashMap<>();
+
+
+    //region    Capture the whole tree, or refresh one subtree, in one driver round-trip.
+    public static CheckBoxTree capture(@NotNull JavascriptExecutor executor) {
+        Map<String, Object> result = runScript(executor, null);
+        if (result == null) {
+            throw new IllegalStateException("Check box tree (#tree-node) was not found on the current page");
+        }
+        CheckBoxTree tree = new CheckBoxTree();
+        for (Map<String, Object> node : nodeMaps(result.get("nodes"))) {
+            tree.roots.add(tree.build(node, null));
+        }
+        return tree;
+    }
+
+    // Re-reads the subtree of a node after it was toggled or (un)checked and returns its new version
+    public CheckBoxNode refresh(@NotNull JavascriptExecutor executor, @NotNull CheckBoxNode node) {
+        Map<String, Object> result = runScript(executor, node.getValue());
+        if (result == null) {
+            throw new IllegalStateException(node.getPath() + " is no longer rendered, capture the tree again");
+        }
+        CheckBoxNode current = byValue.get(node.getValue());
+        if (current == null) {
+            throw new IllegalArgumentException(node.getPath() + " is not part of this tree");
+        }
+        unindex(current);
+        CheckBoxNode parent = current.getParent();
+        CheckBoxNode refreshed = build(nodeMaps(result.get("nodes")).get(0), parent);
+        if (parent == null) {
+            roots.set(roots.indexOf(current), refreshed);
+        } else {
+            parent.replaceChild(current, refreshed);
+        }
+
+        // Checking a node turns its ancestors checked or half-checked
+        for (Map<String, Object> ancestor : nodeMaps(result.get("ancestors"))) {
+            CheckBoxNode ancestorNode = byValue.get(String.valueOf(ancestor.get("value")));
+            if (ancestorNode != null) {
+                ancestorNode.setCheckState(CheckBoxNode.CheckState.valueOf(String.valueOf(ancestor.get("check"))));
+            }
+        }
+        return refreshed;
+    }
+    //endregion
+
+
+    //region    Lookups
+    // A title ("Work Space", "Word File.doc") or a path ("Home/Documents/WorkSpace"); spaces and case are ignored
+    public Optional<CheckBoxNode> find(@NotNull String nameOrPath) {
+        String key = CheckBoxNode.normalize(nameOrPath);
+        if (key.contains(PATH_SEPARATOR)) {
+            return Optional.ofNullable(byPath.get(key));
+        }
+        List<CheckBoxNode> matches = byTitle.getOrDefault(key, Collections.emptyList());
+        if (matches.size() > 1) {
+            throw new IllegalArgumentException("'" + nameOrPath + "' matches several nodes, use a path: " + matches);
+        }
+        return matches.stream().findFirst();
+    }
+
+    public CheckBoxNode get(@NotNull String nameOrPath) {
+        return find(nameOrPath).orElseThrow(() -> new IllegalArgumentException(
+                "No rendered checkbox '" + nameOrPath + "' (is its parent expanded?)"));
+    }
+
+    public Optional<CheckBoxNode> findByValue(@NotNull String value) {
+        return Optional.ofNullable(byValue.get(value));
+    }
+
+    // Rendered and visible; the children of a collapsed node are not rendered at all
+    public boolean isDisplayed(@NotNull String nameOrPath) {
+        return find(nameOrPath).map(CheckBoxNode::isVisible).orElse(false);
+    }
+
+    public List<CheckBoxNode> getRoots() {
+        return Collections.unmodifiableList(roots);
+    }
+
+    // Every rendered node, depth first in page order
+    public List<CheckBoxNode> nodes() {
+        List<CheckBoxNode> nodes = new ArrayList<>();
+        roots.forEach(root -> collect(root, nodes));
+        return nodes;
+    }
+
+    // Values of the checked rendered nodes in page order, as listed by the "You have selected :" message when all are rendered
+    public List<String> getCheckedValues() {
+        List<String> values = new ArrayList<>();
+        for (CheckBoxNode node : nodes()) {
+            if (node.isChecked()) {
+                values.add(node.getValue());
+            }
+        }
+        return values;
+    }
+
+    public int size() {
+        return byValue.size();
+    }
+    //endregion
+
+
+    // Helper methods
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> runScript(JavascriptExecutor executor, String value) {
+        Object result = executor.executeScript(CAPTURE_TREE_SCRIPT, value);
+        return result instanceof Map ? (Map<String, Object>) result : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> nodeMaps(Object list) {
+        return list instanceof List ? (List<Map<String, Object>>) list : Collections.emptyList();
+    }
+
+    private CheckBoxNode build(Map<String, Object> map, CheckBoxNode parent) {
+        String title = String.valueOf(map.get("title"));
+        CheckBoxNode node = new CheckBoxNode(
+                String.valueOf(map.get("value")),
+                title,
+                parent == null ? title : parent.getPath() + PATH_SEPARATOR + title,
+                Boolean.TRUE.equals(map.get("leaf")),
+                Boolean.TRUE.equals(map.get("expanded")),
+                Boolean.TRUE.equals(map.get("visible")),
+                CheckBoxNode.CheckState.valueOf(String.valueOf(map.get("check"))),
+                map.get("label") instanceof WebElement ? (WebElement) map.get("label") : null,
+                map.get("toggle") instanceof WebElement ? (WebElement) map.get("toggle") : null);
+        byValue.put(node.getValue(), node);
+        byPath.put(CheckBoxNode.normalize(node.getPath()), node);
+        byTitle.computeIfAbsent(CheckBoxNode.normalize(title), k -> new ArrayList<>()).add(node);
+        for (Map<String, Object> child : nodeMaps(map.get("children"))) {
+            node.addChild(build(child, node));
+        }
+        return node;
+    }
+
+    private void unindex(CheckBoxNode node) {
+        byValue.remove(node.getValue());
+        byPath.remove(CheckBoxNode.normalize(node.getPath()));
+        List<CheckBoxNode> sameTitle = byTitle.get(CheckBoxNode.normalize(node.getTitle()));
+        if (sameTitle != null) {
+            sameTitle.remove(node);
+        }
+        node.getChildren().forEach(this::unindex);
+    }
+
+    private static void collect(CheckBoxNode node, List<CheckBoxNode> nodes) {
+        nodes.add(node);
+        node.getChildren().forEach(child -> collect(child, nodes));
+    }
+}
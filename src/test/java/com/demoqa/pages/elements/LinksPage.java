@@ -1,6 +1,8 @@
 package com.demoqa.pages.elements;
 
 import com.demoqa.pages.BasePage;
+import com.demoqa.pages.PageReadiness;
+import com.demoqa.utilities.SiteUrls;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -46,13 +48,18 @@ public class LinksPage extends BasePage {
         super(driver, wait);
     }
 
+    @Override
+    protected PageReadiness readiness() {
+        return PageReadiness.documentInteractive().keyElements("#simpleLink");
+    }
+
     public void clickOnLinksSubCategory(){
         scrollToElementIntoView(linksCategory);
         clickElement(linksCategory);
 
     }
     public boolean isOnLinksPage(){
-        return isCurrentPageUrlEqualTo("https://demoqa.com/links");
+        return isCurrentPageUrlEqualTo(SiteUrls.of("links"));
     }
 
     public void clickOnHomeLink(){
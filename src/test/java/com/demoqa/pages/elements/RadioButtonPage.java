@@ -1,6 +1,8 @@
 package com.demoqa.pages.elements;
 
 import com.demoqa.pages.BasePage;
+import com.demoqa.pages.PageReadiness;
+import com.demoqa.utilities.SiteUrls;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -28,8 +30,13 @@ public class RadioButtonPage extends BasePage {
         super(driver, wait);
     }
 
+    @Override
+    protected PageReadiness readiness() {
+        return PageReadiness.documentInteractive().keyElements("#yesRadio");
+    }
+
     public boolean isOnCheckBoxSubCategory() {
-        return isCurrentPageUrlEqualTo("https://demoqa.com/radio-button");
+        return isCurrentPageUrlEqualTo(SiteUrls.of("radio-button"));
     }
 
     public void clickOnRadioButtonSubCategory() {
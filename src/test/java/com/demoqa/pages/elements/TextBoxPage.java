@@ -1,22 +1,33 @@
 package com.demoqa.pages.elements;
 
 import com.demoqa.pages.BasePage;
+import com.demoqa.pages.PageReadiness;
+import com.demoqa.utilities.SiteUrls;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class TextBoxPage extends BasePage {
+    // CSS selectors of the form fields, used by their @FindBy and by fillFields
+    private static final String FULL_NAME_INPUT = "#userName";
+    private static final String EMAIL_INPUT = "#userEmail";
+    private static final String CURRENT_ADDRESS_INPUT = "#currentAddress";
+    private static final String PERMANENT_ADDRESS_INPUT = "#permanentAddress";
+
     @FindBy(id = "item-0")
     private WebElement textBoxSectionLink;
-    @FindBy(id = "userName")
+    @FindBy(css = FULL_NAME_INPUT)
     private WebElement fullNameInputField;
-    @FindBy(id = "userEmail")
+    @FindBy(css = EMAIL_INPUT)
     private WebElement emailInputField;
-    @FindBy(id = "currentAddress")
+    @FindBy(css = CURRENT_ADDRESS_INPUT)
     private WebElement currentAddressInputField;
-    @FindBy(id = "permanentAddress")
+    @FindBy(css = PERMANENT_ADDRESS_INPUT)
     private WebElement permanentAddressInputField;
     @FindBy(id = "submit")
     private WebElement submitButton;
@@ -36,12 +47,17 @@ public class TextBoxPage extends BasePage {
         super(driver, wait);
     }
 
+    @Override
+    protected PageReadiness readiness() {
+        return PageReadiness.documentInteractive().keyElements("#userForm");
+    }
+
     public void clickOnTextBoxSubCategory() {
         clickElement(textBoxSectionLink);
     }
 
     public boolean isOnTextBoxSubCategory(){
-        return isCurrentPageUrlEqualTo("https://demoqa.com/text-box");
+        return isCurrentPageUrlEqualTo(SiteUrls.of("text-box"));
     }
 
     public void enterFullName(String fullName) {
@@ -65,11 +81,14 @@ public class TextBoxPage extends BasePage {
         clickElement(submitButton);
     }
 
+    // Typed field by field, or set in one script call with form.fillMode=fast (see FillMode)
     public void fillOutTextBoxForm(String fullName, String email, String currentAddress,  String permanentAddress){
-        enterFullName(fullName);
-        enterEmail(email);
-        enterCurrentAddress(currentAddress);
-        enterPermanentAddress(permanentAddress);
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put(FULL_NAME_INPUT, fullName);
+        form.put(EMAIL_INPUT, email);
+        form.put(CURRENT_ADDRESS_INPUT, currentAddress);
+        form.put(PERMANENT_ADDRESS_INPUT, permanentAddress);
+        fillFields(form);
     }
 
     public boolean isOutputMessageDisplayed() {
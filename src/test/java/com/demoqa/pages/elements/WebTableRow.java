@@ -0,0 +1,99 @@
+package com.demoqa.pages.elements;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/* One data row of the Web Tables grid, captured in memory by WebTableSnapshot.
+Cells keep the on-screen order: First Name, Last Name, Age, Email, Salary, Department, Action. */
+
+public class WebTableRow {
+
+    public static final int FIRST_NAME = 0;
+    public static final int LAST_NAME = 1;
+    public static final int AGE = 2;
+    public static final int EMAIL = 3;
+    public static final int SALARY = 4;
+    public static final int DEPARTMENT = 5;
+
+    private final List<String> cells;
+
+    public WebTableRow(@NotNull List<String> cells) {
+        this.cells = Collections.unmodifiableList(cells);
+    }
+
+    public String getFirstName() {
+        return cell(FIRST_NAME);
+    }
+
+    public String getLastName() {
+        return cell(LAST_NAME);
+    }
+
+    public int getAge() {
+        return parseNumber(cell(AGE));
+    }
+
+    public String getEmail() {
+        return cell(EMAIL);
+    }
+
+    public int getSalary() {
+        return parseNumber(cell(SALARY));
+    }
+
+    public String getDepartment() {
+        return cell(DEPARTMENT);
+    }
+
+    public String cell(int columnIndex) {
+        return columnIndex < cells.size() ? cells.get(columnIndex) : "";
+    }
+
+    public List<String> getCells() {
+        return cells;
+    }
+
+    // react-table pads every page with empty rows up to the page size; those carry no data
+    public boolean isEmpty() {
+        for (String cell : cells) {
+            if (!cell.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean containsText(@NotNull String text) {
+        String needle = text.toLowerCase();
+        for (String cell : cells) {
+            if (cell.toLowerCase().contains(needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Same format as reading every cell with getText() and joining with spaces: "Zoran Dimitrievski 41 ... IT"
+    public String toDisplayText() {
+        StringBuilder rowText = new StringBuilder();
+        for (String cell : cells) {
+            rowText.append(cell).append(" ");
+        }
+        return rowText.toString().trim();
+    }
+
+    private static int parseNumber(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.join("\t", cells);
+    }
+}
@@ -0,0 +1,104 @@
+package com.demoqa.pages.elements;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/* In-memory copy of the Web Tables (react-table) grid, captured with a single executeScript call.
+Reading the grid element by element costs one findElements per row plus one getText() per cell, i.e. hundreds of
+WebDriver round-trips for a 100-row page. The script below walks the whole .rt-table in the browser and returns the
+header names and every cell text at once; searching and filtering then happen in plain Java. */
+
+public class WebTableSnapshot {
+
+    // Returns {headers: [...], rows: [[cell, ...], ...]} using innerText, which matches what getText() reports
+    private static final String CAPTURE_TABLE_SCRIPT =
+            "var table = document.querySelector('.rt-table');" +
+            "if (!table) { return null; }" +
+            "var text = function (el) { return (el.innerText || '').trim(); };" +
+            "var headers = Array.prototype.map.call(table.querySelectorAll('.rt-thead .rt-th'), text);" +
+            "var rows = Array.prototype.map.call(table.querySelectorAll('.rt-tbody .rt-tr-group'), function (group) {" +
+            "    return Array.prototype.map.call(group.querySelectorAll('.rt-td'), text);" +
+            "});" +
+            "return {headers: headers, rows: rows};";
+
+    private final List<String> headers;
+    private final List<WebTableRow> renderedRows;
+    private final List<WebTableRow> dataRows;
+
+    public WebTableSnapshot(@NotNull List<String> headers, @NotNull List<List<String>> rows) {
+        this.headers = Collections.unmodifiableList(new ArrayList<>(headers));
+        List<WebTableRow> allRows = new ArrayList<>(rows.size());
+        for (List<String> cells : rows) {
+            allRows.add(new WebTableRow(new ArrayList<>(cells)));
+        }
+        this.renderedRows = Collections.unmodifiableList(allRows);
+        this.dataRows = allRows.stream().filter(row -> !row.isEmpty()).collect(Collectors.toUnmodifiableList());
+    }
+
+
+    //region    Capture the current grid in one driver round-trip.
+    @SuppressWarnings("unchecked")
+    public static WebTableSnapshot capture(@NotNull JavascriptExecutor executor) {
+        Object result = executor.executeScript(CAPTURE_TABLE_SCRIPT);
+        if (!(result instanceof Map)) {
+            throw new IllegalStateException("Web table (.rt-table) was not found on the current page");
+        }
+        Map<String, Object> table = (Map<String, Object>) result;
+        List<String> headers = (List<String>) table.getOrDefault("headers", Collections.emptyList());
+        List<List<String>> rows = (List<List<String>>) table.getOrDefault("rows", Collections.emptyList());
+        return new WebTableSnapshot(headers, rows);
+    }
+    //endregion
+
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    public int getColumnCount() {
+        return headers.size();
+    }
+
+    // Every rendered row, including the empty padding rows react-table adds to fill a page
+    public int getRenderedRowCount() {
+        return renderedRows.size();
+    }
+
+    // Rows that actually hold data
+    public List<WebTableRow> getRows() {
+        return dataRows;
+    }
+
+    public List<WebTableRow> filter(@NotNull Predicate<WebTableRow> condition) {
+        return dataRows.stream().filter(condition).collect(Collectors.toList());
+    }
+
+    public Optional<WebTableRow> findFirst(@NotNull Predicate<WebTableRow> condition) {
+        return dataRows.stream().filter(condition).findFirst();
+    }
+
+    public Optional<WebTableRow> findByFirstName(@NotNull String firstName) {
+        return findFirst(row -> row.getFirstName().equals(firstName));
+    }
+
+    public Optional<WebTableRow> findByEmail(@NotNull String email) {
+        return findFirst(row -> row.getEmail().equalsIgnoreCase(email));
+    }
+
+    // Case-insensitive match in any cell, like the table's own search box
+    public List<WebTableRow> search(@NotNull String text) {
+        return filter(row -> row.containsText(text));
+    }
+
+    public List<String> columnValues(int columnIndex) {
+        return dataRows.stream().map(row -> row.cell(columnIndex)).collect(Collectors.toList());
+    }
+}
@@ -1,8 +1,11 @@
 package com.demoqa.pages.elements;
 
 import com.demoqa.pages.BasePage;
+import com.demoqa.pages.PageReadiness;
 import com.demoqa.pages.HomePage;
+import com.demoqa.utilities.SiteUrls;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -11,30 +14,40 @@ import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class WebTablesPage extends BasePage {
 
     private final HomePage homePage;
 
+    // CSS selectors of the form fields, used by their @FindBy and by fillFields
+    private static final String FIRST_NAME_INPUT = "#firstName";
+    private static final String LAST_NAME_INPUT = "#lastName";
+    private static final String EMAIL_INPUT = "#userEmail";
+    private static final String AGE_INPUT = "#age";
+    private static final String SALARY_INPUT = "#salary";
+    private static final String DEPARTMENT_INPUT = "#department";
+
 
     @FindBy(id = "item-3")
     private WebElement webTablesSectionLink;
     @FindBy(css = "#addNewRecordButton")
     private WebElement addButton;
-    @FindBy(id = "firstName")
+    @FindBy(css = FIRST_NAME_INPUT)
     private WebElement registrationFormFirstName;
 
-    @FindBy(id = "lastName")
+    @FindBy(css = LAST_NAME_INPUT)
     private WebElement registrationFormLastName;
-    @FindBy(id = "userEmail")
+    @FindBy(css = EMAIL_INPUT)
     private  WebElement registrationFormEmail;
-    @FindBy(id = "age")
+    @FindBy(css = AGE_INPUT)
     private WebElement registrationFormAge;
 
-    @FindBy(id = "salary")
+    @FindBy(css = SALARY_INPUT)
     private WebElement registrationFormSalary;
-    @FindBy(id = "department")
+    @FindBy(css = DEPARTMENT_INPUT)
     private WebElement registrationFormDepartment;
     @FindBy(id = "submit")
     private WebElement registrationFormSubmitBtn;
@@ -56,6 +69,11 @@ public class WebTablesPage extends BasePage {
         this.homePage = homePage; // Initialization of the HomePage reference
     }
 
+    @Override
+    protected PageReadiness readiness() {
+        return PageReadiness.documentInteractive().keyElements(".rt-tbody");
+    }
+
     public void navigateToWebTablesSubCategory() {
         homePage.clickElementsNavigationBar(); // Using the HomePage to click on navigation bar
         clickOnWebTablesSubCategory();  // Clicking on the "Web Tables" subcategory
@@ -64,7 +82,7 @@ public class WebTablesPage extends BasePage {
 
 
     public boolean isOnWebTablesSubCategory() {
-        return isCurrentPageUrlEqualTo("https://demoqa.com/webtables");
+        return isCurrentPageUrlEqualTo(SiteUrls.of("webtables"));
     }
 
     public void clickOnWebTablesSubCategory() {
@@ -103,15 +121,16 @@ public class WebTablesPage extends BasePage {
     }
 
 
-    public void retrieveAndPrintTableElements() {
-        for (WebElement row : rows) {
-
-            // Find all columns in the current row
-            List<WebElement> rowColumns = row.findElements(By.xpath(".//div[@class='rt-td']"));
+    // Reads the whole grid with one script call instead of one getText() round-trip per cell
+    public WebTableSnapshot getTableSnapshot() {
+        waitUntilElementIsVisible(table);
+        return WebTableSnapshot.capture((JavascriptExecutor) driver);
+    }
 
-            for (WebElement column : rowColumns) {
-                // Get the text of the column and print it
-                String columnText = column.getText();
+    public void retrieveAndPrintTableElements() {
+        for (WebTableRow row : getTableSnapshot().getRows()) {
+            // Print every column of the current row
+            for (String columnText : row.getCells()) {
                 System.out.print(columnText + "\t");
             }
             System.out.println(); // Move to the next row
@@ -146,13 +165,16 @@ public class WebTablesPage extends BasePage {
         sendKeysToElement(registrationFormDepartment, text);
     }
 
+    // Typed field by field, or set in one script call with form.fillMode=fast (see FillMode)
     public void enterUserDataInRegistrationForm(String firstName, String lastName, String email, String age, String salary, String department) {
-        enterFirstNameOnRegistrationForm(firstName);
-        enterLastNameOnRegistrationForm(lastName);
-        enterEmailOnRegistrationForm(email);
-        enterAgeOnRegistrationForm(age);
-        enterSalaryOnRegistrationForm(salary);
-        enterDepartmentOnRegistrationForm(department);
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put(FIRST_NAME_INPUT, firstName);
+        form.put(LAST_NAME_INPUT, lastName);
+        form.put(EMAIL_INPUT, email);
+        form.put(AGE_INPUT, age);
+        form.put(SALARY_INPUT, salary);
+        form.put(DEPARTMENT_INPUT, department);
+        fillFields(form);
     }
 
     public void clickOnRegistrationFormSubmitButton() {
@@ -161,24 +183,17 @@ public class WebTablesPage extends BasePage {
 
 
     public String verifyNewDataArePresentInTable() {
-        for (WebElement row : rows) {
-
-            // Find all cells in All rows
-            List<WebElement> rowCells = row.findElements(By.cssSelector(".rt-td"));
-
-            // Iterate through columns to find "Zoran" in the first name column
-            for (int i = 0; i < rowCells.size(); i++) {
-                if (i == 0 && rowCells.get(i).getText().equals("Zoran")) {
-                    // Found "Zoran" in the first name column, now extract all cell text in this row
-                    StringBuilder rowText = new StringBuilder();
-                    for (WebElement cell : rowCells) {
-                        rowText.append(cell.getText()).append(" ");
-                    }
-                    return rowText.toString().trim(); // Trim extra spaces
-                }
-            }
-        }
-        return null; // Return null if no "Zoran" was found in any row
+        // Find "Zoran" in the first name column and return all cell text of that row, or null if no row matches
+        return getTableSnapshot().findByFirstName("Zoran")
+                .map(WebTableRow::toDisplayText)
+                .orElse(null);
+    }
+
+    // All cell text of the row with the given email ("First Last Age Email Salary Department"), or null if no row matches
+    public String findRowTextByEmail(String email) {
+        return getTableSnapshot().findByEmail(email)
+                .map(WebTableRow::toDisplayText)
+                .orElse(null);
     }
 
 
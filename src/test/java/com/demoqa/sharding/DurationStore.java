@@ -0,0 +1,295 @@
+package com.demoqa.sharding;
+
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.LoggerUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/* Append-only history of test method durations, one tab separated line per method and run:
+  <epoch millis>  <class name>  <method name>  <duration ms>  <PASS|FLAKY|FAIL>
+Written by the DurationRecorder listener and read by the LongestFirstInterceptor, the ShardRunner and the FlakyTestPolicy.
+The file lives outside target/ (-Ddurations.file, default test-history/durations.tsv) so "mvn clean" keeps it; CI can cache
+that folder.
+Several JVMs (shards, parallel builds) may append at the same time, so every append and compaction holds the lock of
+<file>.lock. The history itself is not locked: compaction replaces it atomically, readers never lock, and on Windows a
+locked file could not even be read. */
+
+public class DurationStore {
+
+    private static final String SEPARATOR = "\t";
+    // One lock per history file for all stores of this JVM
+    private static final Map<Path, ReentrantLock> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Path lockFile;
+    private final ReentrantLock processLock;
+    private final int samplesPerMethod;
+
+    public DurationStore(@NotNull Path file, int samplesPerMethod) {
+        this.file = file;
+        this.lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        this.processLock = PROCESS_LOCKS.computeIfAbsent(lockFile.toAbsolutePath().normalize(), path -> new ReentrantLock());
+        this.samplesPerMethod = Math.max(1, samplesPerMethod);
+    }
+
+    // Store configured with -Ddurations.file and -Ddurations.samples (how many recent runs are averaged)
+    public static DurationStore fromConfig() {
+        return new DurationStore(Paths.get(ConfigReader.getString("durations.file", "test-history/durations.tsv")),
+                ConfigReader.getInt("durations.samples", 10));
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+
+    //region    Writing
+    public void append(@NotNull Collection<Sample> samples) throws IOException {
+        if (samples.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (Sample sample : samples) {
+            lines.append(sample.toLine()).append('\n');
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        whileLocked(() -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        });
+    }
+
+    // Replaces the file with only the samples that are still averaged once it has grown past maxLines.
+    // The new content is written to a temporary file and moved over the history, so load() sees the old or the new file.
+    public void compactIfLargerThan(int maxLines) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        whileLocked(() -> {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            if (lines.size() <= maxLines) {
+                return;
+            }
+            StringBuilder kept = new StringBuilder();
+            for (Deque<Sample> recent : recentSamples(lines).values()) {
+                for (Sample sample : recent) {
+                    kept.append(sample.toLine()).append('\n');
+                }
+            }
+            Path compacted = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(compacted, kept.toString().getBytes(StandardCharsets.UTF_8));
+                Files.move(compacted, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(compacted);
+            }
+            LoggerUtil.info("Compacted " + file + " from " + lines.size() + " lines");
+        });
+    }
+
+    /* The lock is taken on a file of its own: a lock on the history would be lost when compaction replaces the file,
+    and appenders waiting on it would then write to the replaced copy. File locks belong to the whole JVM, so threads of
+    one JVM first take turns on an in-process lock. */
+    private void whileLocked(FileAction action) throws IOException {
+        processLock.lock();
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            action.run();
+        } finally {
+            processLock.unlock();
+        }
+    }
+
+    private interface FileAction {
+        void run() throws IOException;
+    }
+    //endregion
+
+
+    //region    Reading
+    // Averages and outcomes of the most recent samples per method; an empty history when the file does not exist yet
+    public History load() {
+        if (!Files.isRegularFile(file)) {
+            return new History(Collections.emptyMap());
+        }
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            LoggerUtil.warning("Could not read test durations from " + file + ": " + e.getMessage());
+            return new History(Collections.emptyMap());
+        }
+
+        Map<String, History.MethodStats> stats = new LinkedHashMap<>();
+        recentSamples(lines).forEach((key, recent) -> stats.put(key, new History.MethodStats(
+                recent.stream().mapToLong(Sample::getMillis).sum() / recent.size(),
+                recent.size(),
+                (int) recent.stream().filter(sample -> sample.getStatus() == Status.FLAKY).count())));
+        return new History(stats);
+    }
+
+    private Map<String, Deque<Sample>> recentSamples(List<String> lines) {
+        Map<String, Deque<Sample>> recent = new LinkedHashMap<>();
+        for (String line : lines) {
+            Sample sample = Sample.parse(line);
+            if (sample == null) {
+                continue; // a line cut short by a killed JVM, or an edited file
+            }
+            Deque<Sample> samples = recent.computeIfAbsent(key(sample.getClassName(), sample.getMethodName()), k -> new ArrayDeque<>());
+            samples.addLast(sample);
+            if (samples.size() > samplesPerMethod) {
+                samples.removeFirst();
+            }
+        }
+        return recent;
+    }
+
+    public static String key(String className, String methodName) {
+        return className + "#" + methodName;
+    }
+    //endregion
+
+
+    // Outcome of a method in one run; FLAKY means it passed, but only after an infrastructure failure was retried
+    public enum Status {
+        PASS, FLAKY, FAIL
+    }
+
+
+    // Duration of one test method in one run; data-driven methods are summed over all their invocations
+    public static final class Sample {
+        private final long timestamp;
+        private final String className;
+        private final String methodName;
+        private final long millis;
+        private final Status status;
+
+        public Sample(long timestamp, @NotNull String className, @NotNull String methodName, long millis, @NotNull Status status) {
+            this.timestamp = timestamp;
+            this.className = className;
+            this.methodName = methodName;
+            this.millis = millis;
+            this.status = status;
+        }
+
+        static Sample parse(String line) {
+            String[] fields = line.split(SEPARATOR);
+            if (fields.length < 5) {
+                return null;
+            }
+            try {
+                return new Sample(Long.parseLong(fields[0]), fields[1], fields[2], Long.parseLong(fields[3]), Status.valueOf(fields[4]));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        String toLine() {
+            return timestamp + SEPARATOR + className + SEPARATOR + methodName + SEPARATOR + millis + SEPARATOR + status;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public String getMethodName() {
+            return methodName;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+    }
+
+
+    // Read-only averages and flake counts loaded from the store
+    public static final class History {
+        private final Map<String, MethodStats> statsByMethod;
+
+        History(Map<String, MethodStats> statsByMethod) {
+            this.statsByMethod = statsByMethod;
+        }
+
+        public OptionalLong methodMillis(String className, String methodName) {
+            MethodStats stats = statsByMethod.get(key(className, methodName));
+            return stats == null ? OptionalLong.empty() : OptionalLong.of(stats.averageMillis);
+        }
+
+        // Number of recent runs of the method, at most durations.samples
+        public int runs(String className, String methodName) {
+            MethodStats stats = statsByMethod.get(key(className, methodName));
+            return stats == null ? 0 : stats.runs;
+        }
+
+        // Share of the recent runs that only passed after a retry
+        public double flakeRate(String className, String methodName) {
+            MethodStats stats = statsByMethod.get(key(className, methodName));
+            return stats == null ? 0 : (double) stats.flakyRuns / stats.runs;
+        }
+
+        // Sum of the method averages of a class, i.e. the estimated time of one run of the whole class
+        public Map<String, Long> classTotals() {
+            Map<String, Long> totals = new LinkedHashMap<>();
+            statsByMethod.forEach((key, stats) ->
+                    totals.merge(key.substring(0, key.lastIndexOf('#')), stats.averageMillis, Long::sum));
+            return totals;
+        }
+
+        public List<Long> methodAverages() {
+            List<Long> averages = new ArrayList<>();
+            statsByMethod.values().forEach(stats -> averages.add(stats.averageMillis));
+            return averages;
+        }
+
+        public boolean isEmpty() {
+            return statsByMethod.isEmpty();
+        }
+
+        private static final class MethodStats {
+            private final long averageMillis;
+            private final int runs;
+            private final int flakyRuns;
+
+            private MethodStats(long averageMillis, int runs, int flakyRuns) {
+                this.averageMillis = averageMillis;
+                this.runs = runs;
+                this.flakyRuns = flakyRuns;
+            }
+        }
+    }
+}
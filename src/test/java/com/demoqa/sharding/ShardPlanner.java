@@ -0,0 +1,108 @@
+package com.demoqa.sharding;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+
+/* Splits test classes over N shards so that the shards finish at about the same time.
+Classes are assigned longest first, each to the shard with the smallest total so far (the LPT rule, at most 4/3 of the
+best possible makespan). Classes without history are estimated with the median of the known ones, or one minute when
+nothing is known yet. Ties are broken by name, so every node computes the same plan from the same history. */
+
+public class ShardPlanner {
+
+    static final long DEFAULT_ESTIMATE_MILLIS = 60_000;
+
+    // One schedulable unit: a class inside a <test> block of a suite
+    public static final class Unit {
+        private final String testName;
+        private final String className;
+        private final long estimatedMillis;
+        private final boolean measured;
+
+        public Unit(@NotNull String testName, @NotNull String className, long estimatedMillis, boolean measured) {
+            this.testName = testName;
+            this.className = className;
+            this.estimatedMillis = estimatedMillis;
+            this.measured = measured;
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public long getEstimatedMillis() {
+            return estimatedMillis;
+        }
+
+        public boolean isMeasured() {
+            return measured;
+        }
+
+        @Override
+        public String toString() {
+            return TestDurations.key(testName, className) + " ~" + estimatedMillis + "ms" + (measured ? "" : " (no history)");
+        }
+    }
+
+    // Builds units for the given <test>/class pairs with estimates from the history
+    public static List<Unit> estimate(@NotNull List<String[]> testAndClassNames, @NotNull TestDurations history) {
+        List<Long> known = new ArrayList<>();
+        for (String[] pair : testAndClassNames) {
+            history.estimate(pair[0], pair[1]).ifPresent(known::add);
+        }
+        long fallback = DEFAULT_ESTIMATE_MILLIS;
+        if (!known.isEmpty()) {
+            known.sort(null);
+            fallback = known.get(known.size() / 2);
+        }
+
+        List<Unit> units = new ArrayList<>();
+        for (String[] pair : testAndClassNames) {
+            OptionalLong estimate = history.estimate(pair[0], pair[1]);
+            units.add(new Unit(pair[0], pair[1], estimate.orElse(fallback), estimate.isPresent()));
+        }
+        return units;
+    }
+
+    public static List<List<Unit>> plan(@NotNull List<Unit> units, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1, was " + shardCount);
+        }
+        List<Unit> longestFirst = new ArrayList<>(units);
+        longestFirst.sort(Comparator.comparingLong(Unit::getEstimatedMillis).reversed()
+                .thenComparing(Unit::getTestName).thenComparing(Unit::getClassName));
+
+        List<List<Unit>> shards = new ArrayList<>();
+        long[] totals = new long[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (Unit unit : longestFirst) {
+            int lightest = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (totals[i] < totals[lightest]) {
+                    lightest = i;
+                }
+            }
+            shards.get(lightest).add(unit);
+            totals[lightest] += unit.getEstimatedMillis();
+        }
+        return shards;
+    }
+
+    public static long totalMillis(@NotNull List<Unit> shard) {
+        long total = 0;
+        for (Unit unit : shard) {
+            total += unit.getEstimatedMillis();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,102 @@
+package com.demoqa.sharding;
+
+import org.jetbrains.annotations.NotNull;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/* Combines the testng-results.xml of every shard into one file with the same layout, so CI report plugins and the next
+ShardRunner plan (which reads durations from it) see a single run. Counters are summed and every <suite> element is
+copied as is. Allure results need no merge step: each shard writes uniquely named files into the same allure-results. */
+
+public class ShardResultMerger {
+
+    private static final String[] COUNTERS = {"total", "passed", "failed", "skipped", "ignored"};
+
+    // Totals of a merged run
+    public static final class Summary {
+        private final long[] counters;
+        private final int shardCount;
+
+        private Summary(long[] counters, int shardCount) {
+            this.counters = counters;
+            this.shardCount = shardCount;
+        }
+
+        public long getTotal() {
+            return counters[0];
+        }
+
+        public long getPassed() {
+            return counters[1];
+        }
+
+        public long getFailed() {
+            return counters[2];
+        }
+
+        public long getSkipped() {
+            return counters[3];
+        }
+
+        public int getShardCount() {
+            return shardCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d shards: %d tests, %d passed, %d failed, %d skipped",
+                    shardCount, getTotal(), getPassed(), getFailed(), getSkipped());
+        }
+    }
+
+    public static Summary merge(@NotNull List<Path> shardResults, @NotNull Path mergedFile) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+
+        Document merged = builder.newDocument();
+        Element root = merged.createElement("testng-results");
+        merged.appendChild(root);
+        root.appendChild(merged.createElement("reporter-output"));
+
+        long[] counters = new long[COUNTERS.length];
+        for (Path shardResult : shardResults) {
+            Element shardRoot = builder.parse(shardResult.toFile()).getDocumentElement();
+            for (int i = 0; i < COUNTERS.length; i++) {
+                String value = shardRoot.getAttribute(COUNTERS[i]);
+                counters[i] += value.isEmpty() ? 0 : Long.parseLong(value);
+            }
+            NodeList children = shardRoot.getChildNodes();
+            for (int i = 0; i < children.getLength(); i++) {
+                Node child = children.item(i);
+                if (child instanceof Element && ((Element) child).getTagName().equals("suite")) {
+                    root.appendChild(merged.importNode(child, true));
+                }
+            }
+        }
+        for (int i = 0; i < COUNTERS.length; i++) {
+            root.setAttribute(COUNTERS[i], String.valueOf(counters[i]));
+        }
+
+        if (mergedFile.getParent() != null) {
+            Files.createDirectories(mergedFile.getParent());
+        }
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.transform(new DOMSource(merged), new StreamResult(mergedFile.toFile()));
+        return new Summary(counters, shardResults.size());
+    }
+}
@@ -0,0 +1,281 @@
+package com.demoqa.sharding;
+
+import com.demoqa.utilities.LoggerUtil;
+import org.testng.TestNG;
+import org.testng.xml.SuiteXmlParser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/* Runs TestNG suites split into N shards, each in its own forked JVM (or on its own CI node), balanced by historical
+class durations, then merges the shard results into <out>/merged/testng-results.xml.
+  mvn -Pshard test -Dshard.args="--suite src/test/resources/testngconfigs/parallel-tests.xml --shards 3"
+Options:
+  --suite <xml>        suite file to split, repeatable (default parallel-tests.xml)
+  --shards <n>         number of shards (default 2)
+  --shard-index <i>    only run shard i, for one CI node per shard; every node computes the same plan
+  --merge              only merge the shard results already present in --out (after collecting them from the nodes)
+  --history <path>     testng-results.xml file or directory with past results, repeatable
+                       (default: the last merged result and target/surefire-reports; the DurationStore is always read)
+  --out <dir>          working directory (default target/shards)
+  -- <jvm args>        everything after "--" is passed to the forked JVMs, e.g. -- -Dbrowser.profile=ci
+Classes are the unit of sharding: methods of one class share the class instance, priorities and the pooled drivers. */
+
+public class ShardRunner {
+
+    private final List<Path> suites = new ArrayList<>();
+    private final List<Path> historySources = new ArrayList<>();
+    private final List<String> jvmArgs = new ArrayList<>();
+    private int shardCount = 2;
+    private Integer onlyShard;
+    private boolean mergeOnly;
+    private Path outDir = Paths.get("target", "shards");
+
+    public static void main(String[] args) throws Exception {
+        ShardRunner runner = new ShardRunner();
+        runner.parseArguments(args);
+        int exitCode = runner.run();
+        LoggerUtil.flush();
+        System.exit(exitCode);
+    }
+
+    private void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--suite": suites.add(Paths.get(args[++i])); break;
+                case "--shards": shardCount = Integer.parseInt(args[++i]); break;
+                case "--shard-index": onlyShard = Integer.parseInt(args[++i]); break;
+                case "--merge": mergeOnly = true; break;
+                case "--history": historySources.add(Paths.get(args[++i])); break;
+                case "--out": outDir = Paths.get(args[++i]); break;
+                case "--":
+                    for (i++; i < args.length; i++) {
+                        jvmArgs.add(args[i]);
+                    }
+                    break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i] + " (see the ShardRunner class comment)");
+            }
+        }
+        if (suites.isEmpty()) {
+            suites.add(Paths.get("src/test/resources/testngconfigs/parallel-tests.xml"));
+        }
+        if (historySources.isEmpty()) {
+            historySources.add(outDir.resolve("merged").resolve("testng-results.xml"));
+            historySources.add(Paths.get("target", "surefire-reports", "testng-results.xml"));
+        }
+        if (onlyShard != null && (onlyShard < 0 || onlyShard >= shardCount)) {
+            throw new IllegalArgumentException("--shard-index must be between 0 and " + (shardCount - 1));
+        }
+    }
+
+    int run() throws Exception {
+        if (mergeOnly) {
+            return merge();
+        }
+
+        List<XmlSuite> parsedSuites = new ArrayList<>();
+        for (Path suite : suites) {
+            parsedSuites.add(parseSuite(suite));
+        }
+        TestDurations durations = TestDurations.load(historySources);
+        durations.addHistory(DurationStore.fromConfig().load());
+        List<List<ShardPlanner.Unit>> plan = ShardPlanner.plan(
+                ShardPlanner.estimate(testAndClassNames(parsedSuites), durations), shardCount);
+        writePlan(plan);
+        // Results of an earlier run (possibly with another shard count) must not end up in this merge
+        removeShardResults();
+
+        Map<Integer, Process> forks = new LinkedHashMap<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (onlyShard != null && shard != onlyShard) {
+                continue;
+            }
+            if (plan.get(shard).isEmpty()) {
+                LoggerUtil.warning("Shard " + shard + " has no classes, more shards than classes?");
+                continue;
+            }
+            Path shardSuite = writeShardSuite(parsedSuites, plan.get(shard), shard);
+            forks.put(shard, fork(shard, shardSuite));
+        }
+
+        boolean forksSucceeded = true;
+        for (Map.Entry<Integer, Process> fork : forks.entrySet()) {
+            int exitCode = fork.getValue().waitFor();
+            LoggerUtil.info("Shard " + fork.getKey() + " finished with exit code " + exitCode
+                    + " (log: " + shardDir(fork.getKey()).resolve("output.log") + ")");
+            // TestNG exits with 1 for failed and 2 for skipped tests; anything else means the fork itself broke
+            forksSucceeded &= exitCode == 0 || exitCode == 1 || exitCode == 2;
+        }
+        if (onlyShard != null) {
+            return forksSucceeded ? 0 : 3;
+        }
+        int mergeResult = merge();
+        return forksSucceeded ? mergeResult : 3;
+    }
+
+
+    //region    Plan and shard suites
+    private static XmlSuite parseSuite(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return new SuiteXmlParser().parse(file.toString(), in, true);
+        }
+    }
+
+    private static List<String[]> testAndClassNames(List<XmlSuite> parsedSuites) {
+        List<String[]> pairs = new ArrayList<>();
+        for (XmlSuite suite : parsedSuites) {
+            for (XmlTest test : suite.getTests()) {
+                for (XmlClass xmlClass : test.getXmlClasses()) {
+                    pairs.add(new String[]{test.getName(), xmlClass.getName()});
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private void writePlan(List<List<ShardPlanner.Unit>> plan) throws IOException {
+        Files.createDirectories(outDir);
+        StringBuilder text = new StringBuilder();
+        for (int shard = 0; shard < plan.size(); shard++) {
+            text.append("Shard ").append(shard).append(" ~").append(ShardPlanner.totalMillis(plan.get(shard))).append("ms\n");
+            for (ShardPlanner.Unit unit : plan.get(shard)) {
+                text.append("  ").append(unit).append('\n');
+            }
+            LoggerUtil.info(String.format("Shard %d: %d classes, estimated %.1f s", shard, plan.get(shard).size(),
+                    ShardPlanner.totalMillis(plan.get(shard)) / 1000.0));
+        }
+        Files.writeString(outDir.resolve("plan.txt"), text, StandardCharsets.UTF_8);
+    }
+
+    // A copy of the original suites restricted to the classes of one shard, keeping suite and <test> settings
+    private Path writeShardSuite(List<XmlSuite> parsedSuites, List<ShardPlanner.Unit> units, int shard) throws IOException {
+        Path dir = shardDir(shard);
+        Files.createDirectories(dir);
+        List<String> files = new ArrayList<>();
+        for (int s = 0; s < parsedSuites.size(); s++) {
+            XmlSuite original = parsedSuites.get(s);
+            XmlSuite copy = new XmlSuite();
+            copy.setName(original.getName());
+            copy.setParallel(original.getParallel());
+            copy.setThreadCount(original.getThreadCount());
+            copy.setDataProviderThreadCount(original.getDataProviderThreadCount());
+            copy.setParameters(original.getParameters());
+            copy.setListeners(original.getListeners());
+            copy.setPreserveOrder(original.getPreserveOrder());
+
+            for (XmlTest originalTest : original.getTests()) {
+                List<XmlClass> classes = new ArrayList<>();
+                for (XmlClass xmlClass : originalTest.getXmlClasses()) {
+                    if (isAssigned(units, originalTest.getName(), xmlClass.getName())) {
+                        classes.add((XmlClass) xmlClass.clone());
+                    }
+                }
+                if (classes.isEmpty()) {
+                    continue;
+                }
+                XmlTest test = new XmlTest(copy);
+                test.setName(originalTest.getName());
+                test.setParameters(originalTest.getLocalParameters());
+                test.setIncludedGroups(originalTest.getIncludedGroups());
+                test.setExcludedGroups(originalTest.getExcludedGroups());
+                test.setParallel(originalTest.getParallel());
+                test.setThreadCount(originalTest.getThreadCount());
+                test.setPreserveOrder(originalTest.getPreserveOrder());
+                test.setXmlClasses(classes);
+            }
+            if (!copy.getTests().isEmpty()) {
+                Path file = dir.resolve("suite-" + s + ".xml");
+                Files.writeString(file, copy.toXml(), StandardCharsets.UTF_8);
+                files.add(file.toString());
+            }
+        }
+        // One TestNG run per shard executes all of its suite files
+        Path list = dir.resolve("suites.txt");
+        Files.write(list, files, StandardCharsets.UTF_8);
+        return list;
+    }
+
+    private static boolean isAssigned(List<ShardPlanner.Unit> units, String testName, String className) {
+        for (ShardPlanner.Unit unit : units) {
+            if (unit.getTestName().equals(testName) && unit.getClassName().equals(className)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    //endregion
+
+
+    //region    Forks and merge
+    private Process fork(int shard, Path suiteList) throws IOException {
+        Path dir = shardDir(shard);
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-Dshard.index=" + shard);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(TestNG.class.getName());
+        command.add("-d");
+        command.add(dir.resolve("results").toString());
+        command.addAll(Files.readAllLines(suiteList, StandardCharsets.UTF_8));
+
+        LoggerUtil.info("Starting shard " + shard + " in a forked JVM");
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(dir.resolve("output.log").toFile())
+                .start();
+    }
+
+    private int merge() throws Exception {
+        List<Path> results;
+        try (Stream<Path> dirs = Files.list(outDir)) {
+            results = dirs.filter(dir -> dir.getFileName().toString().startsWith("shard-"))
+                    .map(dir -> dir.resolve("results").resolve("testng-results.xml"))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        if (results.isEmpty()) {
+            LoggerUtil.warning("No shard results found in " + outDir);
+            return 3;
+        }
+        Path mergedFile = outDir.resolve("merged").resolve("testng-results.xml");
+        ShardResultMerger.Summary summary = ShardResultMerger.merge(results, mergedFile);
+        LoggerUtil.info("Merged " + summary + " into " + mergedFile);
+        return summary.getFailed() > 0 ? 1 : 0;
+    }
+
+    private void removeShardResults() throws IOException {
+        try (Stream<Path> dirs = Files.list(outDir)) {
+            for (Path dir : dirs.filter(d -> d.getFileName().toString().startsWith("shard-")).collect(Collectors.toList())) {
+                if (onlyShard == null || dir.equals(shardDir(onlyShard))) {
+                    try (Stream<Path> files = Files.walk(dir)) {
+                        for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                            Files.delete(file);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private Path shardDir(int shard) {
+        return outDir.resolve("shard-" + shard);
+    }
+    //endregion
+}
@@ -0,0 +1,109 @@
+package com.demoqa.sharding;
+
+import com.demoqa.utilities.LoggerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+/* Historical run time of every test class, averaged over the TestNG results files it was loaded from.
+A class is looked up per <test> block first ("Elements Tests/com.demoqa.tests.elements.TextBoxTest") and then by class name,
+so a class listed in several blocks of a suite still finds an estimate. Configuration methods (the browser setUp and
+tearDown) are counted too, since they are part of what a shard spends on the class. */
+
+public class TestDurations {
+
+    private final Map<String, long[]> totalsByKey = new HashMap<>();   // key -> {sum of run totals, number of runs}
+
+    // Loads testng-results.xml files, or every testng-results.xml below the given directories; missing paths are skipped
+    public static TestDurations load(@NotNull List<Path> sources) {
+        TestDurations durations = new TestDurations();
+        for (Path source : sources) {
+            if (Files.isRegularFile(source)) {
+                durations.addResultsFile(source);
+            } else if (Files.isDirectory(source)) {
+                try (Stream<Path> files = Files.walk(source, 4)) {
+                    files.filter(file -> file.getFileName().toString().equals("testng-results.xml"))
+                            .forEach(durations::addResultsFile);
+                } catch (Exception e) {
+                    LoggerUtil.warning("Could not scan " + source + " for test results: " + e.getMessage());
+                }
+            }
+        }
+        return durations;
+    }
+
+    public void addResultsFile(@NotNull Path resultsFile) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            Document document = factory.newDocumentBuilder().parse(resultsFile.toFile());
+
+            Map<String, Long> runTotals = new HashMap<>();
+            NodeList tests = document.getElementsByTagName("test");
+            for (int t = 0; t < tests.getLength(); t++) {
+                Element test = (Element) tests.item(t);
+                NodeList classes = test.getElementsByTagName("class");
+                for (int c = 0; c < classes.getLength(); c++) {
+                    Element testClass = (Element) classes.item(c);
+                    long classMillis = 0;
+                    NodeList methods = testClass.getElementsByTagName("test-method");
+                    for (int m = 0; m < methods.getLength(); m++) {
+                        classMillis += parseLong(((Element) methods.item(m)).getAttribute("duration-ms"));
+                    }
+                    String className = testClass.getAttribute("name");
+                    runTotals.merge(key(test.getAttribute("name"), className), classMillis, Long::sum);
+                    runTotals.merge(className, classMillis, Long::sum);
+                }
+            }
+            runTotals.forEach(this::addRun);
+        } catch (Exception e) {
+            LoggerUtil.warning("Ignoring unreadable test results " + resultsFile + ": " + e.getMessage());
+        }
+    }
+
+    // Adds the class totals of the DurationStore as one more run per class, for classes run outside the sharded suites
+    public void addHistory(@NotNull DurationStore.History history) {
+        history.classTotals().forEach(this::addRun);
+    }
+
+    // Adds one observed run of a class (or of a <test>/class pair, see key)
+    public void addRun(@NotNull String key, long millis) {
+        long[] totals = totalsByKey.computeIfAbsent(key, k -> new long[2]);
+        totals[0] += millis;
+        totals[1]++;
+    }
+
+    public OptionalLong estimate(@NotNull String testName, @NotNull String className) {
+        long[] totals = totalsByKey.get(key(testName, className));
+        if (totals == null) {
+            totals = totalsByKey.get(className);
+        }
+        return totals == null ? OptionalLong.empty() : OptionalLong.of(totals[0] / totals[1]);
+    }
+
+    public boolean isEmpty() {
+        return totalsByKey.isEmpty();
+    }
+
+    public static String key(String testName, String className) {
+        return testName + "/" + className;
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -1,27 +1,31 @@
 package com.demoqa.tests;
 
+import com.demoqa.listeners.FailureClassifier;
 import com.demoqa.pages.*;
 import com.demoqa.pages.elements.*;
-import com.demoqa.utilities.RandomDataGenerator;
+import com.demoqa.utilities.BrowserProfile;
+import com.demoqa.utilities.LoggerUtil;
+import com.demoqa.utilities.NavigationCache;
+import com.demoqa.utilities.SiteUrls;
+import com.demoqa.utilities.TestDataPool;
+import com.demoqa.utilities.TestPerson;
 import com.demoqa.utilities.WebDriverManager;
+import com.demoqa.utilities.WebDriverPool;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.ITestResult;
+import org.testng.Reporter;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
-import java.time.Duration;
-
 public class BaseTest {
-    // region WebDriver, WebDriverWait, and Actions Declaration
-    protected WebDriver driver;
-    protected WebDriverWait wait;
-    protected Actions actions;
-    // endregion
-
-    WebDriverManager webDriverManager;
+    /* The WebDriver, WebDriverWait, Actions and page objects live in a per-thread TestContext, not in instance fields,
+    because with parallel="methods" several test methods of the same class instance run at the same time. */
 
 
     // Variables to store generated data for testing.
@@ -38,68 +42,163 @@ public class BaseTest {
    // public RandomDataGenerator randomDataGenerator;
 
     public BaseTest() {
-        // Generate random data once for the entire test class.
-        getRandomEmail = RandomDataGenerator.getRandomEmail();
-        getRandomPassword = RandomDataGenerator.getRandomPassword();
-        getRandomFirstName = RandomDataGenerator.getRandomFirstName();
-        getRandomLastName = RandomDataGenerator.getRandomLastName();
-        getRandomFullName = RandomDataGenerator.getRandomFullName();
-        getRandomPhoneNumber = RandomDataGenerator.getRandomPhoneNumber();
-        getRandomCellNumber = RandomDataGenerator.getRandomCellNumber();
-        getRandomAddress  = RandomDataGenerator.getRandomAddress();
+        // Take one pre-generated person for the entire test class; the pool is built once per JVM (see TestDataPool)
+        TestPerson person = TestDataPool.shared().next();
+        getRandomEmail = person.getEmail();
+        getRandomPassword = person.getPassword();
+        getRandomFirstName = person.getFirstName();
+        getRandomLastName = person.getLastName();
+        getRandomFullName = person.getFullName();
+        getRandomPhoneNumber = person.getPhoneNumber();
+        getRandomCellNumber = person.getCellNumber();
+        getRandomAddress  = person.getAddress();
+    }
+
+
+    // region WebDriver, WebDriverWait, and Actions of the current test thread
+    protected WebDriver driver() {
+        return TestContext.current().getDriver();
+    }
+
+    protected WebDriverWait webDriverWait() {
+        return TestContext.current().getWait();
+    }
+
+    protected Actions actions() {
+        return TestContext.current().getActions();
+    }
+
+    // Lazily populated page objects of the current test, e.g. pages().get(WebTablesPage.class)
+    protected PageRegistry pages() {
+        return TestContext.current().getPages();
+    }
+    // endregion
+
+
+    // region Page Objects of the current test thread (created on first use)
+    public HomePage homePage() {
+        return pages().get(HomePage.class);
+    }
+
+    public BrokenLinks_ImagesPage brokenLinksImagesPage() {
+        return pages().get(BrokenLinks_ImagesPage.class);
+    }
+
+    public ButtonsPage buttonsPage() {
+        return pages().get(ButtonsPage.class);
+    }
+
+    public CheckBoxPage checkBoxPage() {
+        return pages().get(CheckBoxPage.class);
+    }
+
+    public DynamicPropertiesPage dynamicPropertiesPage() {
+        return pages().get(DynamicPropertiesPage.class);
+    }
+
+    public LinksPage linksPage() {
+        return pages().get(LinksPage.class);
+    }
+
+    public RadioButtonPage radioButtonPage() {
+        return pages().get(RadioButtonPage.class);
+    }
+
+    public TextBoxPage textBoxPage() {
+        return pages().get(TextBoxPage.class);
     }
 
+    public UploadAndDownloadPage uploadAndDownloadPage() {
+        return pages().get(UploadAndDownloadPage.class);
+    }
 
-    // region Page Object Declaration
-    public HomePage homePage;
-    public BrokenLinks_ImagesPage brokenLinksImagesPage;
-    public ButtonsPage buttonsPage;
-    public CheckBoxPage checkBoxPage;
-    public DynamicPropertiesPage dynamicPropertiesPage;
-    public LinksPage linksPage;
-    public RadioButtonPage radioButtonPage;
-    public TextBoxPage textBoxPage;
-    public UploadAndDownloadPage uploadAndDownloadPage;
-    public WebTablesPage webTablesPage;
+    public WebTablesPage webTablesPage() {
+        return pages().get(WebTablesPage.class);
+    }
+    // endregion
 
 
 
 
-    @Parameters("browser")
-    @BeforeMethod
-    public void setUp(@Optional("chrome") String browserName) {
+    // region Navigation shortcuts (see NavigationCache)
+    // ITestResult attribute set on tests that jumped to the end of a navigation chain instead of clicking through it
+    public static final String NAVIGATION_SHORTCUT_ATTRIBUTE = "navigationShortcut";
+
+    // Clicks through the chain the first time and records where it ended; later tests restore the recorded cookies and
+    // localStorage and open that URL directly. A shortcut that does not reach a ready page falls back to the clicks.
+    protected void navigateVia(String chain, BasePage target, Runnable clicks) {
+        NavigationCache cache = NavigationCache.global();
+        String key = NavigationCache.key(SiteUrls.baseUrl(), chain);
+        NavigationCache.Snapshot snapshot = cache.get(key).orElse(null);
+        if (snapshot != null && cache.restoreState(driver(), snapshot)) {
+            try {
+                target.navigateToPage(snapshot.getUrl());
+                reportShortcut(chain, snapshot.getUrl());
+                cache.recordShortcut();
+                return;
+            } catch (TimeoutException e) {
+                LoggerUtil.warning("Navigation shortcut " + chain + " did not reach a ready page, clicking through: " + e.getMessage());
+                cache.evict(key);
+                homePage().open();
+            }
+        }
+        clicks.run();
+        target.waitUntilReady();
+        cache.record(key, driver());
+    }
+
+    // Home page > Elements > a sub-category of the side menu
+    protected void openElementsSubCategory(String subCategory, BasePage target, Runnable subCategoryClick) {
+        navigateVia("elements/" + subCategory, target, () -> {
+            homePage().clickElementsNavigationBar();
+            subCategoryClick.run();
+        });
+    }
+
+    // Flags the test in the TestNG results and the Allure report (excluded from the Allure history id)
+    private static void reportShortcut(String chain, String url) {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result != null) {
+            result.setAttribute(NAVIGATION_SHORTCUT_ATTRIBUTE, chain);
+        }
+        Allure.parameter("Navigation shortcut", chain, true);
+        LoggerUtil.info("Navigation shortcut " + chain + " -> " + url);
+    }
+    // endregion
+
+
+    @Parameters({"browser", "profile"})
+    @BeforeMethod(alwaysRun = true)
+    public void setUp(@Optional("chrome") String browserName, @Optional("") String profile) {
         // If the TestNG parameter is not provided, use the default browser (Chrome)
         if (browserName == null || browserName.isEmpty()) {
             browserName = "chrome";
         }
 
-        webDriverManager = new WebDriverManager();
-
-        // region Initiate the WebDriver, WebDriverWait, and Actions Initialization
-        driver = webDriverManager.initiateDriver(browserName);
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        actions = new Actions(driver);
-
-        // Initialize Page Objects
-        homePage = new HomePage(driver, wait);
-        brokenLinksImagesPage = new BrokenLinks_ImagesPage(driver, wait);
-        buttonsPage = new ButtonsPage(driver, wait);
-        checkBoxPage = new CheckBoxPage(driver, wait);
-        dynamicPropertiesPage =new DynamicPropertiesPage(driver, wait);
-        linksPage = new LinksPage(driver, wait);
-        radioButtonPage = new RadioButtonPage(driver, wait);
-        textBoxPage = new TextBoxPage(driver, wait);
-        uploadAndDownloadPage = new UploadAndDownloadPage(driver, wait);
-        webTablesPage = new WebTablesPage(driver, wait, homePage);
-
-        driver.get("https://demoqa.com/");
-        driver.manage().window().maximize();
+        // Lease a WebDriver with the requested launch profile from the shared pool and bind it to this thread.
+        // The profile sizes the window when the browser starts, so there is no maximize() round-trip per test.
+        String driverKey = WebDriverManager.driverKey(browserName, BrowserProfile.resolve(profile));
+        WebDriver driver = WebDriverPool.getInstance().acquire(driverKey);
+        TestContext.start(driver);
+
+        // Returns once the home page cards are present; with -Dbrowser.pageLoadStrategy=eager|none ads and images may still load
+        homePage().open();
         driver.manage().deleteAllCookies();
 
     }
 
-    @AfterMethod
-    public void tearDown(){
-        driver.quit();
+    @AfterMethod(alwaysRun = true)
+    public void tearDown(ITestResult result){
+        // Hand the session back to the pool, it is reset and reused by the next test instead of being quit.
+        // After a timeout, stale element or crash the session is discarded, so a retry starts on a fresh browser.
+        TestContext context = TestContext.end();
+        if (context == null) {
+            return;
+        }
+        if (result != null && FailureClassifier.isInfrastructureFailure(result.getThrowable())) {
+            WebDriverPool.getInstance().invalidate(context.getDriver());
+        } else {
+            WebDriverPool.getInstance().release(context.getDriver());
+        }
     }
 }
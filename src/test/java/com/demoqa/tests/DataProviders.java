@@ -0,0 +1,57 @@
+package com.demoqa.tests;
+
+import com.demoqa.utilities.ConfigReader;
+import com.demoqa.utilities.DataSource;
+import org.testng.ITestContext;
+import org.testng.annotations.DataProvider;
+
+import java.util.Iterator;
+
+/* Streaming data providers for the data-driven tests (see data-driven-tests.xml).
+Each provider reads its file lazily through DataSource and hands TestNG one DataRecord per invocation.
+ - data.webTableUsers / data.textBoxForms   file to read (classpath sample by default, any path for large files)
+ - data.shard.index / data.shard.count      slice of the file for this <test> block (TestNG parameter or system property)
+ - data.limit                               maximum rows per shard (TestNG parameter or system property)
+The *Parallel variants run the rows of a shard on data-provider-thread-count threads. TestNG queues every invocation of
+a parallel provider up front, so for very large files prefer more shards with the sequential providers, which keep
+only the current row in memory. */
+
+public class DataProviders {
+
+    private static final String WEB_TABLE_USERS = "classpath:/data/web-table-users.csv";
+    private static final String TEXT_BOX_FORMS = "classpath:/data/text-box-forms.jsonl";
+
+    @DataProvider(name = "webTableUsers")
+    public static Iterator<Object[]> webTableUsers(ITestContext context) {
+        return source(context, "data.webTableUsers", WEB_TABLE_USERS);
+    }
+
+    @DataProvider(name = "webTableUsersParallel", parallel = true)
+    public static Iterator<Object[]> webTableUsersParallel(ITestContext context) {
+        return source(context, "data.webTableUsers", WEB_TABLE_USERS);
+    }
+
+    @DataProvider(name = "textBoxForms")
+    public static Iterator<Object[]> textBoxForms(ITestContext context) {
+        return source(context, "data.textBoxForms", TEXT_BOX_FORMS);
+    }
+
+    @DataProvider(name = "textBoxFormsParallel", parallel = true)
+    public static Iterator<Object[]> textBoxFormsParallel(ITestContext context) {
+        return source(context, "data.textBoxForms", TEXT_BOX_FORMS);
+    }
+
+    private static Iterator<Object[]> source(ITestContext context, String fileProperty, String defaultFile) {
+        DataSource source = DataSource.open(setting(context, fileProperty, defaultFile))
+                .shard(Integer.parseInt(setting(context, "data.shard.index", "0")),
+                        Integer.parseInt(setting(context, "data.shard.count", "1")));
+        long limit = Long.parseLong(setting(context, "data.limit", String.valueOf(Long.MAX_VALUE)));
+        return source.limit(limit).iterator();
+    }
+
+    // The <test> parameter wins over the system property so that one suite file can define several shards
+    private static String setting(ITestContext context, String name, String defaultValue) {
+        String parameter = context == null ? null : context.getCurrentXmlTest().getParameter(name);
+        return parameter != null && !parameter.isBlank() ? parameter.trim() : ConfigReader.getString(name, defaultValue);
+    }
+}
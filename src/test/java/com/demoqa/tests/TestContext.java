@@ -0,0 +1,86 @@
+package com.demoqa.tests;
+
+import com.demoqa.pages.PageRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+
+/* Per-thread execution context of a running test method.
+With parallel="methods" several methods of the same test class instance run at the same time, so the WebDriver,
+WebDriverWait, Actions and page objects cannot live in instance fields. Each worker thread gets its own context in
+@BeforeMethod and drops it in @AfterMethod; page objects are created lazily by its PageRegistry. */
+
+public class TestContext {
+
+    private static final ThreadLocal<TestContext> CURRENT = new ThreadLocal<>();
+    private static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final Actions actions;
+    private final PageRegistry pages;
+
+    private TestContext(WebDriver driver) {
+        this.driver = driver;
+        this.wait = new WebDriverWait(driver, DEFAULT_WAIT_TIMEOUT);
+        this.actions = new Actions(driver);
+        this.pages = new PageRegistry(driver, wait);
+    }
+
+
+    //region    Bind a new context for the given driver to the current thread.
+    public static TestContext start(@NotNull WebDriver driver) {
+        TestContext context = new TestContext(driver);
+        CURRENT.set(context);
+        return context;
+    }
+    //endregion
+
+
+    //region    Return the context bound to the current thread, failing fast when a test runs outside of setUp/tearDown.
+    public static TestContext current() {
+        TestContext context = CURRENT.get();
+        if (context == null) {
+            throw new IllegalStateException("No TestContext bound to thread " + Thread.currentThread().getName()
+                    + ". Is the test class extending BaseTest?");
+        }
+        return context;
+    }
+    //endregion
+
+
+    //region    Unbind the context of the current thread and return it (or null when none was started).
+    public static TestContext end() {
+        TestContext context = CURRENT.get();
+        CURRENT.remove();
+        if (context != null) {
+            context.pages.clear();
+        }
+        return context;
+    }
+    //endregion
+
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public WebDriverWait getWait() {
+        return wait;
+    }
+
+    public Actions getActions() {
+        return actions;
+    }
+
+    public PageRegistry getPages() {
+        return pages;
+    }
+}
@@ -1,7 +1,7 @@
 package com.demoqa.tests.elements;
 
 import com.demoqa.tests.BaseTest;
-import org.testng.Assert;
+import com.demoqa.utilities.AssertionUtils;
 import org.testng.annotations.Test;
 import com.demoqa.utilities.DateTimeUtils;
 import java.util.Date;
@@ -11,11 +11,10 @@ public class RadioButtonTest extends BaseTest {
     @Test (priority = 1)
     public void testSuccessMessageDisplayedForYesRadioBtnSelection(){
         // Test the success message for selecting the "Yes" radio button
-        homePage.clickElementsNavigationBar();
-        radioButtonPage.clickOnRadioButtonSubCategory();
-        radioButtonPage.clickOnYesRadioButton();
-        Assert.assertTrue(radioButtonPage.isOnCheckBoxSubCategory(), "Text Box Subcategory is not displayed.");
-        Assert.assertEquals(radioButtonPage.getSuccessMessageForYesSelection(), "Yes");
+        openElementsSubCategory("radio-button", radioButtonPage(), radioButtonPage()::clickOnRadioButtonSubCategory);
+        radioButtonPage().clickOnYesRadioButton();
+        AssertionUtils.assertTrue(radioButtonPage().isOnCheckBoxSubCategory(), "Text Box Subcategory is not displayed.");
+        AssertionUtils.assertEquals(radioButtonPage().getSuccessMessageForYesSelection(), "Yes");
 
         // Call the formatTimestamp method and print the result
         System.out.println("Timestamp of Test Execution: " + DateTimeUtils.formatTimestamp(new Date()));
@@ -24,19 +23,17 @@ public class RadioButtonTest extends BaseTest {
     @Test (priority = 2)
     public void testSuccessMessageDisplayedForImpressiveBtnSelection(){
         // Test the success message for selecting the "Impressive" radio button
-        homePage.clickElementsNavigationBar();
-        radioButtonPage.clickOnRadioButtonSubCategory();
-        radioButtonPage.clickOnImpressiveRadioButton();
-        Assert.assertTrue(radioButtonPage.isOnCheckBoxSubCategory(), "Text Box Subcategory is not displayed.");
-        Assert.assertEquals(radioButtonPage.getSuccessMessageForImpressiveSelection(), "Impressive");
+        openElementsSubCategory("radio-button", radioButtonPage(), radioButtonPage()::clickOnRadioButtonSubCategory);
+        radioButtonPage().clickOnImpressiveRadioButton();
+        AssertionUtils.assertTrue(radioButtonPage().isOnCheckBoxSubCategory(), "Text Box Subcategory is not displayed.");
+        AssertionUtils.assertEquals(radioButtonPage().getSuccessMessageForImpressiveSelection(), "Impressive");
     }
 
     @Test (priority = 3)
     public void testNoRadioButtonIsDisabled(){
         // Test that the "No" radio button is disabled
-        homePage.clickElementsNavigationBar();
-        radioButtonPage.clickOnRadioButtonSubCategory();
-        Assert.assertTrue(radioButtonPage.isOnCheckBoxSubCategory(), "Text Box Subcategory is not displayed.");
-        Assert.assertFalse(radioButtonPage.isRadioButtonNoEnabled(), "Radio button is not enabled as expected");
+        openElementsSubCategory("radio-button", radioButtonPage(), radioButtonPage()::clickOnRadioButtonSubCategory);
+        AssertionUtils.assertTrue(radioButtonPage().isOnCheckBoxSubCategory(), "Text Box Subcategory is not displayed.");
+        AssertionUtils.assertFalse(radioButtonPage().isRadioButtonNoEnabled(), "Radio button is not enabled as expected");
     }
 }
@@ -1,10 +1,12 @@
 package com.demoqa.tests.elements;
 
 import com.demoqa.tests.BaseTest;
+import com.demoqa.tests.DataProviders;
 import com.demoqa.utilities.AssertionUtils;
+import com.demoqa.utilities.DataRecord;
 import com.demoqa.utilities.DateTimeUtils;
 import com.demoqa.utilities.LoggerUtil;
-import org.testng.Assert;
+import com.demoqa.utilities.SiteUrls;
 import org.testng.annotations.Test;
 
 import java.util.Date;
@@ -13,36 +15,35 @@ public class TextBoxTest extends BaseTest {
 
     @Test(groups = "regression", priority = 2)
     // Expected Result: The information provided (Full name, Email, Current address, Permanent address) is displayed correctly in the output element.
-    public void testValidDataSubmission() throws InterruptedException {
-        homePage.clickElementsNavigationBar();
-        textBoxPage.clickOnTextBoxSubCategory();
+    public void testValidDataSubmission() {
+        openElementsSubCategory("text-box", textBoxPage(), textBoxPage()::clickOnTextBoxSubCategory);
 
-        Assert.assertTrue(textBoxPage.isOnTextBoxSubCategory(), "Text Box Subcategory is not displayed.");
-        Assert.assertEquals(textBoxPage.getCurrentPageTitle(), "DEMOQA");
+        AssertionUtils.assertTrue(textBoxPage().isOnTextBoxSubCategory(), "Text Box Subcategory is not displayed.");
+        AssertionUtils.assertEquals(textBoxPage().getCurrentPageTitle(), "DEMOQA");
 
-        AssertionUtils.assertTrue(textBoxPage.isOnTextBoxSubCategory(), "Text Box Subcategory is not displayed.", 2);
-        AssertionUtils.assertEquals(textBoxPage.getCurrentPageTitle(), "DEMOQA","", 2);
+        AssertionUtils.assertTrueEventually(() -> textBoxPage().isOnTextBoxSubCategory(), "Text Box Subcategory is not displayed.");
+        AssertionUtils.assertEqualsEventually(() -> textBoxPage().getCurrentPageTitle(), "DEMOQA", "");
 
 
 
         // Input valid data into the form fields
-        textBoxPage.fillOutTextBoxForm(
+        textBoxPage().fillOutTextBoxForm(
                 getRandomFullName,
                 getRandomEmail,
                 getRandomAddress,
                 getRandomAddress);
-        textBoxPage.clickSubmitButton();
-        Assert.assertTrue(textBoxPage.isOutputMessageDisplayed());
-        textBoxPage.scrollToOutputBlockDisplayed();
+        textBoxPage().clickSubmitButton();
+        AssertionUtils.assertTrue(textBoxPage().isOutputMessageDisplayed());
+        textBoxPage().scrollToOutputBlockDisplayed();
 
         // Check the displayed information in the output fields
-        Assert.assertEquals(textBoxPage.getNameTextFromOutputField(), "Name:" + getRandomFullName,
+        AssertionUtils.assertEquals(textBoxPage().getNameTextFromOutputField(), "Name:" + getRandomFullName,
                 "The displayed Full Name in the output field doesn't match the expected value.");
-        Assert.assertEquals(textBoxPage.getEmailTextFromOutputField(), "Email:" + getRandomEmail,
+        AssertionUtils.assertEquals(textBoxPage().getEmailTextFromOutputField(), "Email:" + getRandomEmail,
                 "The displayed Email address in the output Email field doesn't match the expected value.");
-        Assert.assertEquals(textBoxPage.getCurrentAddressOutputField(), "Current Address :" + getRandomAddress,
+        AssertionUtils.assertEquals(textBoxPage().getCurrentAddressOutputField(), "Current Address :" + getRandomAddress,
                 "The displayed Current Address in the output Current Address field doesn't match the expected value.");
-        Assert.assertEquals(textBoxPage.getPermanentAddressOutputField(), "Permananet Address :" + getRandomAddress,
+        AssertionUtils.assertEquals(textBoxPage().getPermanentAddressOutputField(), "Permananet Address :" + getRandomAddress,
                 "The displayed Permanent Address in the output Permanent Address field doesn't match the expected value.");
 
         // Log the timestamp of the test execution using LoggerUtil for informational purposes,
@@ -54,27 +55,26 @@ public class TextBoxTest extends BaseTest {
     @Test(groups = "regression", priority = 1)
     // Expected Result: Checking if special characters are accepted in the form submission.
     public void testSpecialCharsFormAcceptance() {
-        homePage.clickElementsNavigationBar();
-        textBoxPage.clickOnTextBoxSubCategory();
+        openElementsSubCategory("text-box", textBoxPage(), textBoxPage()::clickOnTextBoxSubCategory);
 
         // Test special characters in Full Name field
-        textBoxPage.enterFullName("!@!&^%%^#$@#$^#!");
-        textBoxPage.clickSubmitButton();
-        Assert.assertEquals(textBoxPage.getNameTextFromOutputField(), "Name:!@!&^%%^#$@#$^#!",
+        textBoxPage().enterFullName("!@!&^%%^#$@#$^#!");
+        textBoxPage().clickSubmitButton();
+        AssertionUtils.assertEquals(textBoxPage().getNameTextFromOutputField(), "Name:!@!&^%%^#$@#$^#!",
                 "The displayed Full Name in the output field doesn't match the expected value.");
-        textBoxPage.clearTextFromFullNameField();
+        textBoxPage().clearTextFromFullNameField();
 
         // Test special characters in Current Address field
-        textBoxPage.enterCurrentAddress("!@!&^%%^#$@#$^#!");
-        textBoxPage.clickSubmitButton();
-        Assert.assertEquals(textBoxPage.getCurrentAddressOutputField(), "Current Address :!@!&^%%^#$@#$^#!",
+        textBoxPage().enterCurrentAddress("!@!&^%%^#$@#$^#!");
+        textBoxPage().clickSubmitButton();
+        AssertionUtils.assertEquals(textBoxPage().getCurrentAddressOutputField(), "Current Address :!@!&^%%^#$@#$^#!",
                 "The displayed Current Address in the output Current Address field doesn't match the expected value.");
-        textBoxPage.clearTextFromCurrentAddressField();
+        textBoxPage().clearTextFromCurrentAddressField();
 
         // Test special characters in Permanent Address field
-        textBoxPage.enterPermanentAddress("!@!&^%%^#$@#$^#!");
-        textBoxPage.clickSubmitButton();
-        Assert.assertEquals(textBoxPage.getPermanentAddressOutputField(), "Permananet Address :!@!&^%%^#$@#$^#!",
+        textBoxPage().enterPermanentAddress("!@!&^%%^#$@#$^#!");
+        textBoxPage().clickSubmitButton();
+        AssertionUtils.assertEquals(textBoxPage().getPermanentAddressOutputField(), "Permananet Address :!@!&^%%^#$@#$^#!",
                 "The displayed Permanent Address in the output Permanent Address field doesn't match the expected value.");
 
         // Log the timestamp of the test execution using LoggerUtil for informational purposes,
@@ -86,22 +86,22 @@ public class TextBoxTest extends BaseTest {
     @Test(groups = "smoke", priority = 3)
     // Expected Result: Ensure that no visible change occurs after an empty submission.
     public void testNoVisibleChangeAfterEmptySubmit() {
-        homePage.clickElementsNavigationBar();
-        Assert.assertTrue(textBoxPage.isCurrentPageUrlEqualTo("https://demoqa.com/elements"));
+        homePage().clickElementsNavigationBar();
+        AssertionUtils.assertTrue(textBoxPage().isCurrentPageUrlEqualTo(SiteUrls.of("elements")));
 
-        textBoxPage.clickOnTextBoxSubCategory();
-        Assert.assertTrue(textBoxPage.isCurrentPageUrlEqualTo("https://demoqa.com/text-box"));
+        textBoxPage().clickOnTextBoxSubCategory();
+        AssertionUtils.assertTrue(textBoxPage().isCurrentPageUrlEqualTo(SiteUrls.of("text-box")));
 
         // Capture the initial page source
-        String initialPageSource = driver.getPageSource();
+        String initialPageSource = driver().getPageSource();
 
-        textBoxPage.clickSubmitButton();
+        textBoxPage().clickSubmitButton();
 
         // Capture the updated page source
-        String updatedPageSource = driver.getPageSource();
+        String updatedPageSource = driver().getPageSource();
 
         // Assert that the page source has changed (differences between initial and updated)
-        Assert.assertNotEquals(initialPageSource, updatedPageSource,
+        AssertionUtils.assertNotEquals(initialPageSource, updatedPageSource,
                 "There should be changes in the page source after clicking the 'Submit' button.");
 
 
@@ -114,27 +114,26 @@ public class TextBoxTest extends BaseTest {
     @Test(groups = "regression", priority = 4)
     public void testValidAndInvalidEmailSubmission() {
         // Expected Result: Verify the behavior of email submission with valid and invalid email formats.
-        homePage.clickElementsNavigationBar();
-        textBoxPage.clickOnTextBoxSubCategory();
+        openElementsSubCategory("text-box", textBoxPage(), textBoxPage()::clickOnTextBoxSubCategory);
 
         // Enter a valid email and submit
-        textBoxPage.enterEmail(getRandomEmail);
-        textBoxPage.clickSubmitButton();
+        textBoxPage().enterEmail(getRandomEmail);
+        textBoxPage().clickSubmitButton();
 
         // Assert that the displayed email in the output field matches the expected value
-        Assert.assertEquals(textBoxPage.getEmailTextFromOutputField(), "Email:" + getRandomEmail,
+        AssertionUtils.assertEquals(textBoxPage().getEmailTextFromOutputField(), "Email:" + getRandomEmail,
                 "The displayed Email address in the output Email field doesn't match the expected value.");
 
         // Clear the email field and submit
-        textBoxPage.clearTextFromEmailField();
-        textBoxPage.clickSubmitButton();
+        textBoxPage().clearTextFromEmailField();
+        textBoxPage().clickSubmitButton();
 
         // Enter an invalid email format and submit
-        textBoxPage.enterEmail("example.gmail.com");
-        textBoxPage.clickSubmitButton();
+        textBoxPage().enterEmail("example.gmail.com");
+        textBoxPage().clickSubmitButton();
 
         // Assert that the element is not displayed (invisibility of the element)
-        Assert.assertTrue(textBoxPage.isEmailNotDisplayedInOutputBlock(),
+        AssertionUtils.assertTrue(textBoxPage().isEmailNotDisplayedInOutputBlock(),
                 "The element should not be displayed.");
 
         // Log the timestamp of the test execution using LoggerUtil for informational purposes,
@@ -142,4 +141,22 @@ public class TextBoxTest extends BaseTest {
         LoggerUtil.info("Test Method: " + Thread.currentThread().getStackTrace()[1].getMethodName() +
                 "\n - Timestamp of Test Execution: " + DateTimeUtils.formatTimestamp(new Date()));
     }
-}
\ No newline at end of file
+
+
+    @Test(groups = "data-driven", dataProvider = "textBoxForms", dataProviderClass = DataProviders.class)
+    // Expected Result: Every row of data/text-box-forms.jsonl (or -Ddata.textBoxForms=<large file>) is echoed in the output block.
+    public void testFormSubmissionFromDataSource(DataRecord form) {
+        textBoxPage().openPage("text-box");
+        textBoxPage().fillOutTextBoxForm(
+                form.get("fullName"),
+                form.get("email"),
+                form.get("currentAddress"),
+                form.get("permanentAddress"));
+        textBoxPage().clickSubmitButton();
+
+        AssertionUtils.assertEquals(textBoxPage().getNameTextFromOutputField(), "Name:" + form.get("fullName"),
+                "The displayed Full Name doesn't match " + form);
+        AssertionUtils.assertEquals(textBoxPage().getEmailTextFromOutputField(), "Email:" + form.get("email"),
+                "The displayed Email doesn't match " + form);
+    }
+}
@@ -1,9 +1,11 @@
 package com.demoqa.tests.elements;
 
 import com.demoqa.tests.BaseTest;
+import com.demoqa.tests.DataProviders;
+import com.demoqa.utilities.DataRecord;
 import com.demoqa.utilities.LoggerUtil;
 import com.demoqa.utilities.DateTimeUtils;
-import org.testng.Assert;
+import com.demoqa.utilities.AssertionUtils;
 import org.testng.annotations.Test;
 
 import java.util.Date;
@@ -15,9 +17,9 @@ public class WebTablesTest extends BaseTest {
     public void verifyTotalRowsInWebTable() {
         LoggerUtil.info("Executing verifyTotalRowsInWebTable test...");
         try {
-            webTablesPage.navigateToWebTablesSubCategory();
-            System.out.println("The total number of rows in the table is: " + webTablesPage.getTotalRowsInTable());
-            Assert.assertEquals(webTablesPage.getTotalRowsInTable(), 10);
+            openElementsSubCategory("webtables", webTablesPage(), webTablesPage()::clickOnWebTablesSubCategory);
+            System.out.println("The total number of rows in the table is: " + webTablesPage().getTotalRowsInTable());
+            AssertionUtils.assertEquals(webTablesPage().getTotalRowsInTable(), 10);
 
             // Call the formatTimestamp method and print the result
             System.out.println("Timestamp of Test Execution: " + DateTimeUtils.formatTimestamp(new Date()));
@@ -30,48 +32,68 @@ public class WebTablesTest extends BaseTest {
 
     @Test(priority = 1)
     public void verifyTotalColumnsInWebTable() {
-        webTablesPage.navigateToWebTablesSubCategory();
-        System.out.println("The total number of columns in the table is: " + webTablesPage.getTotalColumnsInTable());
-        Assert.assertEquals(webTablesPage.getTotalColumnsInTable(), 7);
+        openElementsSubCategory("webtables", webTablesPage(), webTablesPage()::clickOnWebTablesSubCategory);
+        System.out.println("The total number of columns in the table is: " + webTablesPage().getTotalColumnsInTable());
+        AssertionUtils.assertEquals(webTablesPage().getTotalColumnsInTable(), 7);
     }
 
 
     @Test(priority = 3)
     public void testRowsPerPageFunctionality() {
-        webTablesPage.navigateToWebTablesSubCategory();
-        webTablesPage.selectAndVerifyRowCountForAllRowsPerPageOptions();
+        openElementsSubCategory("webtables", webTablesPage(), webTablesPage()::clickOnWebTablesSubCategory);
+        webTablesPage().selectAndVerifyRowCountForAllRowsPerPageOptions();
     }
 
 
     @Test(priority = 5)
     public void testPrintAllDataFromWebTable() {
-        webTablesPage.navigateToWebTablesSubCategory();
-        webTablesPage.retrieveAndPrintTableElements();
+        openElementsSubCategory("webtables", webTablesPage(), webTablesPage()::clickOnWebTablesSubCategory);
+        webTablesPage().retrieveAndPrintTableElements();
     }
 
 
     @Test(priority = 4)
     public void testAddNewUserViaRegistrationForm() {
         try {
-            webTablesPage.navigateToWebTablesSubCategory();
-            webTablesPage.clickOnAddButton();
-            webTablesPage.enterUserDataInRegistrationForm(
+            openElementsSubCategory("webtables", webTablesPage(), webTablesPage()::clickOnWebTablesSubCategory);
+            webTablesPage().clickOnAddButton();
+            webTablesPage().enterUserDataInRegistrationForm(
                     "Zoran",
                     "Dimitrievski",
                     "zzdimitrievski@gmail.com",
                     "41",
                     "25000",
                     "IT");
-            webTablesPage.clickOnRegistrationFormSubmitButton();
+            webTablesPage().clickOnRegistrationFormSubmitButton();
         } catch (Exception e) {
             LoggerUtil.error("An error occurred during the test.", e);
             // Handle the exception or rethrow it
         }
 
         //Verify the new record is added to the table
-        Assert.assertEquals(webTablesPage.verifyNewDataArePresentInTable(),
+        AssertionUtils.assertEquals(webTablesPage().verifyNewDataArePresentInTable(),
                 "Zoran Dimitrievski 41 zzdimitrievski@gmail.com 25000 IT",
                 "The new data in the table is not as expected");
     }
 
+
+    // One registration per row of data/web-table-users.csv (or -Ddata.webTableUsers=<large file>)
+    @Test(priority = 6, groups = "data-driven", dataProvider = "webTableUsers", dataProviderClass = DataProviders.class)
+    public void testAddUsersFromDataSource(DataRecord user) {
+        openElementsSubCategory("webtables", webTablesPage(), webTablesPage()::clickOnWebTablesSubCategory);
+        webTablesPage().clickOnAddButton();
+        webTablesPage().enterUserDataInRegistrationForm(
+                user.get("firstName"),
+                user.get("lastName"),
+                user.get("email"),
+                user.get("age"),
+                user.get("salary"),
+                user.get("department"));
+        webTablesPage().clickOnRegistrationFormSubmitButton();
+
+        AssertionUtils.assertEquals(webTablesPage().findRowTextByEmail(user.get("email")),
+                String.join(" ", user.get("firstName"), user.get("lastName"), user.get("age"),
+                        user.get("email"), user.get("salary"), user.get("department")),
+                "The registered user is not shown as expected for " + user);
+    }
 }
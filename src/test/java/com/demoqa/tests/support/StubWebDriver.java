@@ -0,0 +1,239 @@
+package com.demoqa.tests.support;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.Logs;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.logging.Level;
+
+/* In-memory WebDriver used by the browser-free tests and benchmarks.
+It never launches a browser: navigation only records the URL, cookies are kept in a map, scripts return whatever the
+configured script handler answers (null by default), screenshots, page source and browser log are whatever the test set,
+and once quit() is called every further call fails with
+NoSuchSessionException, like a real session that is gone. */
+
+public class StubWebDriver implements InvocationHandler {
+
+    private static final AtomicInteger SESSION_IDS = new AtomicInteger();
+
+    private final String sessionId = "stub-" + SESSION_IDS.incrementAndGet();
+    private final Set<String> windowHandles = new LinkedHashSet<>(Collections.singleton(sessionId + "-main"));
+    private final List<String> executedScripts = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, Cookie> cookies = new ConcurrentHashMap<>();
+    private volatile String currentWindow = sessionId + "-main";
+    private volatile String currentUrl = "about:blank";
+    private volatile boolean quit;
+    private volatile boolean crashed;
+    private volatile BiFunction<String, Object[], Object> scriptHandler = (script, args) -> null;
+    private volatile String pageSource = "<html><head></head><body></body></html>";
+    private volatile byte[] screenshot = new byte[0];
+    private final List<LogEntry> browserLog = Collections.synchronizedList(new ArrayList<>());
+    private final WebDriver proxy;
+
+    private StubWebDriver() {
+        this.proxy = (WebDriver) Proxy.newProxyInstance(
+                StubWebDriver.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class},
+                this);
+    }
+
+    public static StubWebDriver create() {
+        return new StubWebDriver();
+    }
+
+    public WebDriver driver() {
+        return proxy;
+    }
+
+    public boolean isQuit() {
+        return quit;
+    }
+
+    // Simulates a browser that died underneath the session
+    public void crash() {
+        crashed = true;
+    }
+
+    public void openNewWindow() {
+        windowHandles.add(sessionId + "-window-" + windowHandles.size());
+    }
+
+    public int getWindowCount() {
+        return windowHandles.size();
+    }
+
+    public String getCurrentUrl() {
+        return currentUrl;
+    }
+
+    public List<String> getExecutedScripts() {
+        return executedScripts;
+    }
+
+    public Set<Cookie> getCookies() {
+        return new LinkedHashSet<>(cookies.values());
+    }
+
+    // Answers executeScript calls, e.g. with the rows a table-extraction script would return in a real browser
+    public StubWebDriver onScript(BiFunction<String, Object[], Object> handler) {
+        this.scriptHandler = handler;
+        return this;
+    }
+
+    public StubWebDriver withPageSource(String html) {
+        this.pageSource = html;
+        return this;
+    }
+
+    // PNG bytes returned by getScreenshotAs
+    public StubWebDriver withScreenshot(byte[] png) {
+        this.screenshot = png.clone();
+        return this;
+    }
+
+    // Adds an entry to the browser console log
+    public StubWebDriver log(Level level, String message) {
+        browserLog.add(new LogEntry(level, System.currentTimeMillis(), message));
+        return this;
+    }
+
+    @Override
+    public Object invoke(Object target, Method method, Object[] args) {
+        String name = method.getName();
+        if (name.equals("toString")) {
+            return "StubWebDriver(" + sessionId + ")";
+        }
+        if (name.equals("hashCode")) {
+            return System.identityHashCode(target);
+        }
+        if (name.equals("equals")) {
+            return target == args[0];
+        }
+        if (quit || crashed) {
+            throw new NoSuchSessionException("Session " + sessionId + " is not available");
+        }
+
+        switch (name) {
+            case "quit":
+                quit = true;
+                return null;
+            case "get":
+                currentUrl = (String) args[0];
+                return null;
+            case "getCurrentUrl":
+                return currentUrl;
+            case "getTitle":
+                return "Stub page";
+            case "getPageSource":
+                return pageSource;
+            case "getScreenshotAs":
+                return ((OutputType<?>) args[0]).convertFromPngBytes(screenshot.clone());
+            case "getWindowHandle":
+                return currentWindow;
+            case "getWindowHandles":
+                return new LinkedHashSet<>(windowHandles);
+            case "close":
+                windowHandles.remove(currentWindow);
+                return null;
+            case "executeScript":
+            case "executeAsyncScript":
+                executedScripts.add((String) args[0]);
+                return scriptHandler.apply((String) args[0], (Object[]) args[1]);
+            case "manage":
+                return nested(WebDriver.Options.class);
+            case "switchTo":
+                return nested(WebDriver.TargetLocator.class);
+            case "navigate":
+                return nested(WebDriver.Navigation.class);
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    // Options, TargetLocator and Navigation are answered by small proxies that forward back to this session
+    private Object nested(Class<?> type) {
+        return Proxy.newProxyInstance(StubWebDriver.class.getClassLoader(), new Class<?>[]{type}, (target, method, args) -> {
+            if (quit || crashed) {
+                throw new NoSuchSessionException("Session " + sessionId + " is not available");
+            }
+            switch (method.getName()) {
+                case "alert":
+                    throw new NoAlertPresentException();
+                case "addCookie":
+                    cookies.put(((Cookie) args[0]).getName(), (Cookie) args[0]);
+                    return null;
+                case "getCookies":
+                    return getCookies();
+                case "getCookieNamed":
+                    return cookies.get((String) args[0]);
+                case "deleteAllCookies":
+                    cookies.clear();
+                    return null;
+                case "to":
+                    currentUrl = String.valueOf(args[0]);
+                    return null;
+                case "window":
+                    currentWindow = (String) args[0];
+                    return proxy;
+                case "logs":
+                    return nested(Logs.class);
+                case "get":
+                    return LogType.BROWSER.equals(args[0]) ? new LogEntries(drainBrowserLog()) : new LogEntries(List.of());
+                case "frame":
+                case "defaultContent":
+                case "parentFrame":
+                    return proxy;
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    // Like chromedriver, every console entry is handed out once
+    private List<LogEntry> drainBrowserLog() {
+        synchronized (browserLog) {
+            List<LogEntry> entries = new ArrayList<>(browserLog);
+            browserLog.clear();
+            return entries;
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (Set.class.isAssignableFrom(type)) {
+            return Collections.emptySet();
+        }
+        if (List.class.isAssignableFrom(type)) {
+            return Collections.emptyList();
+        }
+        return null;
+    }
+}
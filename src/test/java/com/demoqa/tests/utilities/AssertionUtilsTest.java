@@ -0,0 +1,84 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.utilities.AssertionUtils;
+import com.demoqa.utilities.Polling;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AssertionUtilsTest {
+
+    private static final Polling FAST_POLLING = Polling.every(Duration.ofMillis(10)).within(Duration.ofMillis(500));
+
+    @Test
+    public void testPassingConditionReturnsWithoutSleeping() {
+        AtomicInteger calls = new AtomicInteger();
+        AssertionUtils.assertTrueEventually(() -> calls.incrementAndGet() > 0, "Condition should hold", Polling.defaults());
+        AssertionUtils.assertEqualsEventually(() -> {
+            calls.incrementAndGet();
+            return "DEMOQA";
+        }, "DEMOQA", "Title should match", Polling.defaults());
+
+        // A sleep only ever follows a failed check, so one evaluation per assertion means no polling interval was waited
+        Assert.assertEquals(calls.get(), 2, "A condition that already holds must be evaluated once and not polled.");
+    }
+
+    @Test
+    public void testSupplierIsReEvaluatedUntilItPasses() {
+        AtomicInteger calls = new AtomicInteger();
+
+        AssertionUtils.assertEqualsEventually(() -> calls.incrementAndGet() >= 3 ? "ready" : "loading",
+                "ready", "Value should eventually be ready", FAST_POLLING);
+
+        Assert.assertEquals(calls.get(), 3, "Polling should stop the moment the value matches.");
+    }
+
+    @Test
+    public void testExceptionsFromSupplierAreRetried() {
+        AtomicInteger calls = new AtomicInteger();
+
+        AssertionUtils.assertTrueEventually(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new StaleElementReferenceException("element re-rendered");
+            }
+            return true;
+        }, "Condition should hold once the element is stable", FAST_POLLING);
+
+        Assert.assertEquals(calls.get(), 3);
+    }
+
+    @Test
+    public void testFailureReportsLastValueAfterDeadline() {
+        long start = System.nanoTime();
+        AssertionError failure = Assert.expectThrows(AssertionError.class, () ->
+                AssertionUtils.assertEqualsEventually(() -> "loading", "ready", "Value never became ready", FAST_POLLING));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        Assert.assertTrue(failure.getMessage().contains("[loading]"), failure.getMessage());
+        Assert.assertTrue(elapsedMillis >= 450 && elapsedMillis < 1500, "Should give up at the deadline, took " + elapsedMillis + "ms");
+    }
+
+    @Test
+    public void testBackoffGrowsTheIntervalUpToTheCap() {
+        Polling polling = Polling.every(Duration.ofMillis(100)).withBackoff(2.0, Duration.ofMillis(500));
+
+        Assert.assertEquals(polling.nextIntervalMillis(100), 200);
+        Assert.assertEquals(polling.nextIntervalMillis(200), 400);
+        Assert.assertEquals(polling.nextIntervalMillis(400), 500);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testEvaluatedValueAssertionsFailWithoutSleeping() {
+        long start = System.nanoTime();
+        Assert.expectThrows(AssertionError.class, () -> AssertionUtils.assertTrue(false, "stale value", 5));
+        Assert.expectThrows(AssertionError.class, () -> AssertionUtils.assertEquals("a", "b", "stale value", 5));
+
+        // The old implementation slept 500ms between attempts (2 seconds for 5 attempts), class loading on a busy machine can take ~100ms
+        Assert.assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000,
+                "Re-checking an already evaluated value cannot succeed, so it must not sleep.");
+    }
+}
@@ -0,0 +1,125 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.utilities.AsyncLogWriter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class AsyncLogWriterTest {
+
+    @Test
+    public void testLinesFromOneThreadAreWrittenInOrder() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(output, true, StandardCharsets.UTF_8), 16,
+                AsyncLogWriter.OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 100; i++) {
+            writer.submit("line-" + i + "\n");
+        }
+        writer.flush(5_000);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        Assert.assertEquals(lines.length, 100, "BLOCK policy must not lose any line.");
+        for (int i = 0; i < lines.length; i++) {
+            Assert.assertEquals(lines[i], "line-" + i);
+        }
+        writer.shutdown();
+    }
+
+    @Test
+    public void testConcurrentWritersNeverInterleaveWithinALine() throws InterruptedException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(output, true, StandardCharsets.UTF_8), 64,
+                AsyncLogWriter.OverflowPolicy.BLOCK);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 6; t++) {
+            String prefix = "thread-" + t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    writer.submit(prefix + " message " + i + "\n");
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        writer.flush(5_000);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        Assert.assertEquals(lines.length, 6 * 500);
+        for (String line : lines) {
+            Assert.assertTrue(line.matches("thread-\\d message \\d+"), "Garbled log line: " + line);
+        }
+        writer.shutdown();
+    }
+
+    @Test
+    public void testLinesSubmittedDuringShutdownAreNotLost() throws InterruptedException {
+        // The race needs a submit to enqueue right after the final drain, so it is repeated a number of times
+        for (int round = 0; round < 200; round++) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(output, true, StandardCharsets.UTF_8), 16,
+                    AsyncLogWriter.OverflowPolicy.BLOCK);
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                String prefix = "thread-" + t;
+                threads.add(new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 200; i++) {
+                        writer.submit(prefix + " message " + i + "\n");
+                    }
+                }));
+            }
+            threads.forEach(Thread::start);
+            start.countDown();
+            writer.shutdown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+            Assert.assertEquals(lines.length, 4 * 200, "Lines were lost while the writer shut down (round " + round + ").");
+        }
+    }
+
+    @Test
+    public void testDropPolicyDiscardsLinesWhenTheBufferIsFull() throws InterruptedException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+        AsyncLogWriter writer = new AsyncLogWriter(out, 4, AsyncLogWriter.OverflowPolicy.DROP);
+
+        CountDownLatch submitted = new CountDownLatch(1);
+        // Holding the stream's monitor stalls the writer thread, so the buffer fills up
+        synchronized (out) {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < 50; i++) {
+                    writer.submit("line-" + i + "\n");
+                }
+                submitted.countDown();
+            });
+            producer.start();
+            submitted.await();
+        }
+        writer.flush(5_000);
+
+        Assert.assertTrue(writer.getDroppedLineCount() > 0, "Lines should have been dropped instead of blocking the producer.");
+        writer.submit("after\n");
+        writer.flush(5_000);
+        Assert.assertTrue(output.toString(StandardCharsets.UTF_8).contains("dropped"), "Dropped lines should be reported.");
+        writer.shutdown();
+    }
+}
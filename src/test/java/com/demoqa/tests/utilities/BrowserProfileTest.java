@@ -0,0 +1,52 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.utilities.BrowserProfile;
+import com.demoqa.utilities.WebDriverManager;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public class BrowserProfileTest {
+
+    @Test
+    public void testCiAliasExpandsToHeadlessProfiles() {
+        Set<BrowserProfile> profiles = BrowserProfile.parse("ci");
+
+        Assert.assertEquals(profiles, EnumSet.of(BrowserProfile.HEADLESS, BrowserProfile.REDUCED_GPU,
+                BrowserProfile.NO_IMAGES, BrowserProfile.FIXED_VIEWPORT));
+    }
+
+    @Test
+    public void testParsingIsLenient() {
+        Assert.assertEquals(BrowserProfile.parse(" Headless , unknown,no-images "),
+                EnumSet.of(BrowserProfile.HEADLESS, BrowserProfile.NO_IMAGES), "Unknown names are ignored.");
+        Assert.assertEquals(BrowserProfile.parse("headed,headless"), EnumSet.of(BrowserProfile.HEADLESS));
+        Assert.assertEquals(BrowserProfile.parse(""), EnumSet.of(BrowserProfile.HEADED));
+    }
+
+    @Test
+    public void testParameterOverridesConfiguredProfile() {
+        Assert.assertEquals(BrowserProfile.resolve("no-images"), EnumSet.of(BrowserProfile.NO_IMAGES));
+    }
+
+    @Test
+    public void testDefaultIsHeadedEvenOnCi() {
+        if (System.getProperty("browser.profile") != null) {
+            throw new SkipException("-Dbrowser.profile is set for this run");
+        }
+        // Whether or not the CI environment variable is set, only an explicit setting switches to the ci profile
+        Assert.assertEquals(BrowserProfile.resolve(null), EnumSet.of(BrowserProfile.HEADED));
+    }
+
+    @Test
+    public void testDriverKeySeparatesProfiles() {
+        String headless = WebDriverManager.driverKey("Chrome", BrowserProfile.parse("no-images,headless"));
+        String headed = WebDriverManager.driverKey("chrome", BrowserProfile.parse("headed"));
+
+        Assert.assertEquals(headless, "chrome|headless,no-images");
+        Assert.assertNotEquals(headless, headed, "Pooled sessions of different profiles must not be shared.");
+    }
+}
@@ -0,0 +1,99 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.pages.elements.CheckBoxNode;
+import com.demoqa.pages.elements.CheckBoxTree;
+import com.demoqa.tests.support.StubWebDriver;
+import org.openqa.selenium.JavascriptExecutor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CheckBoxTreeTest {
+
+    // A node as returned by the capture script (label and toggle elements are left out, the stub has no DOM)
+    private static Map<String, Object> node(String value, String title, String check, boolean expanded, List<Map<String, Object>> children) {
+        Map<String, Object> node = new HashMap<>();
+        node.put("value", value);
+        node.put("title", title);
+        node.put("leaf", children == null);
+        node.put("expanded", expanded);
+        node.put("visible", true);
+        node.put("check", check);
+        node.put("children", children == null ? List.of() : children);
+        return node;
+    }
+
+    private static Map<String, Object> leaf(String value, String title, String check) {
+        return node(value, title, check, false, null);
+    }
+
+    // Home expanded, Documents expanded with a collapsed Office, nothing checked
+    private static Map<String, Object> wholeTree() {
+        return Map.of("ancestors", List.of(), "nodes", List.of(
+                node("home", "Home", "UNCHECKED", true, List.of(
+                        node("desktop", "Desktop", "UNCHECKED", false, List.of()),
+                        node("documents", "Documents", "UNCHECKED", true, List.of(
+                                node("workspace", "WorkSpace", "UNCHECKED", false, List.of()),
+                                node("office", "Office", "UNCHECKED", false, List.of()))),
+                        node("downloads", "Downloads", "UNCHECKED", false, List.of())))));
+    }
+
+    // Office after it was expanded and checked: its children are rendered and its ancestors turned half-checked
+    private static Map<String, Object> officeSubtree() {
+        return Map.of(
+                "nodes", List.of(node("office", "Office", "CHECKED", true, List.of(
+                        leaf("public", "Public", "CHECKED"), leaf("private", "Private", "CHECKED"),
+                        leaf("classified", "Classified", "CHECKED"), leaf("general", "General", "CHECKED")))),
+                "ancestors", List.of(
+                        Map.of("value", "documents", "check", "HALF_CHECKED"),
+                        Map.of("value", "home", "check", "HALF_CHECKED")));
+    }
+
+    @Test
+    public void testTreeIsCapturedAndIndexedInOneScriptCall() {
+        StubWebDriver stub = StubWebDriver.create().onScript((script, args) -> wholeTree());
+        CheckBoxTree tree = CheckBoxTree.capture((JavascriptExecutor) stub.driver());
+
+        Assert.assertEquals(stub.getExecutedScripts().size(), 1);
+        Assert.assertEquals(tree.size(), 6);
+        Assert.assertEquals(tree.get("Work Space").getPath(), "Home/Documents/WorkSpace", "Spaces and case are ignored.");
+        Assert.assertEquals(tree.get("home/documents/office").getValue(), "office");
+        Assert.assertEquals(tree.get("Office").getParent().getTitle(), "Documents");
+        Assert.assertTrue(tree.isDisplayed("Downloads"));
+        Assert.assertFalse(tree.isDisplayed("Public"), "Children of a collapsed node are not rendered.");
+        Assert.assertThrows(IllegalArgumentException.class, () -> tree.get("Public"));
+        Assert.assertTrue(tree.getCheckedValues().isEmpty());
+    }
+
+    @Test
+    public void testRefreshReplacesOnlyTheClickedSubtree() {
+        List<Object> scriptArguments = new ArrayList<>();
+        StubWebDriver stub = StubWebDriver.create().onScript((script, args) -> {
+            scriptArguments.add(args.length == 0 ? null : args[0]);
+            return args.length > 0 && "office".equals(args[0]) ? officeSubtree() : wholeTree();
+        });
+        CheckBoxTree tree = CheckBoxTree.capture((JavascriptExecutor) stub.driver());
+        CheckBoxNode desktop = tree.get("Desktop");
+
+        CheckBoxNode office = tree.refresh((JavascriptExecutor) stub.driver(), tree.get("Office"));
+
+        Assert.assertEquals(scriptArguments.get(1), "office", "Only the clicked node's subtree is read again.");
+        Assert.assertEquals(stub.getExecutedScripts().size(), 2);
+        Assert.assertSame(tree.get("Office"), office);
+        Assert.assertSame(tree.get("Desktop"), desktop, "Nodes outside the subtree are kept.");
+        Assert.assertSame(tree.get("Documents").getChildren().get(1), office);
+        Assert.assertEquals(tree.get("Classified").getPath(), "Home/Documents/Office/Classified");
+        Assert.assertEquals(tree.size(), 10);
+        Assert.assertEquals(tree.get("Home").getCheckState(), CheckBoxNode.CheckState.HALF_CHECKED);
+        Assert.assertEquals(tree.getCheckedValues(), List.of("office", "public", "private", "classified", "general"));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testMissingTreeFailsClearly() {
+        CheckBoxTree.capture((JavascriptExecutor) StubWebDriver.create().driver());
+    }
+}
@@ -0,0 +1,108 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.utilities.DataRecord;
+import com.demoqa.utilities.DataSource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+public class DataSourceTest {
+
+    private static DataRecord record(Iterator<Object[]> rows) {
+        Object[] parameters = rows.next();
+        Assert.assertEquals(parameters.length, 1);
+        return (DataRecord) parameters[0];
+    }
+
+    @Test
+    public void testCsvRowsAreMappedByHeader() {
+        Iterator<Object[]> rows = DataSource.open("classpath:/data/web-table-users.csv").iterator();
+
+        DataRecord zoran = record(rows);
+        Assert.assertEquals(zoran.get("firstName"), "Zoran");
+        Assert.assertEquals(zoran.getInt("age"), 41);
+        Assert.assertEquals(zoran.getLineNumber(), 2, "Line numbers must point at the file line (header is line 1).");
+        Assert.assertThrows(IllegalArgumentException.class, () -> zoran.get("firstname"));
+    }
+
+    @Test
+    public void testQuotedCsvFieldsAndJsonEscapes() throws Exception {
+        Path csv = Files.createTempFile("users", ".csv");
+        Path jsonl = Files.createTempFile("forms", ".jsonl");
+        try {
+            Files.writeString(csv, "name,address\n\"Dimitrievski, Zoran\",\"Street \"\"13\"\"\"\n");
+            Files.writeString(jsonl, "{\"fullName\": \"Zoran \\\"Z\\\" D\", \"age\": 41, \"note\": null}\n\n{}\n");
+
+            DataRecord csvRow = record(DataSource.open(csv.toString()).iterator());
+            Assert.assertEquals(csvRow.get("name"), "Dimitrievski, Zoran");
+            Assert.assertEquals(csvRow.get("address"), "Street \"13\"");
+
+            Iterator<Object[]> jsonRows = DataSource.open(jsonl.toString()).iterator();
+            DataRecord jsonRow = record(jsonRows);
+            Assert.assertEquals(jsonRow.get("fullName"), "Zoran \"Z\" D");
+            Assert.assertEquals(jsonRow.get("age"), "41");
+            Assert.assertNull(jsonRow.get("note"));
+            Assert.assertTrue(record(jsonRows).getValues().isEmpty(), "Blank lines are skipped.");
+            Assert.assertFalse(jsonRows.hasNext());
+        } finally {
+            Files.deleteIfExists(csv);
+            Files.deleteIfExists(jsonl);
+        }
+    }
+
+    @Test
+    public void testShardsSplitALargeFileWithoutOverlap() throws Exception {
+        int totalRows = 50_000;
+        Path csv = Files.createTempFile("users-50k", ".csv");
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+                out.write("id,email\n");
+                for (int i = 0; i < totalRows; i++) {
+                    out.write(i + ",user" + i + "@example.com\n");
+                }
+            }
+
+            Set<String> seen = new HashSet<>();
+            int shardCount = 3;
+            for (int shard = 0; shard < shardCount; shard++) {
+                Iterator<Object[]> rows = DataSource.open(csv.toString()).shard(shard, shardCount).iterator();
+                while (rows.hasNext()) {
+                    DataRecord row = record(rows);
+                    Assert.assertEquals(row.getInt("id") % shardCount, shard);
+                    Assert.assertTrue(seen.add(row.get("id")), "Row in two shards: " + row);
+                }
+            }
+            Assert.assertEquals(seen.size(), totalRows);
+
+            Iterator<Object[]> limited = DataSource.open(csv.toString()).shard(1, 2).limit(3).iterator();
+            Assert.assertEquals(record(limited).get("id"), "1");
+            Assert.assertEquals(record(limited).get("id"), "3");
+            Assert.assertEquals(record(limited).get("id"), "5");
+            Assert.assertFalse(limited.hasNext());
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    public void testMalformedRowReportsFileAndLine() throws Exception {
+        Path csv = Files.createTempFile("broken", ".csv");
+        try {
+            Files.writeString(csv, "a,b\n1,2\n3\n");
+            Iterator<Object[]> rows = DataSource.open(csv.toString()).iterator();
+            record(rows);
+
+            IllegalArgumentException error = Assert.expectThrows(IllegalArgumentException.class, rows::hasNext);
+            Assert.assertTrue(error.getMessage().contains(csv.getFileName() + ":3"), error.getMessage());
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+}
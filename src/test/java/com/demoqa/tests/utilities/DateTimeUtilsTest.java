@@ -0,0 +1,132 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.utilities.DateTimeUtils;
+import com.demoqa.utilities.TimestampAppender;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class DateTimeUtilsTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+    private static final DateTimeFormatter DAY_FIRST = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss");
+    private static final DateTimeFormatter YEAR_FIRST = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static String expected(DateTimeFormatter formatter, long epochMillis, ZoneId zone) {
+        return formatter.format(Instant.ofEpochMilli(epochMillis).atZone(zone));
+    }
+
+    @Test
+    public void testAppenderMatchesDateTimeFormatterForRandomInstants() {
+        TimestampAppender dayFirst = new TimestampAppender(BERLIN, TimestampAppender.Layout.DAY_FIRST);
+        TimestampAppender yearFirst = new TimestampAppender(BERLIN, TimestampAppender.Layout.YEAR_FIRST);
+        Random random = new Random(11);
+
+        for (int i = 0; i < 20_000; i++) {
+            // 1970 to 2100, in random order so the cached day changes all the time
+            long millis = (long) (random.nextDouble() * 4_102_444_800_000L);
+            Assert.assertEquals(dayFirst.format(millis), expected(DAY_FIRST, millis, BERLIN), "At " + millis);
+            Assert.assertEquals(yearFirst.format(millis), expected(YEAR_FIRST, millis, BERLIN), "At " + millis);
+        }
+    }
+
+    @Test
+    public void testAppenderFollowsDaylightSavingTimeChanges() {
+        TimestampAppender appender = new TimestampAppender(BERLIN, TimestampAppender.Layout.YEAR_FIRST);
+        long springForward = ZonedDateTime.of(2024, 3, 31, 1, 59, 0, 0, BERLIN).toInstant().toEpochMilli();
+        long fallBack = ZonedDateTime.of(2024, 10, 27, 2, 30, 0, 0, BERLIN).toInstant().toEpochMilli();
+
+        // Second by second in ascending order, the way a log uses it
+        for (long start : new long[]{springForward, fallBack}) {
+            for (long millis = start; millis < start + 2 * 3_600_000L; millis += 999) {
+                Assert.assertEquals(appender.format(millis), expected(YEAR_FIRST, millis, BERLIN), "At " + millis);
+            }
+        }
+        Assert.assertEquals(appender.format(springForward + 60_000), "2024-03-31 03:00:00");
+    }
+
+    @Test
+    public void testAppendReusesTheCallersBuilder() {
+        TimestampAppender appender = new TimestampAppender(ZoneId.of("UTC"), TimestampAppender.Layout.DAY_FIRST);
+        StringBuilder builder = new StringBuilder("at ");
+
+        appender.append(builder, 0L).append('!');
+
+        Assert.assertEquals(builder.toString(), "at 01-01-1970 00:00:00!");
+    }
+
+    @Test
+    public void testPublicHelpersMatchJavaTime() {
+        Date date = new Date(1_700_000_000_123L);
+        ZonedDateTime reference = date.toInstant().atZone(ZoneId.systemDefault());
+
+        Assert.assertEquals(DateTimeUtils.formatTimestamp(date), DAY_FIRST.format(reference));
+        Assert.assertEquals(DateTimeUtils.formatTimestamp(reference.toLocalDateTime()), DAY_FIRST.format(reference));
+        Assert.assertEquals(DateTimeUtils.appendTimestamp(new StringBuilder(), date.getTime()).toString(), DAY_FIRST.format(reference));
+        Assert.assertEquals(DateTimeUtils.getHourOfDay(date), reference.getHour());
+        Assert.assertEquals(DateTimeUtils.getMinuteOfHour(date), reference.getMinute());
+        Assert.assertEquals(DateTimeUtils.addDaysToDate(date, 40).toInstant(), reference.plusDays(40).toInstant());
+        Assert.assertEquals(DateTimeUtils.getCurrentTimestamp().length(), 19);
+    }
+
+    // The old shared Calendar mixed up the dates of concurrent callers; every thread must get the results for its own dates
+    @Test
+    public void testConcurrentCallersGetTheirOwnResults() throws Exception {
+        int threads = 8;
+        int iterations = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long seed = t;
+                tasks.add(() -> {
+                    Random random = new Random(seed);
+                    start.await();
+                    int checked = 0;
+                    for (int i = 0; i < iterations; i++) {
+                        Date date = new Date(1_600_000_000_000L + (long) (random.nextDouble() * 400_000_000_000L));
+                        int days = random.nextInt(730) - 365;
+                        ZonedDateTime reference = date.toInstant().atZone(ZoneId.systemDefault());
+
+                        Assert.assertEquals(DateTimeUtils.addDaysToDate(date, days).toInstant(), reference.plusDays(days).toInstant());
+                        Assert.assertEquals(DateTimeUtils.getHourOfDay(date), reference.getHour());
+                        Assert.assertEquals(DateTimeUtils.getMinuteOfHour(date), reference.getMinute());
+                        Assert.assertEquals(DateTimeUtils.formatTimestamp(date), DAY_FIRST.format(reference));
+                        checked++;
+                    }
+                    return checked;
+                });
+            }
+            List<Future<Integer>> results = new ArrayList<>();
+            for (Callable<Integer> task : tasks) {
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                Assert.assertEquals((int) result.get(), iterations);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFormatsLocalDateTime() {
+        Assert.assertEquals(DateTimeUtils.formatTimestamp(LocalDateTime.of(2025, 2, 3, 4, 5, 6)), "03-02-2025 04:05:06");
+    }
+}
@@ -0,0 +1,165 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.listeners.LongestFirstInterceptor;
+import com.demoqa.sharding.DurationStore;
+import org.testng.Assert;
+import org.testng.IMethodInstance;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class DurationStoreTest {
+
+    // Only getMethod(), getRealClass() and getMethodName() are used by the interceptor
+    private static IMethodInstance instance(Class<?> testClass, String methodName) {
+        ITestNGMethod method = (ITestNGMethod) Proxy.newProxyInstance(getClassLoader(), new Class<?>[]{ITestNGMethod.class},
+                (proxy, called, args) -> {
+                    switch (called.getName()) {
+                        case "getRealClass": return testClass;
+                        case "getMethodName": return methodName;
+                        case "toString": return methodName;
+                        default: throw new UnsupportedOperationException(called.getName());
+                    }
+                });
+        return (IMethodInstance) Proxy.newProxyInstance(getClassLoader(), new Class<?>[]{IMethodInstance.class},
+                (proxy, called, args) -> {
+                    switch (called.getName()) {
+                        case "getMethod": return method;
+                        case "hashCode": return System.identityHashCode(proxy);
+                        case "equals": return proxy == args[0];
+                        default: throw new UnsupportedOperationException(called.getName());
+                    }
+                });
+    }
+
+    private static ClassLoader getClassLoader() {
+        return DurationStoreTest.class.getClassLoader();
+    }
+
+    private static DurationStore.Sample sample(String className, String method, long millis) {
+        return new DurationStore.Sample(System.currentTimeMillis(), className, method, millis, DurationStore.Status.PASS);
+    }
+
+    @Test
+    public void testRecentSamplesAreAveragedAndCompacted() throws Exception {
+        Path file = Files.createTempDirectory("durations").resolve("history").resolve("durations.tsv");
+        DurationStore store = new DurationStore(file, 2);
+        try {
+            Assert.assertTrue(store.load().isEmpty(), "A missing file is an empty history.");
+
+            store.append(List.of(sample("TextBoxTest", "testA", 9_000), sample("TextBoxTest", "testB", 1_000)));
+            store.append(List.of(sample("TextBoxTest", "testA", 3_000)));
+            store.append(List.of(sample("TextBoxTest", "testA", 5_000)));
+            Files.writeString(file, "1700000000000\tTextBoxTest\ttestB\t12", StandardOpenOption.APPEND);
+
+            DurationStore.History history = store.load();
+            Assert.assertEquals(history.methodMillis("TextBoxTest", "testA").getAsLong(), 4_000, "Only the last 2 runs count.");
+            Assert.assertEquals(history.methodMillis("TextBoxTest", "testB").getAsLong(), 1_000, "The cut off line is ignored.");
+            Assert.assertEquals(history.classTotals().get("TextBoxTest").longValue(), 5_000);
+            Assert.assertFalse(history.methodMillis("TextBoxTest", "testC").isPresent());
+
+            store.compactIfLargerThan(3);
+            Assert.assertEquals(Files.readAllLines(file).size(), 3, "testA keeps its last 2 samples, testB its only one.");
+            Assert.assertEquals(store.load().methodMillis("TextBoxTest", "testA").getAsLong(), 4_000);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(file.resolveSibling("durations.tsv.lock"));
+            Files.deleteIfExists(file.getParent());
+            Files.deleteIfExists(file.getParent().getParent());
+        }
+    }
+
+    @Test
+    public void testSamplesAppendedDuringCompactionAreKept() throws Exception {
+        Path directory = Files.createTempDirectory("durations");
+        Path file = directory.resolve("durations.tsv");
+        DurationStore store = new DurationStore(file, 10);
+        int appendsPerThread = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < 2; thread++) {
+                String className = "Shard" + thread;
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < appendsPerThread; i++) {
+                        store.append(List.of(sample(className, "test" + i, i)));
+                    }
+                    return null;
+                }));
+            }
+            tasks.add(executor.submit(() -> {
+                for (int i = 0; i < 50; i++) {
+                    store.compactIfLargerThan(0);
+                }
+                return null;
+            }));
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+
+            // Every sample is the only one of its method, so compaction keeps them all
+            DurationStore.History history = store.load();
+            for (int thread = 0; thread < 2; thread++) {
+                for (int i = 0; i < appendsPerThread; i++) {
+                    Assert.assertTrue(history.methodMillis("Shard" + thread, "test" + i).isPresent(),
+                            "Sample Shard" + thread + "#test" + i + " was lost");
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path leftOver : files.collect(Collectors.toList())) {
+                    Files.deleteIfExists(leftOver);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testInterceptorStartsLongestMethodsFirst() throws Exception {
+        Path file = Files.createTempFile("durations", ".tsv");
+        DurationStore store = new DurationStore(file, 10);
+        try {
+            String webTables = String.class.getName();
+            String textBox = Integer.class.getName();
+            store.append(List.of(
+                    sample(webTables, "testSearch", 40_000), sample(webTables, "testAdd", 20_000),
+                    sample(textBox, "testSubmit", 2_000), sample(textBox, "testEmail", 4_000),
+                    sample(Long.class.getName(), "testOther", 9_000)));
+            // Unit tests recorded in the same store must not drag the estimate of new UI tests down
+            for (int i = 0; i < 10; i++) {
+                store.append(List.of(sample(Character.class.getName(), "testUnit" + i, 5)));
+            }
+
+            List<IMethodInstance> methods = List.of(
+                    instance(Integer.class, "testSubmit"),
+                    instance(Integer.class, "testEmail"),
+                    instance(Boolean.class, "testNewClass"),
+                    instance(String.class, "testAdd"),
+                    instance(String.class, "testNew"),
+                    instance(String.class, "testSearch"));
+            List<String> order = LongestFirstInterceptor.order(methods, store.load()).stream()
+                    .map(method -> method.getMethod().getMethodName())
+                    .collect(Collectors.toList());
+
+            // testNew: average of its class (30s), testNewClass: median of the known methods being ordered (12s)
+            Assert.assertEquals(order, List.of("testSearch", "testNew", "testAdd", "testNewClass", "testEmail", "testSubmit"));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(file.resolveSibling(file.getFileName() + ".lock"));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.tests.support.StubWebDriver;
+import com.demoqa.utilities.FailureArtifacts;
+import org.jetbrains.annotations.NotNull;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+
+public class FailureArtifactsTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillRect(0, 0, width / 2, height / 2);
+        graphics.dispose();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", buffer);
+        return buffer.toByteArray();
+    }
+
+    private static String gunzip(byte[] content) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static FailureArtifacts artifacts(long maxBytesPerTest, long maxBytesPerRun) {
+        return new FailureArtifacts(2, maxBytesPerTest, maxBytesPerRun, true, 0.75f, 500);
+    }
+
+    @Test
+    public void testScreenshotPageSourceAndConsoleAreCompressedAndStored() throws Exception {
+        StubWebDriver stub = StubWebDriver.create()
+                .withScreenshot(png(400, 300))
+                .withPageSource("<html><body>" + "<div>row</div>".repeat(500) + "</body></html>")
+                .log(Level.SEVERE, "Uncaught TypeError: x is undefined");
+        MemorySink sink = new MemorySink();
+        FailureArtifacts artifacts = artifacts(8 * MB, 100 * MB);
+
+        Assert.assertEquals(artifacts.capture(stub.driver(), sink), 3);
+        Assert.assertTrue(artifacts.awaitCompletion(Duration.ofSeconds(10)));
+
+        Assert.assertEquals(sink.types(), List.of("image/jpeg", "application/gzip", "text/plain"));
+        byte[] screenshot = sink.files.get(sink.sources.get(0));
+        Assert.assertEquals(screenshot[0] & 0xFF, 0xFF, "JPEG start of image marker");
+        Assert.assertEquals(screenshot[1] & 0xFF, 0xD8, "JPEG start of image marker");
+        Assert.assertNotNull(ImageIO.read(new ByteArrayInputStream(screenshot)));
+
+        byte[] pageSource = sink.files.get(sink.sources.get(1));
+        Assert.assertTrue(pageSource.length < 1_000, "Repetitive HTML must compress well, got " + pageSource.length);
+        Assert.assertTrue(gunzip(pageSource).contains("<div>row</div>"));
+        Assert.assertTrue(new String(sink.files.get(sink.sources.get(2)), StandardCharsets.UTF_8).contains("x is undefined"));
+    }
+
+    @Test
+    public void testIdenticalPageSourceIsLinkedInsteadOfStoredAgain() throws Exception {
+        StubWebDriver stub = StubWebDriver.create().withPageSource("<html><body>same page</body></html>");
+        MemorySink first = new MemorySink();
+        MemorySink second = new MemorySink();
+        FailureArtifacts artifacts = artifacts(8 * MB, 100 * MB);
+
+        artifacts.capture(stub.driver(), first);
+        artifacts.capture(stub.driver(), second);
+        Assert.assertTrue(artifacts.awaitCompletion(Duration.ofSeconds(10)));
+
+        Assert.assertEquals(second.linked.size(), 1);
+        Assert.assertEquals(second.linked.get(0), first.sources.get(0));
+        Assert.assertEquals(artifacts.getDeduplicatedCount(), 1);
+        Assert.assertFalse(second.files.containsKey(second.linked.get(0)), "The page must not be written twice.");
+    }
+
+    @Test
+    public void testArtifactsOverThePerTestCapAreSkipped() throws Exception {
+        StubWebDriver stub = StubWebDriver.create().withScreenshot(png(200, 200)).withPageSource("x".repeat(50_000));
+        MemorySink sink = new MemorySink();
+        FailureArtifacts artifacts = artifacts(10_000, 100 * MB);
+
+        artifacts.capture(stub.driver(), sink);
+        artifacts.awaitCompletion(Duration.ofSeconds(10));
+
+        Assert.assertEquals(sink.types(), List.of("image/jpeg"), "The 50 KB page source does not fit a 10 KB cap.");
+        Assert.assertEquals(artifacts.getSkippedCount(), 1);
+    }
+
+    @Test
+    public void testRunCapStopsCapturingAcrossTests() throws Exception {
+        FailureArtifacts artifacts = artifacts(8 * MB, 25_000);
+
+        for (int i = 0; i < 5; i++) {
+            StubWebDriver stub = StubWebDriver.create().withPageSource("page " + i + " " + "y".repeat(10_000));
+            artifacts.capture(stub.driver(), new MemorySink());
+        }
+        artifacts.awaitCompletion(Duration.ofSeconds(10));
+
+        Assert.assertEquals(artifacts.getAttachedCount(), 2);
+        Assert.assertEquals(artifacts.getSkippedCount(), 3);
+    }
+
+    @Test
+    public void testCaptureDoesNotWaitForTheWrites() throws Exception {
+        CountDownLatch writesMayFinish = new CountDownLatch(1);
+        MemorySink slowSink = new MemorySink() {
+            @Override
+            public void write(@NotNull String source, @NotNull byte[] content) {
+                try {
+                    writesMayFinish.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.write(source, content);
+            }
+        };
+        StubWebDriver stub = StubWebDriver.create().withScreenshot(png(100, 100)).withPageSource("<html>slow disk</html>");
+        FailureArtifacts artifacts = artifacts(8 * MB, 100 * MB);
+
+        Assert.assertEquals(artifacts.capture(stub.driver(), slowSink), 2);
+        Assert.assertTrue(slowSink.files.isEmpty(), "Nothing may be written on the test thread.");
+        Assert.assertFalse(artifacts.awaitCompletion(Duration.ofMillis(100)));
+
+        writesMayFinish.countDown();
+        Assert.assertTrue(artifacts.awaitCompletion(Duration.ofSeconds(10)));
+        Assert.assertEquals(slowSink.files.size(), 2);
+    }
+
+    @Test
+    public void testGoneBrowserYieldsNoArtifactsAndNoException() {
+        StubWebDriver stub = StubWebDriver.create();
+        stub.crash();
+
+        Assert.assertEquals(artifacts(8 * MB, 100 * MB).capture(stub.driver(), new MemorySink()), 0);
+    }
+
+
+    private static class MemorySink implements FailureArtifacts.Sink {
+        private final List<String> sources = new CopyOnWriteArrayList<>();
+        private final List<String> mimeTypes = new CopyOnWriteArrayList<>();
+        private final List<String> linked = new CopyOnWriteArrayList<>();
+        private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+
+        @Override
+        public String prepare(@NotNull String name, @NotNull String mimeType, @NotNull String fileExtension) {
+            String source = java.util.UUID.randomUUID() + "-attachment" + fileExtension;
+            sources.add(source);
+            mimeTypes.add(mimeType);
+            return source;
+        }
+
+        @Override
+        public void link(@NotNull String name, @NotNull String mimeType, @NotNull String source) {
+            linked.add(source);
+        }
+
+        @Override
+        public void write(@NotNull String source, @NotNull byte[] content) {
+            files.put(source, content);
+        }
+
+        List<String> types() {
+            return mimeTypes;
+        }
+    }
+}
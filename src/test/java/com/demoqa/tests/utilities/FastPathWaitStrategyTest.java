@@ -0,0 +1,86 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.utilities.FastPathWaitStrategy;
+import com.demoqa.utilities.StepMetrics;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+public class FastPathWaitStrategyTest {
+
+    // Element whose isDisplayed() answer depends on how many times it was asked (1-based)
+    private static WebElement element(AtomicInteger checks, IntFunction<Boolean> displayedOnCheck) {
+        return (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(), new Class<?>[]{WebElement.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "isDisplayed":
+                            return displayedOnCheck.apply(checks.incrementAndGet());
+                        case "isEnabled":
+                            return true;
+                        case "toString":
+                            return "stub element";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static FastPathWaitStrategy strategy(StepMetrics metrics, long timeoutMillis) {
+        return new FastPathWaitStrategy(Duration.ofMillis(timeoutMillis), Duration.ofMillis(10), metrics);
+    }
+
+    // Waits outside a BasePage step are all counted under one step
+    private static StepMetrics.StepStats waits(StepMetrics metrics) {
+        List<StepMetrics.StepStats> steps = metrics.snapshot();
+        Assert.assertEquals(steps.size(), 1);
+        return steps.get(0);
+    }
+
+    @Test
+    public void testVisibleElementSkipsPolling() {
+        StepMetrics metrics = new StepMetrics();
+        AtomicInteger checks = new AtomicInteger();
+
+        strategy(metrics, 1_000).untilClickable(element(checks, check -> true));
+
+        Assert.assertEquals(checks.get(), 1, "An element that is already visible must be checked exactly once.");
+        Assert.assertEquals(waits(metrics).getWaits(StepMetrics.WaitOutcome.FAST_PATH), 1);
+        Assert.assertEquals(waits(metrics).getWaits(StepMetrics.WaitOutcome.POLLED), 0);
+    }
+
+    @Test
+    public void testMissingElementIsPolledUntilItAppears() {
+        StepMetrics metrics = new StepMetrics();
+        AtomicInteger checks = new AtomicInteger();
+        WebElement appearsOnThirdCheck = element(checks, check -> {
+            if (check == 1) {
+                throw new NoSuchElementException("not rendered yet");
+            }
+            return check >= 3;
+        });
+
+        strategy(metrics, 1_000).untilVisible(appearsOnThirdCheck);
+
+        Assert.assertEquals(checks.get(), 3);
+        Assert.assertEquals(waits(metrics).getWaits(StepMetrics.WaitOutcome.POLLED), 1);
+        Assert.assertTrue(waits(metrics).getMaxMillis() < 500, "A 10ms poll interval should find the element quickly.");
+    }
+
+    @Test
+    public void testTimeoutIsRecordedAndRethrown() {
+        StepMetrics metrics = new StepMetrics();
+
+        Assert.assertThrows(TimeoutException.class,
+                () -> strategy(metrics, 100).untilVisible(element(new AtomicInteger(), check -> false)));
+        Assert.assertEquals(waits(metrics).getWaits(StepMetrics.WaitOutcome.TIMED_OUT), 1);
+        Assert.assertEquals(waits(metrics).getCount(), 1, "The timed-out wait is timed as well.");
+    }
+}
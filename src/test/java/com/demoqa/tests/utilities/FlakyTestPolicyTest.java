@@ -0,0 +1,238 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.listeners.FailureClassifier;
+import com.demoqa.listeners.FlakyTestPolicy;
+import com.demoqa.listeners.InfrastructureRetryAnalyzer;
+import com.demoqa.sharding.DurationStore;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.IMethodInstance;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.testng.internal.annotations.TestAnnotation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class FlakyTestPolicyTest {
+
+    // Only getThrowable() and getMethod().getQualifiedName() are used by the retry analyzer
+    private static ITestResult failedWith(Throwable failure) {
+        ITestNGMethod method = (ITestNGMethod) Proxy.newProxyInstance(FlakyTestPolicyTest.class.getClassLoader(),
+                new Class<?>[]{ITestNGMethod.class}, (proxy, called, args) -> "WebTablesTest.testSearch");
+        return (ITestResult) Proxy.newProxyInstance(FlakyTestPolicyTest.class.getClassLoader(), new Class<?>[]{ITestResult.class},
+                (proxy, called, args) -> called.getName().equals("getThrowable") ? failure : method);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreBudget() {
+        InfrastructureRetryAnalyzer.resetBudget(5);
+    }
+
+    @Test
+    public void testOnlyInfrastructureFailuresAreRetried() {
+        Assert.assertTrue(FailureClassifier.isInfrastructureFailure(new TimeoutException("Expected condition failed")));
+        Assert.assertTrue(FailureClassifier.isInfrastructureFailure(new RuntimeException(new StaleElementReferenceException("stale"))),
+                "Wrapped exceptions are classified by their cause.");
+        Assert.assertTrue(FailureClassifier.isInfrastructureFailure(new WebDriverException("chrome not reachable")));
+        Assert.assertFalse(FailureClassifier.isInfrastructureFailure(new AssertionError("expected [Name:Zoran] but found [Name:]")));
+        Assert.assertFalse(FailureClassifier.isInfrastructureFailure(new NoSuchElementException("#userName")),
+                "A missing element is a broken page or locator, not infrastructure.");
+        Assert.assertFalse(FailureClassifier.isInfrastructureFailure(null));
+
+        InfrastructureRetryAnalyzer analyzer = new InfrastructureRetryAnalyzer();
+        Assert.assertFalse(analyzer.retry(failedWith(new AssertionError("real failure"))), "Real failures fail fast.");
+        Assert.assertTrue(analyzer.retry(failedWith(new TimeoutException("slow"))));
+        Assert.assertFalse(analyzer.retry(failedWith(new TimeoutException("slow again"))), "One retry per test by default.");
+    }
+
+    @Test
+    public void testSuiteBudgetCapsRetries() {
+        InfrastructureRetryAnalyzer.resetBudget(2);
+        List<Boolean> retried = new ArrayList<>();
+        for (int test = 0; test < 4; test++) {
+            retried.add(new InfrastructureRetryAnalyzer().retry(failedWith(new StaleElementReferenceException("stale"))));
+        }
+        Assert.assertEquals(retried, List.of(true, true, false, false));
+        Assert.assertEquals(InfrastructureRetryAnalyzer.getRetriesUsed(), 2);
+    }
+
+    @Test
+    public void testFlakyTestsAreQuarantined() throws Exception {
+        Path file = Files.createTempFile("durations", ".tsv");
+        try {
+            DurationStore store = new DurationStore(file, 10);
+            String className = FlakyTestPolicyTest.class.getName();
+            for (DurationStore.Status status : List.of(DurationStore.Status.PASS, DurationStore.Status.FLAKY,
+                    DurationStore.Status.FLAKY, DurationStore.Status.PASS)) {
+                store.append(List.of(
+                        new DurationStore.Sample(0, className, "testSuiteBudgetCapsRetries", 100, status),
+                        new DurationStore.Sample(0, className, "testOnlyInfrastructureFailuresAreRetried", 100, DurationStore.Status.PASS)));
+            }
+            store.append(List.of(new DurationStore.Sample(0, className, "testFlakyTestsAreQuarantined", 100, DurationStore.Status.FLAKY)));
+            DurationStore.History history = store.load();
+            Assert.assertEquals(history.flakeRate(className, "testSuiteBudgetCapsRetries"), 0.5);
+
+            FlakyTestPolicy policy = new FlakyTestPolicy("skip", 0.3, 3, history);
+            List<String> kept = intercept(policy, "testSuiteBudgetCapsRetries", "testOnlyInfrastructureFailuresAreRetried",
+                    "testFlakyTestsAreQuarantined");
+
+            Assert.assertEquals(kept, List.of("testSuiteBudgetCapsRetries", "testOnlyInfrastructureFailuresAreRetried",
+                    "testFlakyTestsAreQuarantined"), "Quarantined tests stay in the run to be reported as skipped.");
+            Assert.assertEquals(policy.getQuarantined(), List.of(className
+                    + ".testSuiteBudgetCapsRetries (flaky in 50% of the last 4 runs)"), "Flaky in 2 of 4 runs, above the 30% threshold; "
+                    + "a single flaky run of testFlakyTestsAreQuarantined is not enough history.");
+            Assert.assertEquals(transform(policy, "testOnlyInfrastructureFailuresAreRetried").getRetryAnalyzerClass(),
+                    InfrastructureRetryAnalyzer.class);
+
+            FlakyTestPolicy onlyQuarantined = new FlakyTestPolicy("only", 0.3, 3, history);
+            Assert.assertEquals(intercept(onlyQuarantined, "testSuiteBudgetCapsRetries", "testOnlyInfrastructureFailuresAreRetried"),
+                    List.of("testSuiteBudgetCapsRetries"));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(file.resolveSibling(file.getFileName() + ".lock"));
+        }
+    }
+
+    @Test
+    public void testInheritedTestsAreQuarantinedPerRealClass() {
+        // DurationRecorder records an inherited method under the class that ran it, not the one that declares it
+        List<DurationStore.Sample> samples = new ArrayList<>();
+        for (DurationStore.Status status : List.of(DurationStore.Status.FLAKY, DurationStore.Status.FLAKY, DurationStore.Status.PASS)) {
+            samples.add(new DurationStore.Sample(0, String.class.getName(), "testInherited", 100, status));
+        }
+        DurationStore.History history = historyOf(samples);
+
+        FlakyTestPolicy policy = new FlakyTestPolicy("only", 0.3, 3, history);
+        List<IMethodInstance> kept = policy.intercept(List.of(instance(String.class, "testInherited"),
+                instance(Integer.class, "testInherited")), context());
+
+        Assert.assertEquals(kept.size(), 1);
+        Assert.assertEquals(kept.get(0).getMethod().getRealClass(), String.class, "Only the flaky subclass is quarantined.");
+    }
+
+    @Test
+    public void testQuarantinedTestsAreReportedAsSkipped() {
+        List<DurationStore.Sample> samples = new ArrayList<>();
+        for (DurationStore.Status status : List.of(DurationStore.Status.FLAKY, DurationStore.Status.FLAKY, DurationStore.Status.PASS)) {
+            samples.add(new DurationStore.Sample(0, QuarantineSample.class.getName(), "flaky", 100, status));
+            samples.add(new DurationStore.Sample(0, QuarantineSample.class.getName(), "stable", 100, DurationStore.Status.PASS));
+        }
+        FlakyTestPolicy policy = new FlakyTestPolicy("skip", 0.3, 3, historyOf(samples));
+        QuarantineSample.invoked.clear();
+
+        TestListenerAdapter results = new TestListenerAdapter();
+        TestNG testng = new TestNG(false);
+        // Without the listeners of META-INF/services, which would record this run in the real duration history
+        testng.setServiceLoaderClassLoader(new URLClassLoader(new URL[0], null));
+        testng.setTestClasses(new Class<?>[]{QuarantineSample.class});
+        testng.addListener(policy);
+        testng.addListener(results);
+        testng.setVerbose(0);
+        testng.run();
+
+        Assert.assertEquals(QuarantineSample.invoked, List.of("stable"), "The quarantined test must not run.");
+        Assert.assertEquals(results.getPassedTests().size(), 1);
+        Assert.assertEquals(results.getSkippedTests().size(), 1, "The quarantined test is reported, as skipped.");
+        ITestResult skipped = results.getSkippedTests().get(0);
+        Assert.assertEquals(skipped.getStatus(), ITestResult.SKIP);
+        Assert.assertEquals(skipped.getMethod().getMethodName(), "flaky");
+        Assert.assertTrue(skipped.getThrowable() instanceof SkipException);
+        Assert.assertEquals(skipped.getThrowable().getMessage(), "quarantined: flaky in 67% of the last 3 runs");
+    }
+
+    // Run by testQuarantinedTestsAreReportedAsSkipped in a TestNG run of its own, not by the unit test suite
+    public static class QuarantineSample {
+
+        static final List<String> invoked = Collections.synchronizedList(new ArrayList<>());
+
+        @Test
+        public void flaky() {
+            invoked.add("flaky");
+        }
+
+        @Test
+        public void stable() {
+            invoked.add("stable");
+        }
+    }
+
+    // Names of the methods of this class that the policy lets run
+    private static List<String> intercept(FlakyTestPolicy policy, String... methodNames) {
+        List<IMethodInstance> methods = new ArrayList<>();
+        for (String methodName : methodNames) {
+            methods.add(instance(FlakyTestPolicyTest.class, methodName));
+        }
+        return policy.intercept(methods, context()).stream().map(method -> method.getMethod().getMethodName())
+                .collect(Collectors.toList());
+    }
+
+    // Only getMethod(), getRealClass() and getMethodName() are used by the policy
+    private static IMethodInstance instance(Class<?> testClass, String methodName) {
+        ITestNGMethod method = (ITestNGMethod) Proxy.newProxyInstance(FlakyTestPolicyTest.class.getClassLoader(),
+                new Class<?>[]{ITestNGMethod.class}, (proxy, called, args) -> {
+                    switch (called.getName()) {
+                        case "getRealClass": return testClass;
+                        case "getMethodName": return methodName;
+                        default: throw new UnsupportedOperationException(called.getName());
+                    }
+                });
+        return (IMethodInstance) Proxy.newProxyInstance(FlakyTestPolicyTest.class.getClassLoader(),
+                new Class<?>[]{IMethodInstance.class}, (proxy, called, args) -> {
+                    if (called.getName().equals("getMethod")) {
+                        return method;
+                    }
+                    throw new UnsupportedOperationException(called.getName());
+                });
+    }
+
+    private static ITestContext context() {
+        return (ITestContext) Proxy.newProxyInstance(FlakyTestPolicyTest.class.getClassLoader(),
+                new Class<?>[]{ITestContext.class}, (proxy, called, args) -> {
+                    if (called.getName().equals("getName")) {
+                        return "UnitTests";
+                    }
+                    throw new UnsupportedOperationException(called.getName());
+                });
+    }
+
+    private static DurationStore.History historyOf(List<DurationStore.Sample> samples) {
+        try {
+            Path file = Files.createTempFile("durations", ".tsv");
+            try {
+                DurationStore store = new DurationStore(file, 10);
+                store.append(samples);
+                return store.load();
+            } finally {
+                Files.deleteIfExists(file);
+                Files.deleteIfExists(file.resolveSibling(file.getFileName() + ".lock"));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static TestAnnotation transform(FlakyTestPolicy policy, String methodName) throws NoSuchMethodException {
+        TestAnnotation annotation = new TestAnnotation();
+        policy.transform(annotation, null, null, FlakyTestPolicyTest.class.getMethod(methodName));
+        return annotation;
+    }
+}
@@ -0,0 +1,71 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.pages.elements.TextBoxPage;
+import com.demoqa.tests.support.StubWebDriver;
+import com.demoqa.utilities.FillMode;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FormFillTest {
+
+    private static TextBoxPage fastFillPage(StubWebDriver stub, long timeoutMillis) {
+        TextBoxPage page = new TextBoxPage(stub.driver(), new WebDriverWait(stub.driver(), Duration.ofMillis(timeoutMillis), Duration.ofMillis(10)));
+        page.setFillMode(FillMode.FAST);
+        return page;
+    }
+
+    @Test
+    public void testFastFillSetsTheWholeFormInOneScriptCall() {
+        List<Object> fields = new ArrayList<>();
+        StubWebDriver stub = StubWebDriver.create().onScript((script, args) -> {
+            fields.add(args[0]);
+            return List.of();
+        });
+
+        fastFillPage(stub, 1_000).fillOutTextBoxForm("Zoran Dimitrievski", "zoran@example.com", "Skopje", null);
+
+        Assert.assertEquals(stub.getExecutedScripts().size(), 1);
+        Assert.assertEquals(fields.get(0), List.of(
+                        List.of("#userName", "Zoran Dimitrievski"),
+                        List.of("#userEmail", "zoran@example.com"),
+                        List.of("#currentAddress", "Skopje")),
+                "Fields are passed in form order and null values are left out.");
+    }
+
+    @Test
+    public void testFastFillPollsUntilTheFormIsRendered() {
+        AtomicInteger calls = new AtomicInteger();
+        StubWebDriver stub = StubWebDriver.create().onScript((script, args) ->
+                calls.incrementAndGet() < 3 ? List.of("#userName", "#userEmail") : List.of());
+
+        fastFillPage(stub, 1_000).fillOutTextBoxForm("Zoran Dimitrievski", "zoran@example.com", "Skopje", "Skopje");
+
+        Assert.assertEquals(calls.get(), 3);
+    }
+
+    @Test
+    public void testMissingFieldsAreNamedInTheTimeout() {
+        StubWebDriver stub = StubWebDriver.create().onScript((script, args) -> List.of("#permanentAddress"));
+
+        TimeoutException timeout = Assert.expectThrows(TimeoutException.class, () ->
+                fastFillPage(stub, 100).fillOutTextBoxForm("Zoran Dimitrievski", "zoran@example.com", "Skopje", "Skopje"));
+
+        Assert.assertTrue(timeout.getMessage().contains("#permanentAddress"), timeout.getMessage());
+    }
+
+    @Test
+    public void testEmptyFormRunsNoScript() {
+        StubWebDriver stub = StubWebDriver.create();
+
+        fastFillPage(stub, 100).fillOutTextBoxForm(null, null, null, null);
+
+        Assert.assertTrue(stub.getExecutedScripts().isEmpty());
+    }
+}
@@ -0,0 +1,233 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.utilities.GridSessionThrottle;
+import com.demoqa.utilities.GridStatus;
+import com.demoqa.utilities.LocalGridServer;
+import com.demoqa.utilities.WebDriverManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GridSessionThrottleTest {
+
+    private static String slot(String browserName, boolean busy) {
+        return "{\"id\": {\"id\": \"slot\"}, \"session\": " + (busy ? "{\"sessionId\": \"s\"}" : "null")
+                + ", \"stereotype\": {\"browserName\": \"" + browserName + "\"}}";
+    }
+
+    private static String node(String availability, int maxSessions, String... slots) {
+        return "{\"availability\": \"" + availability + "\", \"maxSessions\": " + maxSessions
+                + ", \"slots\": [" + String.join(",", slots) + "]}";
+    }
+
+    private static String status(boolean ready, String... nodes) {
+        return "{\"value\": {\"ready\": " + ready + ", \"message\": \"\", \"nodes\": [" + String.join(",", nodes) + "]}}";
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void clearGrid() {
+        WebDriverManager.useGrid(null);
+    }
+
+    @Test
+    public void testFreeSlotsRespectMaxSessionsAndAvailability() {
+        GridStatus status = GridStatus.parse(status(true,
+                node("UP", 2, slot("chrome", true), slot("chrome", false), slot("chrome", false), slot("MicrosoftEdge", false)),
+                node("UP", 4, slot("chrome", false), slot("firefox", true)),
+                node("DOWN", 4, slot("chrome", false))));
+
+        // First node: 1 of 2 sessions used, so only one more although two chrome slots are free
+        Assert.assertEquals(status.freeSlots("chrome"), 2);
+        Assert.assertEquals(status.freeSlots("microsoftedge"), 1);
+        Assert.assertEquals(status.freeSlots("firefox"), 0);
+        Assert.assertEquals(status.capacity("chrome"), 3);
+        Assert.assertEquals(status.capacity("safari"), 0);
+    }
+
+    @Test
+    public void testGridThatIsNotReadyHasNoFreeSlots() {
+        GridStatus status = GridStatus.parse(status(false, node("UP", 1, slot("chrome", false))));
+
+        Assert.assertEquals(status.freeSlots("chrome"), 0);
+    }
+
+    @Test
+    public void testSessionsQueueUntilTheGridHasAFreeSlot() throws Exception {
+        AtomicInteger busy = new AtomicInteger(1);
+        GridSessionThrottle throttle = new GridSessionThrottle("fake", () -> GridStatus.parse(
+                status(true, node("UP", 1, slot("chrome", busy.get() > 0)))), 20, 5_000);
+
+        CompletableFuture<Long> waited = CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            throttle.acquire("chrome");
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        });
+        Thread.sleep(200);
+        Assert.assertFalse(waited.isDone(), "The session must wait while the only slot is busy.");
+
+        busy.set(0);
+        Assert.assertTrue(waited.get(5, TimeUnit.SECONDS) >= 200);
+        Assert.assertEquals(throttle.getQueuedCount(), 1);
+        Assert.assertEquals(throttle.getGrantedCount(), 1);
+    }
+
+    @Test
+    public void testStartingSessionsAreNotGrantedTheSameSlot() throws Exception {
+        // The status keeps reporting one free slot: the second caller must wait until the first session was released
+        GridSessionThrottle throttle = new GridSessionThrottle("fake", () -> GridStatus.parse(
+                status(true, node("UP", 1, slot("chrome", false)))), 20, 5_000);
+        throttle.acquire("chrome");
+
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> throttle.acquire("chrome"));
+        Thread.sleep(150);
+        Assert.assertFalse(second.isDone());
+
+        throttle.release("chrome");
+        second.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testQueueTimeoutNamesAMissingBrowser() {
+        GridSessionThrottle throttle = new GridSessionThrottle("fake", () -> GridStatus.parse(
+                status(true, node("UP", 1, slot("chrome", false)))), 10, 100);
+
+        try {
+            throttle.acquire("firefox");
+            Assert.fail("Expected a timeout");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().contains("no node of the grid offers firefox"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testUnreachableGridTimesOutWithTheLastError() {
+        GridSessionThrottle throttle = new GridSessionThrottle("fake", () -> {
+            throw new IOException("Connection refused");
+        }, 10, 100);
+
+        try {
+            throttle.acquire("chrome");
+            Assert.fail("Expected a timeout");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().contains("Connection refused"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testRemoteSessionsAreThrottledByTheGridCapacity() throws Exception {
+        FakeGrid grid = FakeGrid.start(1);
+        try {
+            WebDriverManager.useGrid(grid.url());
+            WebDriver first = new WebDriverManager().initiateDriver("chrome|headless");
+            Assert.assertTrue(first instanceof RemoteWebDriver);
+
+            CompletableFuture<WebDriver> second = CompletableFuture.supplyAsync(
+                    () -> new WebDriverManager().initiateDriver("chrome|headless"));
+            Thread.sleep(1_000);
+            Assert.assertFalse(second.isDone(), "The second session must wait for the only slot.");
+            Assert.assertEquals(grid.createdSessions.get(), 1);
+
+            first.quit();
+            second.get(10, TimeUnit.SECONDS).quit();
+            Assert.assertEquals(grid.createdSessions.get(), 2);
+        } finally {
+            grid.stop();
+        }
+    }
+
+    @Test
+    public void testLocalServerCommandStartsAStandaloneServer() {
+        LocalGridServer server = new LocalGridServer(Paths.get("selenium-server.jar"), 4444, 512,
+                Duration.ofSeconds(1), Paths.get("target", "selenium-server-test.log"));
+
+        List<String> command = server.command();
+
+        Assert.assertEquals(command.subList(1, 6), List.of("-jar", "selenium-server.jar", "standalone", "--port", "4444"));
+        Assert.assertTrue(command.containsAll(List.of("--max-sessions", "512", "--override-max-sessions")), command.toString());
+    }
+
+    @Test
+    public void testLocalServerWithoutJarFailsClearly() {
+        LocalGridServer server = new LocalGridServer(Paths.get("target", "missing-selenium-server.jar"), 0, 1,
+                Duration.ofSeconds(1), Paths.get("target", "selenium-server-test.log"));
+
+        try {
+            server.start();
+            Assert.fail("Expected the missing jar to be reported");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().contains("-Dgrid.local.jar"), e.getMessage());
+        }
+    }
+
+
+    // Minimal grid endpoint: /status with one node of the given size, and session creation and deletion
+    private static final class FakeGrid {
+        private final HttpServer server;
+        private final AtomicInteger busySessions = new AtomicInteger();
+        private final AtomicInteger createdSessions = new AtomicInteger();
+
+        private FakeGrid(HttpServer server) {
+            this.server = server;
+        }
+
+        static FakeGrid start(int maxSessions) throws IOException {
+            FakeGrid grid = new FakeGrid(HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0));
+            grid.server.createContext("/", exchange -> grid.handle(exchange, maxSessions));
+            grid.server.start();
+            return grid;
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private void handle(HttpExchange exchange, int maxSessions) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            exchange.getRequestBody().readAllBytes();
+            String body;
+            if (path.equals("/status")) {
+                String[] slots = new String[maxSessions];
+                for (int i = 0; i < maxSessions; i++) {
+                    slots[i] = slot("chrome", i < busySessions.get());
+                }
+                body = status(true, node("UP", maxSessions, slots));
+            } else if (path.equals("/session") && method.equals("POST")) {
+                busySessions.incrementAndGet();
+                body = "{\"value\": {\"sessionId\": \"fake-" + createdSessions.incrementAndGet()
+                        + "\", \"capabilities\": {\"browserName\": \"chrome\"}}}";
+            } else if (path.startsWith("/session/") && method.equals("DELETE")) {
+                busySessions.decrementAndGet();
+                body = "{\"value\": null}";
+            } else {
+                body = "{\"value\": null}";
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.utilities.LocalMirrorServer;
+import com.demoqa.utilities.SiteUrls;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+public class LocalMirrorServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Path snapshotDir;
+    private LocalMirrorServer mirror;
+
+    @BeforeMethod
+    public void createSnapshot() throws IOException {
+        snapshotDir = Files.createTempDirectory("mirror");
+        Files.writeString(snapshotDir.resolve("index.html"), "<html>home</html>");
+        Files.writeString(snapshotDir.resolve("text-box"), "<html>text box</html>");
+        Files.createDirectories(snapshotDir.resolve("static/js"));
+        Files.writeString(snapshotDir.resolve("static/js/main.js"), "console.log('app');");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanUp() throws IOException {
+        if (mirror != null) {
+            mirror.stop();
+        }
+        SiteUrls.reset();
+        try (Stream<Path> files = Files.walk(snapshotDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private HttpResponse<String> get(String url) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testServesRecordedPagesAndAssets() throws Exception {
+        mirror = new LocalMirrorServer(snapshotDir, 0, 4, LocalMirrorServer.Mode.REPLAY, SiteUrls.PUBLIC_SITE);
+        mirror.start();
+        SiteUrls.useBaseUrl(mirror.getBaseUrl());
+
+        HttpResponse<String> home = get(SiteUrls.baseUrl());
+        Assert.assertEquals(home.statusCode(), 200);
+        Assert.assertEquals(home.body(), "<html>home</html>");
+
+        HttpResponse<String> textBox = get(SiteUrls.of("text-box"));
+        Assert.assertEquals(textBox.body(), "<html>text box</html>");
+        Assert.assertTrue(textBox.headers().firstValue("Content-Type").orElse("").startsWith("text/html"));
+
+        HttpResponse<String> script = get(SiteUrls.of("/static/js/main.js"));
+        Assert.assertTrue(script.headers().firstValue("Content-Type").orElse("").startsWith("application/javascript"));
+    }
+
+    @Test
+    public void testUnrecordedRouteFallsBackToIndexButMissingAssetIsNotFound() throws Exception {
+        mirror = new LocalMirrorServer(snapshotDir, 0, 4, LocalMirrorServer.Mode.REPLAY, SiteUrls.PUBLIC_SITE);
+        mirror.start();
+
+        Assert.assertEquals(get(mirror.getBaseUrl() + "webtables").body(), "<html>home</html>");
+        Assert.assertEquals(get(mirror.getBaseUrl() + "static/js/missing.js").statusCode(), 404);
+        Assert.assertEquals(get(mirror.getBaseUrl() + "..%2F..%2Fetc%2Fpasswd").statusCode(), 400, "Paths outside the snapshot must be rejected.");
+        Assert.assertEquals(mirror.getMissedRequestCount(), 1);
+    }
+
+    @Test
+    public void testRecordModeStoresUpstreamResponsesOnce() throws Exception {
+        // A second mirror plays the part of the public site
+        LocalMirrorServer upstream = new LocalMirrorServer(snapshotDir, 0, 2, LocalMirrorServer.Mode.REPLAY, SiteUrls.PUBLIC_SITE);
+        upstream.start();
+        Path recordingDir = Files.createTempDirectory("mirror-recording");
+        try {
+            mirror = new LocalMirrorServer(recordingDir, 0, 2, LocalMirrorServer.Mode.RECORD, upstream.getBaseUrl());
+            mirror.start();
+
+            Assert.assertEquals(get(mirror.getBaseUrl() + "static/js/main.js").body(), "console.log('app');");
+            Assert.assertEquals(get(mirror.getBaseUrl() + "static/js/main.js").body(), "console.log('app');");
+
+            Assert.assertTrue(Files.isRegularFile(recordingDir.resolve("static/js/main.js")));
+            Assert.assertEquals(upstream.getServedRequestCount(), 1, "Recorded files must be replayed from disk.");
+        } finally {
+            upstream.stop();
+            try (Stream<Path> files = Files.walk(recordingDir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testReplayWithoutSnapshotDirectoryFailsFast() throws IOException {
+        new LocalMirrorServer(snapshotDir.resolve("missing"), 0, 1, LocalMirrorServer.Mode.REPLAY, SiteUrls.PUBLIC_SITE).start();
+    }
+}
@@ -0,0 +1,119 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.pages.BasePage;
+import com.demoqa.pages.elements.TextBoxPage;
+import com.demoqa.tests.BaseTest;
+import com.demoqa.tests.TestContext;
+import com.demoqa.tests.support.StubWebDriver;
+import com.demoqa.utilities.NavigationCache;
+import com.demoqa.utilities.SiteUrls;
+import org.openqa.selenium.Cookie;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class NavigationCacheTest {
+
+    private static final String ORIGIN = "https://demoqa.com";
+
+    // Answers the cache's storage scripts like a page on ORIGIN with one localStorage entry; page readiness is immediate
+    private static StubWebDriver page(List<Object> writtenStorage) {
+        StubWebDriver stub = StubWebDriver.create();
+        return stub.onScript((script, args) -> {
+            if (script.contains("localStorage.key")) {
+                return Map.of("url", stub.getCurrentUrl(), "origin", ORIGIN, "storage", Map.of("consent", "accepted"));
+            }
+            if (script.contains("localStorage.setItem")) {
+                writtenStorage.add(args[1]);
+                return ORIGIN.equals(args[0]);
+            }
+            return null;
+        });
+    }
+
+    // Exposes the protected navigation helper of BaseTest without its browser setUp
+    private static class Navigator extends BaseTest {
+        void open(String chain, BasePage target, Runnable clicks) {
+            navigateVia(chain, target, clicks);
+        }
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void endContext() {
+        TestContext.end();
+    }
+
+    @Test
+    public void testSnapshotRestoresCookiesAndLocalStorage() {
+        List<Object> writtenStorage = new ArrayList<>();
+        StubWebDriver recording = page(writtenStorage);
+        recording.driver().get(ORIGIN + "/checkbox");
+        recording.driver().manage().addCookie(new Cookie("session", "abc"));
+        recording.driver().manage().addCookie(new Cookie("expired", "x", "/", new Date(System.currentTimeMillis() - 60_000)));
+        NavigationCache cache = new NavigationCache(true);
+        cache.record("key", recording.driver());
+
+        StubWebDriver fresh = page(writtenStorage);
+        Assert.assertTrue(cache.restoreState(fresh.driver(), cache.get("key").orElseThrow()));
+
+        Assert.assertEquals(cache.get("key").orElseThrow().getUrl(), ORIGIN + "/checkbox");
+        Assert.assertEquals(writtenStorage, List.of(Map.of("consent", "accepted")));
+        Assert.assertNotNull(fresh.driver().manage().getCookieNamed("session"));
+        Assert.assertNull(fresh.driver().manage().getCookieNamed("expired"), "Expired cookies are not restored.");
+    }
+
+    @Test
+    public void testSnapshotOfAnotherOriginIsNotRestored() {
+        NavigationCache cache = new NavigationCache(true);
+        NavigationCache.Snapshot snapshot = new NavigationCache.Snapshot("http://127.0.0.1:8080/checkbox",
+                "http://127.0.0.1:8080", List.of(new Cookie("session", "abc")), Map.of());
+        StubWebDriver stub = page(new ArrayList<>());
+
+        Assert.assertFalse(cache.restoreState(stub.driver(), snapshot));
+        Assert.assertTrue(stub.getCookies().isEmpty());
+    }
+
+    @Test
+    public void testDisabledCacheRecordsNothing() {
+        StubWebDriver stub = page(new ArrayList<>());
+        NavigationCache cache = new NavigationCache(false);
+
+        cache.record("key", stub.driver());
+
+        Assert.assertFalse(cache.get("key").isPresent());
+        Assert.assertTrue(stub.getExecutedScripts().isEmpty());
+    }
+
+    @Test
+    public void testSecondNavigationTakesTheShortcutAndIsFlagged() {
+        String chain = "unit-test/" + System.nanoTime();
+        AtomicInteger clicks = new AtomicInteger();
+        Runnable clickThrough = () -> {
+            clicks.incrementAndGet();
+            TestContext.current().getDriver().get(ORIGIN + "/text-box");
+        };
+        Navigator navigator = new Navigator();
+
+        StubWebDriver first = page(new ArrayList<>());
+        TestContext.start(first.driver());
+        navigator.open(chain, new TextBoxPage(first.driver(), TestContext.current().getWait()), clickThrough);
+        Assert.assertNull(Reporter.getCurrentTestResult().getAttribute(BaseTest.NAVIGATION_SHORTCUT_ATTRIBUTE));
+        TestContext.end();
+
+        StubWebDriver second = page(new ArrayList<>());
+        second.driver().get(SiteUrls.baseUrl());
+        TestContext.start(second.driver());
+        navigator.open(chain, new TextBoxPage(second.driver(), TestContext.current().getWait()), clickThrough);
+
+        Assert.assertEquals(clicks.get(), 1, "The second test jumps to the recorded URL.");
+        Assert.assertEquals(second.getCurrentUrl(), ORIGIN + "/text-box");
+        Assert.assertEquals(Reporter.getCurrentTestResult().getAttribute(BaseTest.NAVIGATION_SHORTCUT_ATTRIBUTE), chain);
+    }
+}
@@ -0,0 +1,86 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.utilities.BlockedRequestMetrics;
+import com.demoqa.utilities.NetworkBlocker;
+import com.demoqa.utilities.NetworkBlocklist;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class NetworkBlockerTest {
+
+    private static final String AD_SCRIPT = "https://pagead2.googlesyndication.com/pagead/js/adsbygoogle.js";
+    private static final String PAGE_SCRIPT = "https://demoqa.com/static/js/main.js";
+
+    private static Map<String, Object> requestWillBeSent(String requestId, String url) {
+        return Map.of("requestId", requestId, "request", Map.of("url", url, "method", "GET"));
+    }
+
+    @Test
+    public void testBlocklistUsesDevToolsWildcards() {
+        NetworkBlocklist blocklist = new NetworkBlocklist(List.of("*doubleclick.net*", "https://ads.example.com/*.js"));
+
+        Assert.assertTrue(blocklist.matches("https://securepubads.g.doubleclick.net/tag/js/gpt.js"));
+        Assert.assertTrue(blocklist.matches("https://ads.example.com/banner/v2.js"));
+        Assert.assertFalse(blocklist.matches("https://ads.example.com/banner.css"));
+        Assert.assertFalse(blocklist.matches(PAGE_SCRIPT));
+        Assert.assertTrue(NetworkBlocklist.DEFAULT_PATTERNS.stream().noneMatch(pattern -> pattern.contains("demoqa")),
+                "The site under test must never be blocked.");
+        Assert.assertEquals(NetworkBlocklist.hostOf(AD_SCRIPT), "pagead2.googlesyndication.com");
+    }
+
+    @Test
+    public void testBlockedRequestsAreCountedPerHostWithEstimatedBytes() throws IOException {
+        Path sizes = Files.createTempFile("blocked-sizes", ".tsv");
+        Files.write(sizes, List.of("pagead2.googlesyndication.com\t150000"), StandardCharsets.UTF_8);
+        BlockedRequestMetrics metrics = new BlockedRequestMetrics(sizes);
+        NetworkBlocker blocker = new NetworkBlocker(new NetworkBlocklist(NetworkBlocklist.DEFAULT_PATTERNS),
+                NetworkBlocker.Mode.BLOCK, metrics);
+
+        for (String id : List.of("1", "2")) {
+            blocker.onRequestWillBeSent(requestWillBeSent(id, AD_SCRIPT));
+            blocker.onLoadingFailed(Map.of("requestId", id, "errorText", "net::ERR_BLOCKED_BY_CLIENT", "blockedReason", "inspector"));
+        }
+        blocker.onRequestWillBeSent(requestWillBeSent("3", PAGE_SCRIPT));
+        blocker.onLoadingFinished(Map.of("requestId", "3", "encodedDataLength", 52_000.0));
+        blocker.onRequestWillBeSent(requestWillBeSent("4", "https://www.google-analytics.com/collect"));
+        blocker.onLoadingFailed(Map.of("requestId", "4", "blockedReason", "inspector"));
+
+        Assert.assertEquals(metrics.getBlockedCount(), 3);
+        Assert.assertEquals(metrics.getBlockedCount("pagead2.googlesyndication.com"), 2);
+        Assert.assertEquals(metrics.getEstimatedBytesSaved(), 300_000, "Hosts without a measured size count 0 bytes.");
+        Assert.assertEquals(metrics.getResponseBytes(), 52_000);
+        Assert.assertTrue(metrics.summary().contains("Blocked requests: 3"), metrics.summary());
+    }
+
+    @Test
+    public void testReportModeMeasuresListedResponsesForLaterEstimates() throws IOException {
+        Path sizes = Files.createTempDirectory("blocked-sizes").resolve("history/sizes.tsv");
+        BlockedRequestMetrics metrics = new BlockedRequestMetrics(sizes);
+        NetworkBlocker blocker = new NetworkBlocker(new NetworkBlocklist(NetworkBlocklist.DEFAULT_PATTERNS),
+                NetworkBlocker.Mode.REPORT, metrics);
+
+        blocker.onRequestWillBeSent(requestWillBeSent("1", AD_SCRIPT));
+        blocker.onLoadingFinished(Map.of("requestId", "1", "encodedDataLength", 100_000));
+        blocker.onRequestWillBeSent(requestWillBeSent("2", AD_SCRIPT));
+        blocker.onLoadingFinished(Map.of("requestId", "2", "encodedDataLength", 200_000));
+        blocker.onRequestWillBeSent(requestWillBeSent("3", PAGE_SCRIPT));
+        blocker.onLoadingFinished(Map.of("requestId", "3", "encodedDataLength", 50_000));
+        blocker.onRequestWillBeSent(requestWillBeSent("4", "https://www.googletagmanager.com/gtag/js"));
+        blocker.onLoadingFailed(Map.of("requestId", "4", "errorText", "net::ERR_NAME_NOT_RESOLVED"));
+
+        Assert.assertEquals(metrics.getBlockedCount(), 0, "Failures without a blockedReason are not blocks.");
+        Assert.assertEquals(metrics.getMatchedBytes(), 300_000);
+        Assert.assertEquals(metrics.getResponseBytes(), 350_000);
+
+        metrics.writeSizes();
+        Assert.assertEquals(Files.readAllLines(sizes, StandardCharsets.UTF_8), List.of("pagead2.googlesyndication.com\t150000"));
+        Assert.assertEquals(new BlockedRequestMetrics(sizes).averageSizes(), Map.of("pagead2.googlesyndication.com", 150_000L));
+    }
+}
@@ -0,0 +1,98 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.pages.PageReadiness;
+import com.demoqa.pages.elements.DynamicPropertiesPage;
+import com.demoqa.pages.elements.TextBoxPage;
+import com.demoqa.tests.support.StubWebDriver;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PageReadinessTest {
+
+    private static WebDriverWait wait(StubWebDriver stub, long timeoutMillis) {
+        return new WebDriverWait(stub.driver(), Duration.ofMillis(timeoutMillis), Duration.ofMillis(10));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void clearStrategy() {
+        System.clearProperty("browser.pageLoadStrategy");
+    }
+
+    @Test
+    public void testNormalLoadOfAPageWithoutSignalsRunsNoScript() {
+        StubWebDriver stub = StubWebDriver.create();
+
+        new DynamicPropertiesPage(stub.driver(), wait(stub, 1_000)).openPage("dynamic-properties");
+
+        Assert.assertTrue(stub.getExecutedScripts().isEmpty(), "driver.get already waited for the load event.");
+        Assert.assertTrue(stub.getCurrentUrl().endsWith("dynamic-properties"));
+    }
+
+    @Test
+    public void testKeyElementsArePolledUntilPresent() {
+        List<Object[]> calls = new ArrayList<>();
+        StubWebDriver stub = StubWebDriver.create().onScript((script, args) -> {
+            calls.add(args);
+            return calls.size() < 3 ? "#userForm" : null;
+        });
+
+        new TextBoxPage(stub.driver(), wait(stub, 1_000)).openPage("text-box");
+
+        Assert.assertEquals(calls.size(), 3);
+        Assert.assertEquals(Arrays.asList(calls.get(0)), Arrays.asList("interactive", List.of("#userForm"), false, null));
+    }
+
+    @Test
+    public void testNoneStrategyWaitsForTheNewDocument() {
+        System.setProperty("browser.pageLoadStrategy", "none");
+        List<Object[]> calls = new ArrayList<>();
+        StubWebDriver stub = StubWebDriver.create().onScript((script, args) -> {
+            calls.add(args);
+            return calls.size() == 2 ? "navigation to start" : null;
+        });
+
+        new DynamicPropertiesPage(stub.driver(), wait(stub, 1_000)).openPage("dynamic-properties");
+
+        Assert.assertEquals(calls.size(), 3, "Mark the old document, then poll until a new one is ready.");
+        String marker = (String) calls.get(0)[0];
+        Assert.assertNotNull(marker);
+        Assert.assertEquals(calls.get(1)[3], marker);
+        Assert.assertEquals(calls.get(2)[0], "interactive");
+    }
+
+    @Test
+    public void testTimeoutNamesTheMissingSignals() {
+        AtomicInteger polls = new AtomicInteger();
+        StubWebDriver stub = StubWebDriver.create().onScript((script, args) -> {
+            polls.incrementAndGet();
+            return "1 pending requests";
+        });
+        TextBoxPage page = new TextBoxPage(stub.driver(), wait(stub, 100));
+
+        TimeoutException timeout = Assert.expectThrows(TimeoutException.class, () ->
+                page.waitUntilReady(PageReadiness.documentComplete().noPendingRequests()));
+
+        Assert.assertTrue(timeout.getMessage().contains("still waiting for: 1 pending requests"), timeout.getMessage());
+        Assert.assertTrue(polls.get() > 1);
+    }
+
+    @Test
+    public void testSignalsCombineWithoutChangingTheOriginal() {
+        PageReadiness base = PageReadiness.documentInteractive();
+        PageReadiness ready = base.keyElements("#userForm").noPendingRequests();
+
+        Assert.assertTrue(base.isDocumentInteractiveOnly());
+        Assert.assertFalse(ready.isDocumentInteractiveOnly());
+        Assert.assertEquals(ready.getKeyElements(), List.of("#userForm"));
+        Assert.assertTrue(ready.requiresNoPendingRequests());
+    }
+}
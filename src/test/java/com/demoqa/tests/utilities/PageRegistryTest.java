@@ -0,0 +1,53 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.pages.HomePage;
+import com.demoqa.pages.PageRegistry;
+import com.demoqa.pages.elements.TextBoxPage;
+import com.demoqa.pages.elements.WebTablesPage;
+import com.demoqa.tests.support.StubWebDriver;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+public class PageRegistryTest {
+
+    private PageRegistry pages;
+
+    @BeforeMethod
+    public void setUp() {
+        WebDriver driver = StubWebDriver.create().driver();
+        pages = new PageRegistry(driver, new WebDriverWait(driver, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void testPagesAreCreatedOnlyOnFirstUse() {
+        Assert.assertEquals(pages.size(), 0, "No page should be constructed before a test asks for it.");
+
+        TextBoxPage textBoxPage = pages.get(TextBoxPage.class);
+
+        Assert.assertSame(pages.get(TextBoxPage.class), textBoxPage, "The page should be cached for the rest of the test.");
+        Assert.assertEquals(pages.size(), 1);
+        Assert.assertFalse(pages.isCreated(HomePage.class));
+    }
+
+    @Test
+    public void testPageDependenciesAreResolvedFromTheRegistry() {
+        pages.get(WebTablesPage.class);
+
+        Assert.assertTrue(pages.isCreated(HomePage.class), "WebTablesPage depends on HomePage, which should be shared.");
+        Assert.assertEquals(pages.size(), 2);
+    }
+
+    @Test
+    public void testClearDiscardsCachedPages() {
+        TextBoxPage before = pages.get(TextBoxPage.class);
+        pages.clear();
+
+        Assert.assertEquals(pages.size(), 0);
+        Assert.assertNotSame(pages.get(TextBoxPage.class), before);
+    }
+}
@@ -0,0 +1,74 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.sharding.ShardPlanner;
+import com.demoqa.sharding.ShardResultMerger;
+import com.demoqa.sharding.TestDurations;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class ShardPlannerTest {
+
+    private static String results(String testName, String className, int... methodMillis) {
+        StringBuilder xml = new StringBuilder("<testng-results total=\"" + methodMillis.length + "\" passed=\""
+                + methodMillis.length + "\" failed=\"0\" skipped=\"0\" ignored=\"0\"><reporter-output/>"
+                + "<suite name=\"S\"><test name=\"" + testName + "\"><class name=\"" + className + "\">");
+        for (int millis : methodMillis) {
+            xml.append("<test-method name=\"m\" status=\"PASS\" duration-ms=\"").append(millis).append("\"/>");
+        }
+        return xml.append("</class></test></suite></testng-results>").toString();
+    }
+
+    @Test
+    public void testLongestClassesAreSpreadOverShards() {
+        TestDurations history = new TestDurations();
+        history.addRun("WebTablesTest", 90_000);
+        history.addRun("CheckBoxTest", 60_000);
+        history.addRun("TextBoxTest", 50_000);
+        history.addRun("ButtonsTest", 30_000);
+        history.addRun("LinksTest", 20_000);
+
+        List<ShardPlanner.Unit> units = ShardPlanner.estimate(List.of(
+                new String[]{"Elements", "WebTablesTest"}, new String[]{"Elements", "CheckBoxTest"},
+                new String[]{"Elements", "TextBoxTest"}, new String[]{"Elements", "ButtonsTest"},
+                new String[]{"Elements", "LinksTest"}, new String[]{"Elements", "RadioButtonTest"}), history);
+        List<List<ShardPlanner.Unit>> shards = ShardPlanner.plan(units, 2);
+
+        Assert.assertEquals(shards.get(0).get(0).getClassName(), "WebTablesTest");
+        Assert.assertEquals(shards.get(1).get(0).getClassName(), "CheckBoxTest", "The two longest classes must not share a shard.");
+        long total = ShardPlanner.totalMillis(shards.get(0)) + ShardPlanner.totalMillis(shards.get(1));
+        Assert.assertEquals(total, 300_000);
+        Assert.assertTrue(Math.max(ShardPlanner.totalMillis(shards.get(0)), ShardPlanner.totalMillis(shards.get(1))) <= 160_000,
+                "Shards should finish close to the ideal 150s each.");
+        Assert.assertFalse(units.get(5).isMeasured());
+        Assert.assertEquals(units.get(5).getEstimatedMillis(), 50_000, "Unknown classes get the median of the known ones.");
+    }
+
+    @Test
+    public void testDurationsAreAveragedAndShardResultsMerged() throws Exception {
+        Path first = Files.createTempFile("shard-0", ".xml");
+        Path second = Files.createTempFile("shard-1", ".xml");
+        Path merged = Files.createTempFile("merged", ".xml");
+        try {
+            Files.writeString(first, results("Elements", "TextBoxTest", 1_000, 3_000));
+            Files.writeString(second, results("Elements", "TextBoxTest", 2_000));
+
+            TestDurations durations = TestDurations.load(List.of(first, second, first.resolveSibling("missing.xml")));
+            Assert.assertEquals(durations.estimate("Elements", "TextBoxTest").getAsLong(), 3_000, "(4000 + 2000) / 2 runs");
+            Assert.assertEquals(durations.estimate("Other block", "TextBoxTest").getAsLong(), 3_000, "Falls back to the class name.");
+
+            ShardResultMerger.Summary summary = ShardResultMerger.merge(List.of(first, second), merged);
+            Assert.assertEquals(summary.getTotal(), 3);
+            Assert.assertEquals(summary.getPassed(), 3);
+            Assert.assertEquals(TestDurations.load(List.of(merged)).estimate("Elements", "TextBoxTest").getAsLong(), 6_000,
+                    "The merged file is one run containing both shards.");
+        } finally {
+            Files.deleteIfExists(first);
+            Files.deleteIfExists(second);
+            Files.deleteIfExists(merged);
+        }
+    }
+}
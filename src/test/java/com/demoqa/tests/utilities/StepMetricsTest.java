@@ -0,0 +1,114 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.pages.HomePage;
+import com.demoqa.tests.support.StubWebDriver;
+import com.demoqa.utilities.LatencyHistogram;
+import com.demoqa.utilities.StepMetrics;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public class StepMetricsTest {
+
+    @Test
+    public void testPercentilesStayWithinHistogramPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.recordNanos(millis * 1_000_000L);
+        }
+
+        Assert.assertEquals(histogram.getCount(), 1000);
+        Assert.assertEquals(histogram.getPercentileMillis(50), 500, 500 * 0.04);
+        Assert.assertEquals(histogram.getPercentileMillis(95), 950, 950 * 0.04);
+        Assert.assertEquals(histogram.getPercentileMillis(99), 990, 990 * 0.04);
+        Assert.assertEquals(histogram.getPercentileMillis(100), 1000, 0.001, "Percentiles never exceed the recorded max.");
+        Assert.assertEquals(histogram.getMeanMillis(), 500.5, 0.001);
+    }
+
+    @Test
+    public void testReportListsSlowestStepsFirstWithCounters() throws Exception {
+        StepMetrics metrics = new StepMetrics();
+        for (int i = 0; i < 5; i++) {
+            metrics.open("TextBoxPage", "sendKeysToElement").close();
+            StepMetrics.OpenStep click = metrics.open("WebTablesPage", "clickElement");
+            Thread.sleep(20);
+            click.close();
+        }
+        StepMetrics.OpenStep timedOut = metrics.open("WebTablesPage", "clickElement");
+        timedOut.failed(new TimeoutException("not visible"));
+        timedOut.close();
+        StepMetrics.OpenStep stale = metrics.open("WebTablesPage", "clickElement");
+        stale.failed(new StaleElementReferenceException("stale"));
+        stale.close();
+
+        List<StepMetrics.StepStats> stats = metrics.snapshot();
+        Assert.assertEquals(stats.get(0).getPage(), "WebTablesPage");
+        Assert.assertEquals(stats.get(0).getTimeouts(), 1);
+        Assert.assertEquals(stats.get(0).getStaleElements(), 1);
+
+        Path report = Files.createTempFile("step-metrics", ".json");
+        try {
+            metrics.writeReport(report);
+            String json = Files.readString(report);
+            Assert.assertTrue(json.indexOf("\"clickElement\"") < json.indexOf("\"sendKeysToElement\""), json);
+            Assert.assertTrue(json.contains("\"p95Ms\": "), json);
+            Assert.assertTrue(json.contains("\"staleElements\": 1, \"waits\": {\"fastPath\": 0, \"polled\": 0, \"timedOut\": 0}"), json);
+        } finally {
+            Files.deleteIfExists(report);
+        }
+    }
+
+    @Test
+    public void testFailuresCountOnlyInTheInnermostStep() {
+        StepMetrics metrics = new StepMetrics();
+        StepMetrics.OpenStep click = metrics.open("TextBoxPage", "clickElement");
+        StepMetrics.OpenStep wait = metrics.open("TextBoxPage", "waitUntilElementIsVisible");
+        metrics.recordStaleRetry();
+        TimeoutException timeout = new TimeoutException("not visible");
+        wait.failed(timeout);
+        wait.close();
+        // clickElement rethrows the timeout of its wait wrapped in a new TimeoutException
+        click.failed(new TimeoutException(timeout));
+        click.close();
+        metrics.recordStaleRetry();
+
+        StepMetrics.StepStats waitStats = stats(metrics, "waitUntilElementIsVisible");
+        Assert.assertEquals(waitStats.getTimeouts(), 1);
+        Assert.assertEquals(waitStats.getStaleElements(), 1, "A stale retry of the wait counts towards the step that waits.");
+        StepMetrics.StepStats clickStats = stats(metrics, "clickElement");
+        Assert.assertEquals(clickStats.getTimeouts(), 0, "The timeout was already counted in the nested wait.");
+        Assert.assertEquals(clickStats.getStaleElements(), 0);
+        Assert.assertEquals(clickStats.getCount(), 1);
+        Assert.assertEquals(stats(metrics, "elementWait").getStaleElements(), 1, "Waits outside a step are still counted.");
+
+        StepMetrics.OpenStep visible = metrics.open("TextBoxPage", "waitUntilElementIsVisible");
+        metrics.recordWait(StepMetrics.WaitOutcome.FAST_PATH, 1_000L);
+        visible.close();
+        Assert.assertEquals(stats(metrics, "waitUntilElementIsVisible").getWaits(StepMetrics.WaitOutcome.FAST_PATH), 1);
+        Assert.assertEquals(stats(metrics, "waitUntilElementIsVisible").getWaits(StepMetrics.WaitOutcome.TIMED_OUT), 0);
+    }
+
+    @Test
+    public void testBasePageInteractionsAreTimedPerPageAndOperation() {
+        WebDriver driver = StubWebDriver.create().driver();
+        HomePage homePage = new HomePage(driver, new WebDriverWait(driver, Duration.ofSeconds(1)));
+
+        homePage.openPage("text-box");
+
+        Assert.assertTrue(StepMetrics.global().snapshot().stream().anyMatch(step ->
+                step.getPage().equals("HomePage") && step.getOperation().equals("openPage") && step.getCount() >= 1));
+    }
+
+    private static StepMetrics.StepStats stats(StepMetrics metrics, String operation) {
+        return metrics.snapshot().stream().filter(step -> step.getOperation().equals(operation)).findFirst()
+                .orElseThrow(() -> new AssertionError("No step " + operation));
+    }
+}
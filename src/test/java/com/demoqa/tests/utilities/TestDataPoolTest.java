@@ -0,0 +1,104 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.utilities.TestDataPool;
+import com.demoqa.utilities.TestPerson;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TestDataPoolTest {
+
+    @Test
+    public void testSameSeedBuildsTheSameDataWithAnyNumberOfThreads() {
+        TestDataPool sequential = TestDataPool.build(7L, 150, 1);
+        TestDataPool parallel = TestDataPool.build(7L, 150, 4);
+
+        for (int index = 0; index < sequential.size(); index++) {
+            TestPerson expected = sequential.get(index);
+            TestPerson actual = parallel.get(index);
+            Assert.assertEquals(actual.getIndex(), index);
+            Assert.assertEquals(actual.getEmail(), expected.getEmail(), "Email of " + actual);
+            Assert.assertEquals(actual.getPassword(), expected.getPassword(), "Password of " + actual);
+            Assert.assertEquals(actual.getFullName(), expected.getFullName(), "Full name of " + actual);
+            Assert.assertEquals(actual.getAddress(), expected.getAddress(), "Address of " + actual);
+            Assert.assertEquals(actual.getCellNumber(), expected.getCellNumber(), "Cell number of " + actual);
+        }
+    }
+
+    @Test
+    public void testDifferentSeedsBuildDifferentData() {
+        TestDataPool first = TestDataPool.build(1L, 10, 1);
+        TestDataPool second = TestDataPool.build(2L, 10, 1);
+
+        int equalEmails = 0;
+        for (int index = 0; index < first.size(); index++) {
+            if (first.get(index).getEmail().equals(second.get(index).getEmail())) {
+                equalEmails++;
+            }
+        }
+        Assert.assertTrue(equalEmails < first.size(), "Both seeds produced the same emails.");
+    }
+
+    @Test
+    public void testOneThreadIsServedThePoolInOrder() {
+        TestDataPool pool = TestDataPool.build(3L, 40, 1);
+
+        for (int index = 0; index < 40; index++) {
+            Assert.assertEquals(pool.next().getIndex(), index);
+        }
+    }
+
+    @Test
+    public void testParallelThreadsNeverShareAnEntryBeforeThePoolWraps() throws Exception {
+        TestDataPool pool = TestDataPool.build(5L, 512, 2);
+        int threads = 8;
+        int perThread = 60;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<List<Integer>>> tasks = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                tasks.add(() -> {
+                    List<Integer> indexes = new ArrayList<>();
+                    for (int n = 0; n < perThread; n++) {
+                        indexes.add(pool.next().getIndex());
+                    }
+                    return indexes;
+                });
+            }
+            Set<Integer> served = new HashSet<>();
+            for (Future<List<Integer>> result : executor.invokeAll(tasks)) {
+                for (int index : result.get()) {
+                    Assert.assertTrue(served.add(index), "Index " + index + " was served twice.");
+                }
+            }
+            Assert.assertEquals(served.size(), threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExhaustedPoolWrapsAround() {
+        TestDataPool pool = TestDataPool.build(9L, 5, 1);
+
+        List<Integer> indexes = new ArrayList<>();
+        for (int n = 0; n < 12; n++) {
+            indexes.add(pool.next().getIndex());
+        }
+
+        Assert.assertEquals(indexes, List.of(0, 1, 2, 3, 4, 0, 1, 2, 3, 4, 0, 1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testEmptyPoolIsRejected() {
+        TestDataPool.build(1L, 0, 1);
+    }
+}
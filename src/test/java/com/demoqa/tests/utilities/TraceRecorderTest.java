@@ -0,0 +1,174 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.pages.HomePage;
+import com.demoqa.tests.support.StubWebDriver;
+import com.demoqa.utilities.AssertionUtils;
+import com.demoqa.utilities.TraceRecorder;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+public class TraceRecorderTest {
+
+    @Test
+    public void testEveryThreadGetsItsOwnNamedTrack() throws Exception {
+        TraceRecorder recorder = new TraceRecorder(true, 1000);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                recorder.span("test", "SomeTest.method", () -> recorder.span("page", "HomePage#openPage", () -> { }));
+            }, "TestNG-methods-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        List<Map<String, Object>> events = writeAndRead(recorder, "UnitTestSuite");
+
+        Set<Object> namedThreads = events.stream().filter(event -> "thread_name".equals(event.get("name")))
+                .map(event -> ((Map<?, ?>) event.get("args")).get("name")).collect(Collectors.toSet());
+        Assert.assertEquals(namedThreads, Set.of("TestNG-methods-1", "TestNG-methods-2", "TestNG-methods-3"));
+
+        List<Map<String, Object>> spans = events.stream().filter(event -> "X".equals(event.get("ph"))).collect(Collectors.toList());
+        Assert.assertEquals(spans.size(), 6);
+        Set<Object> tracks = new HashSet<>();
+        for (Map<String, Object> span : spans) {
+            tracks.add(span.get("tid"));
+            Assert.assertTrue(((Number) span.get("ts")).doubleValue() >= 0, span.toString());
+            Assert.assertTrue(((Number) span.get("dur")).doubleValue() >= 0, span.toString());
+        }
+        Assert.assertEquals(tracks.size(), 3, "One track per worker thread.");
+        Assert.assertTrue(events.stream().anyMatch(event -> "process_name".equals(event.get("name"))
+                && "UnitTestSuite".equals(((Map<?, ?>) event.get("args")).get("name"))));
+    }
+
+    @Test
+    public void testEnclosingSpansAreWrittenBeforeTheSpansTheyContain() throws Exception {
+        TraceRecorder recorder = new TraceRecorder(true, 1000);
+        recorder.span("test", "outer", () -> recorder.span("wait", "inner", () -> { }));
+
+        List<String> order = writeAndRead(recorder, "suite").stream().filter(event -> "X".equals(event.get("ph")))
+                .map(event -> (String) event.get("name")).collect(Collectors.toList());
+
+        Assert.assertEquals(order, List.of("outer", "inner"));
+    }
+
+    @Test
+    public void testFailuresAreRecordedAsDetailAndRethrown() throws Exception {
+        TraceRecorder recorder = new TraceRecorder(true, 1000);
+        Assert.assertThrows(IllegalStateException.class, () -> recorder.span("driver", "launch chrome", () -> {
+            throw new IllegalStateException("no driver");
+        }));
+        recorder.complete("page", "Page \"quoted\"\n\\name", System.nanoTime(), "tab\there");
+
+        List<Map<String, Object>> spans = writeAndRead(recorder, "suite").stream()
+                .filter(event -> "X".equals(event.get("ph"))).collect(Collectors.toList());
+
+        Assert.assertEquals(((Map<?, ?>) spans.get(0).get("args")).get("detail"), "IllegalStateException");
+        Assert.assertEquals(spans.get(1).get("name"), "Page \"quoted\"\n\\name", "Names are escaped as JSON strings.");
+        Assert.assertEquals(((Map<?, ?>) spans.get(1).get("args")).get("detail"), "tab\there");
+    }
+
+    @Test
+    public void testResetForgetsTheThreadsOfThePreviousTimeline() throws Exception {
+        TraceRecorder recorder = new TraceRecorder(true, 1000);
+        Thread previousSuite = new Thread(() -> recorder.complete("test", "SomeTest.method", System.nanoTime()), "previous-suite");
+        previousSuite.start();
+        previousSuite.join();
+
+        recorder.reset();
+        recorder.complete("test", "OtherTest.method", System.nanoTime());
+
+        List<Map<String, Object>> events = writeAndRead(recorder, "SecondSuite");
+        Set<Object> namedThreads = events.stream().filter(event -> "thread_name".equals(event.get("name")))
+                .map(event -> ((Map<?, ?>) event.get("args")).get("name")).collect(Collectors.toSet());
+        Assert.assertEquals(namedThreads, Set.of(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void testSpansBeyondTheLimitAreCountedNotKept() {
+        TraceRecorder recorder = new TraceRecorder(true, 5);
+        for (int i = 0; i < 8; i++) {
+            recorder.complete("page", "step", System.nanoTime());
+        }
+
+        Assert.assertEquals(recorder.getSpanCount(), 5);
+        Assert.assertEquals(recorder.getDroppedCount(), 3);
+
+        recorder.reset();
+        Assert.assertEquals(recorder.getSpanCount(), 0);
+        Assert.assertEquals(recorder.getDroppedCount(), 0);
+    }
+
+    @Test
+    public void testDisabledRecorderStillRunsTheActions() {
+        TraceRecorder recorder = new TraceRecorder(false, 1000);
+        int[] runs = new int[1];
+
+        recorder.span("page", "step", () -> runs[0]++);
+        recorder.complete("page", "step", System.nanoTime());
+
+        Assert.assertEquals(runs[0], 1);
+        Assert.assertEquals(recorder.getSpanCount(), 0);
+    }
+
+    @Test
+    public void testPageStepsNavigationAndAssertionsReachTheTimeline() throws Exception {
+        WebDriver driver = StubWebDriver.create().driver();
+        HomePage homePage = new HomePage(driver, new WebDriverWait(driver, Duration.ofSeconds(1)));
+
+        homePage.openPage("text-box");
+        homePage.refreshPage();
+        AssertionUtils.assertEquals("DEMOQA", "DEMOQA", "Title of the page");
+        Assert.assertThrows(AssertionError.class, () -> AssertionUtils.assertTrue(false, "Output block is displayed"));
+
+        List<Map<String, Object>> spans = writeAndRead(TraceRecorder.global(), "suite").stream()
+                .filter(event -> "X".equals(event.get("ph"))).collect(Collectors.toList());
+        Assert.assertTrue(spans.stream().anyMatch(span -> "HomePage#openPage".equals(span.get("name"))
+                && "page".equals(span.get("cat"))), spans.toString());
+        Assert.assertTrue(spans.stream().anyMatch(span -> "driver.get".equals(span.get("name"))
+                && "driver".equals(span.get("cat"))), spans.toString());
+        Assert.assertTrue(spans.stream().anyMatch(span -> "driver.navigate().refresh".equals(span.get("name"))
+                && "driver".equals(span.get("cat"))), "Each navigation is named after its WebDriver call: " + spans);
+        Assert.assertTrue(spans.stream().anyMatch(span -> "assertEquals".equals(span.get("name"))
+                && "passed: Title of the page".equals(((Map<?, ?>) span.get("args")).get("detail"))), spans.toString());
+        Assert.assertTrue(spans.stream().anyMatch(span -> "assertTrue".equals(span.get("name"))
+                && "failed: Output block is displayed".equals(((Map<?, ?>) span.get("args")).get("detail"))), spans.toString());
+    }
+
+
+    // Helper method: write the trace to a temporary file and return its traceEvents
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> writeAndRead(TraceRecorder recorder, String processName) throws Exception {
+        Path file = Files.createTempFile("trace", ".json");
+        try {
+            recorder.write(file, processName);
+            Map<String, Object> trace = new Json().toType(Files.readString(file), Json.MAP_TYPE);
+            return (List<Map<String, Object>>) trace.get("traceEvents");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.tests.support.StubWebDriver;
+import com.demoqa.utilities.WebDriverPool;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogType;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+public class WebDriverPoolTest {
+
+    private List<StubWebDriver> createdDrivers;
+
+    @BeforeMethod
+    public void setUp() {
+        createdDrivers = new ArrayList<>();
+    }
+
+    private WebDriverPool newPool(int size, int maxUses) {
+        return new WebDriverPool(size, maxUses, 5, browserName -> {
+            StubWebDriver stub = StubWebDriver.create();
+            synchronized (createdDrivers) {
+                createdDrivers.add(stub);
+            }
+            return stub.driver();
+        });
+    }
+
+    @Test
+    public void testReleasedSessionIsReusedAndReset() {
+        WebDriverPool pool = newPool(2, 10);
+
+        WebDriver first = pool.acquire("chrome");
+        first.get("https://demoqa.com/text-box");
+        createdDrivers.get(0).openNewWindow();
+        pool.release(first);
+
+        WebDriver second = pool.acquire("chrome");
+        Assert.assertSame(second, first, "The idle session should be reused instead of launching a new browser.");
+        Assert.assertEquals(createdDrivers.size(), 1);
+        Assert.assertEquals(createdDrivers.get(0).getWindowCount(), 1, "Extra tabs should be closed on release.");
+        Assert.assertEquals(createdDrivers.get(0).getCurrentUrl(), "about:blank");
+        Assert.assertTrue(createdDrivers.get(0).getExecutedScripts().stream().anyMatch(s -> s.contains("localStorage.clear()")),
+                "Web storage should be cleared on release.");
+    }
+
+    @Test
+    public void testConsoleLogOfThePreviousTestIsDrainedOnRelease() {
+        WebDriverPool pool = newPool(1, 10);
+
+        WebDriver first = pool.acquire("chrome");
+        createdDrivers.get(0).log(Level.SEVERE, "Uncaught TypeError from the previous test");
+        pool.release(first);
+
+        WebDriver second = pool.acquire("chrome");
+        Assert.assertSame(second, first);
+        Assert.assertTrue(second.manage().logs().get(LogType.BROWSER).getAll().isEmpty(),
+                "A failure of the next test must not report console entries of the previous one.");
+    }
+
+    @Test
+    public void testSessionIsEvictedAfterMaxUses() {
+        WebDriverPool pool = newPool(1, 2);
+
+        WebDriver first = pool.acquire("chrome");
+        pool.release(first);
+        WebDriver second = pool.acquire("chrome");
+        pool.release(second);
+        WebDriver third = pool.acquire("chrome");
+
+        Assert.assertSame(second, first);
+        Assert.assertNotSame(third, first, "A worn-out session must be replaced.");
+        Assert.assertTrue(createdDrivers.get(0).isQuit());
+    }
+
+    @Test
+    public void testCrashedSessionIsReplaced() {
+        WebDriverPool pool = newPool(1, 10);
+
+        WebDriver first = pool.acquire("chrome");
+        pool.release(first);
+        createdDrivers.get(0).crash();
+
+        WebDriver second = pool.acquire("chrome");
+        Assert.assertNotSame(second, first, "A session that fails the health check must not be handed out.");
+        Assert.assertEquals(createdDrivers.size(), 2);
+    }
+
+    @Test
+    public void testInvalidatedSessionIsQuitAndNotReused() {
+        WebDriverPool pool = newPool(1, 10);
+
+        WebDriver first = pool.acquire("chrome");
+        pool.invalidate(first);
+
+        Assert.assertTrue(createdDrivers.get(0).isQuit());
+        Assert.assertNotSame(pool.acquire("chrome"), first);
+    }
+
+    @Test
+    public void testConcurrentLeasesNeverExceedPoolSize() throws Exception {
+        int poolSize = 3;
+        WebDriverPool pool = newPool(poolSize, 100);
+        AtomicInteger concurrentLeases = new AtomicInteger();
+        AtomicInteger maxConcurrentLeases = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            futures.add(executor.submit(() -> {
+                WebDriver driver = pool.acquire("chrome");
+                int leases = concurrentLeases.incrementAndGet();
+                maxConcurrentLeases.accumulateAndGet(leases, Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                concurrentLeases.decrementAndGet();
+                pool.release(driver);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Assert.assertTrue(maxConcurrentLeases.get() <= poolSize, "Leases exceeded the pool size: " + maxConcurrentLeases.get());
+        Assert.assertTrue(createdDrivers.size() <= poolSize, "Launched more browsers than the pool size: " + createdDrivers.size());
+
+        pool.shutdown();
+        Assert.assertTrue(createdDrivers.stream().allMatch(StubWebDriver::isQuit), "Shutdown should quit every idle session.");
+    }
+}
@@ -0,0 +1,63 @@
+package com.demoqa.tests.utilities;
+
+import com.demoqa.pages.elements.WebTableRow;
+import com.demoqa.pages.elements.WebTableSnapshot;
+import com.demoqa.tests.support.StubWebDriver;
+import org.openqa.selenium.JavascriptExecutor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class WebTableSnapshotTest {
+
+    private static final List<String> HEADERS = List.of("First Name", "Last Name", "Age", "Email", "Salary", "Department", "Action");
+
+    // What the capture script returns for 100 data rows followed by react-table padding rows
+    private static Map<String, Object> tableScriptResult() {
+        List<List<String>> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(List.of("First" + i, "Last" + i, String.valueOf(20 + i % 40), "user" + i + "@example.com",
+                    String.valueOf(1000 + i), i % 2 == 0 ? "IT" : "Legal", ""));
+        }
+        rows.add(List.of("Zoran", "Dimitrievski", "41", "zzdimitrievski@gmail.com", "25000", "IT", ""));
+        for (int i = 0; i < 3; i++) {
+            rows.add(List.of("", "", "", "", "", "", ""));
+        }
+        return Map.of("headers", HEADERS, "rows", rows);
+    }
+
+    @Test
+    public void testWholeGridIsCapturedInOneScriptCall() {
+        StubWebDriver stub = StubWebDriver.create().onScript((script, args) -> tableScriptResult());
+
+        WebTableSnapshot snapshot = WebTableSnapshot.capture((JavascriptExecutor) stub.driver());
+
+        Assert.assertEquals(stub.getExecutedScripts().size(), 1, "The grid must be read with a single round-trip.");
+        Assert.assertEquals(snapshot.getColumnCount(), 7);
+        Assert.assertEquals(snapshot.getRenderedRowCount(), 104);
+        Assert.assertEquals(snapshot.getRows().size(), 101, "Empty padding rows must not count as data.");
+    }
+
+    @Test
+    public void testTypedRowModelAndSearch() {
+        WebTableSnapshot snapshot = WebTableSnapshot.capture(
+                (JavascriptExecutor) StubWebDriver.create().onScript((script, args) -> tableScriptResult()).driver());
+
+        WebTableRow zoran = snapshot.findByFirstName("Zoran").orElseThrow();
+        Assert.assertEquals(zoran.getAge(), 41);
+        Assert.assertEquals(zoran.getSalary(), 25000);
+        Assert.assertEquals(zoran.toDisplayText(), "Zoran Dimitrievski 41 zzdimitrievski@gmail.com 25000 IT");
+
+        Assert.assertEquals(snapshot.search("ZZDIMITRIEVSKI").size(), 1, "Search should be case-insensitive.");
+        Assert.assertEquals(snapshot.filter(row -> row.getDepartment().equals("Legal")).size(), 50);
+        Assert.assertTrue(snapshot.findByEmail("nobody@example.com").isEmpty());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testMissingTableFailsClearly() {
+        WebTableSnapshot.capture((JavascriptExecutor) StubWebDriver.create().driver());
+    }
+}
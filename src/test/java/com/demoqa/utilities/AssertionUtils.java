@@ -3,43 +3,104 @@ package com.demoqa.utilities;
 import com.google.inject.matcher.Matcher;
 import org.testng.Assert;
 
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
 
 public class AssertionUtils {
 
-    // Asserts that two values are equal, retrying up to `maxAttempts` times with a 500 mill-second delay between attempts.
-    public static void assertEquals(Object actual, Object expected, String message, int maxAttempts) {
-        for (int attempt = 0; attempt < maxAttempts; attempt++) {
-            try {
-                Assert.assertEquals(actual, expected, message);
-                return; // Assertion passed, exit the loop
-            } catch (AssertionError e) {
-                // Assertion failed, log the error and continue retrying
-                System.out.println("Assertion failed on attempt " + (attempt + 1) + ": " + message);
-            }
-            // Wait for a specified interval before retrying
-            waitInSeconds(); // Adjust the wait time as needed
-        }
+    /* Eventually-style assertions: the supplier is re-evaluated on every attempt, so the assertion can pass as soon as the
+    page catches up (e.g. after a redirect or a re-render). Polling stops the moment the condition holds; otherwise it
+    backs off as configured in Polling and fails with the last observed value once the deadline is reached.
+    Exceptions thrown by the supplier (stale or missing elements, timeouts) count as "not yet" and are retried.
+    Every assertion of this class is recorded on the execution timeline (TraceRecorder) with its message and outcome. */
 
-        // If all retries fail, fail the test with the original message
-        Assert.assertEquals(actual, expected, "After " + maxAttempts + " attempts: " + message);
+    // Asserts that the supplied value eventually equals the expected one, using the default polling settings.
+    public static <T> void assertEqualsEventually(Supplier<T> actual, T expected, String message) {
+        assertEqualsEventually(actual, expected, message, Polling.defaults());
     }
 
+    // Asserts that the supplied value eventually equals the expected one, polling as configured.
+    public static <T> void assertEqualsEventually(Supplier<T> actual, T expected, String message, Polling polling) {
+        traced("assertEqualsEventually", message, () -> {
+            Object[] lastValue = new Object[1];
+            RuntimeException lastError = pollUntil(() -> {
+                lastValue[0] = actual.get();
+                return Objects.equals(lastValue[0], expected);
+            }, polling);
+
+            if (!Objects.equals(lastValue[0], expected)) {
+                AssertionError failure = new AssertionError(message + " (still not equal after " + polling.getTimeout().toMillis()
+                        + "ms) expected [" + expected + "] but found [" + lastValue[0] + "]");
+                if (lastError != null) {
+                    failure.initCause(lastError);
+                }
+                throw failure;
+            }
+        });
+    }
 
-    // Asserts that a condition is true, retrying up to `maxAttempts` times with a 500 mill-second delay between attempts.
-    public static void assertTrue(boolean condition, String message, int maxAttempts) throws InterruptedException {
-        for (int attempt = 0; attempt < maxAttempts; attempt++) {
-            if (condition) {
-                return; // Condition is true, exit the loop
+    // Asserts that the condition eventually becomes true, using the default polling settings.
+    public static void assertTrueEventually(BooleanSupplier condition, String message) {
+        assertTrueEventually(condition, message, Polling.defaults());
+    }
+
+    // Asserts that the condition eventually becomes true, polling as configured.
+    public static void assertTrueEventually(BooleanSupplier condition, String message, Polling polling) {
+        traced("assertTrueEventually", message, () -> {
+            boolean[] satisfied = new boolean[1];
+            RuntimeException lastError = pollUntil(() -> satisfied[0] = condition.getAsBoolean(), polling);
+
+            if (!satisfied[0]) {
+                AssertionError failure = new AssertionError(message + " (condition still false after "
+                        + polling.getTimeout().toMillis() + "ms)");
+                if (lastError != null) {
+                    failure.initCause(lastError);
+                }
+                throw failure;
             }
-            // Condition is false, log the message and continue retrying
-            System.out.println("Assertion failed on attempt " + (attempt + 1) + ": " + message);
+        });
+    }
 
-            // Wait for a specified interval before retrying
-            waitInSeconds(); // Adjust the wait time as needed
-        }
 
-        // If all retries fail, fail the test with the original message
-        Assert.assertTrue(condition, message);
+    // Asserts that two values are equal, as org.testng.Assert.assertEquals(Object, Object, String)
+    public static void assertEquals(Object actual, Object expected, String message) {
+        traced("assertEquals", message, () -> Assert.assertEquals(actual, expected, message));
+    }
+
+    // Asserts that two values are equal (no custom message)
+    public static void assertEquals(Object actual, Object expected) {
+        assertEquals(actual, expected, null);
+    }
+
+    // Asserts that a condition is true
+    public static void assertTrue(boolean condition, String message) {
+        traced("assertTrue", message, () -> Assert.assertTrue(condition, message));
+    }
+
+    // Asserts that a condition is true (no custom message)
+    public static void assertTrue(boolean condition) {
+        assertTrue(condition, null);
+    }
+
+
+    /* Asserts that two values are equal.
+    The values are already evaluated when this method is called, so retrying cannot change the outcome: the comparison is made
+    once and the `maxAttempts` parameter is ignored. Use assertEqualsEventually(...) with a Supplier to retry for real. */
+    @Deprecated
+    public static void assertEquals(Object actual, Object expected, String message, int maxAttempts) {
+        assertEquals(actual, expected, message);
+    }
+
+
+    /* Asserts that a condition is true.
+    The condition is already evaluated when this method is called, so retrying cannot change the outcome: it is checked
+    once and the `maxAttempts` parameter is ignored. Use assertTrueEventually(...) with a BooleanSupplier to retry for real. */
+    @Deprecated
+    public static void assertTrue(boolean condition, String message, int maxAttempts) throws InterruptedException {
+        assertTrue(condition, message);
     }
 
 
@@ -61,34 +122,79 @@ public class AssertionUtils {
 
     // Asserts that a condition is false
     public static void assertFalse(boolean condition, String message) {
-        Assert.assertFalse(condition, message);
+        traced("assertFalse", message, () -> Assert.assertFalse(condition, message));
     }
 
     // Asserts that two values are not equal
     public static void assertNotEquals(Object actual, Object expected, String message) {
-        Assert.assertNotEquals(actual, expected, message);
+        traced("assertNotEquals", message, () -> Assert.assertNotEquals(actual, expected, message));
+    }
+
+    // Asserts that two values are not equal (no custom message)
+    public static void assertNotEquals(Object actual, Object expected) {
+        assertNotEquals(actual, expected, null);
     }
 
 
     // Asserts that a condition is false (no custom message)
     public static void assertFalse(boolean condition) {
-        Assert.assertFalse(condition);
+        assertFalse(condition, null);
     }
 
 
     // Asserts that an object reference is not null (no custom message)
     public static void assertNotNull(Object object) {
-        Assert.assertNotNull(object);
+        traced("assertNotNull", null, () -> Assert.assertNotNull(object));
     }
 
 
 
-    // Helper method for waiting
-    private static void waitInSeconds() {
+    // Helper method: run the assertion as a span of the timeline, named after the assertion, with its outcome and message
+    private static void traced(String assertion, String message, Runnable check) {
+        TraceRecorder trace = TraceRecorder.global();
+        if (!trace.isEnabled()) {
+            check.run();
+            return;
+        }
+        long start = System.nanoTime();
+        String outcome = "passed";
         try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            check.run();
+        } catch (AssertionError e) {
+            outcome = "failed";
+            throw e;
+        } finally {
+            trace.complete("assert", assertion, start, message == null || message.isEmpty() ? outcome : outcome + ": " + message);
+        }
+    }
+
+    // Helper method: evaluate the check until it returns true or the deadline passes; returns the last exception seen, if any
+    private static RuntimeException pollUntil(BooleanSupplier check, Polling polling) {
+        long deadline = System.nanoTime() + polling.getTimeout().toNanos();
+        long intervalMillis = polling.getInitialInterval().toMillis();
+        RuntimeException lastError = null;
+
+        while (true) {
+            try {
+                if (check.getAsBoolean()) {
+                    return null;
+                }
+                lastError = null;
+            } catch (RuntimeException e) {
+                lastError = e;
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                return lastError;
+            }
+            try {
+                Thread.sleep(Math.min(intervalMillis, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return lastError;
+            }
+            intervalMillis = polling.nextIntervalMillis(intervalMillis);
         }
     }
 }
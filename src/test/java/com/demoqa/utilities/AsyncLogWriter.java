@@ -0,0 +1,161 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/* Single background writer for already formatted log lines.
+Test threads only put a line into a bounded ring buffer (ArrayBlockingQueue) and return; one daemon thread drains
+the buffer in batches and writes each batch with a single print call, so parallel tests never serialize on console I/O.
+When the buffer is full the overflow policy decides: BLOCK waits for free space (nothing is lost),
+DROP discards the line and reports how many lines were dropped with the next batch. */
+
+public class AsyncLogWriter {
+
+    public enum OverflowPolicy {
+        BLOCK, DROP
+    }
+
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final BlockingQueue<String> buffer;
+    private final PrintStream out;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong droppedLines = new AtomicLong();
+    private final AtomicLong reportedDroppedLines = new AtomicLong();
+    private final AtomicLong acceptedLines = new AtomicLong();
+    private final AtomicLong writtenLines = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    public AsyncLogWriter(@NotNull PrintStream out, int capacity, @NotNull OverflowPolicy overflowPolicy) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.out = out;
+        this.overflowPolicy = overflowPolicy;
+        this.writerThread = new Thread(this::drainLoop, "async-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+
+    //region    Queue a formatted line for writing, applying the overflow policy when the buffer is full.
+    public void submit(String line) {
+        if (!running) {
+            write(line);
+            return;
+        }
+        acceptedLines.incrementAndGet();
+        if (!buffer.offer(line)) {
+            if (overflowPolicy == OverflowPolicy.DROP) {
+                acceptedLines.decrementAndGet();
+                droppedLines.incrementAndGet();
+                return;
+            }
+            try {
+                buffer.put(line);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acceptedLines.decrementAndGet();
+                droppedLines.incrementAndGet();
+                return;
+            }
+        }
+        // shutdown() may have drained the buffer for the last time between the check above and the enqueue
+        if (!running) {
+            writeRemaining();
+        }
+    }
+    //endregion
+
+
+    //region    Block until every line submitted so far has been written (or the timeout expires).
+    public void flush(long timeoutMillis) {
+        long target = acceptedLines.get();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (writtenLines.get() < target && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        synchronized (out) {
+            out.flush();
+        }
+    }
+    //endregion
+
+
+    //region    Stop the writer thread after writing whatever is still buffered.
+    public void shutdown() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeRemaining();
+    }
+    //endregion
+
+
+    public long getDroppedLineCount() {
+        return droppedLines.get();
+    }
+
+
+    // Helper methods
+    private void drainLoop() {
+        List<String> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running) {
+            try {
+                batch.add(buffer.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            buffer.drainTo(batch, MAX_BATCH_SIZE - 1);
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    // Called once the writer thread is stopping; synchronized so that late submitters and shutdown write in buffer order
+    private synchronized void writeRemaining() {
+        List<String> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        writeBatch(remaining);
+    }
+
+    private void writeBatch(List<String> batch) {
+        long totalDropped = droppedLines.get();
+        long dropped = totalDropped - reportedDroppedLines.getAndSet(totalDropped);
+        if (batch.isEmpty() && dropped == 0) {
+            return;
+        }
+        StringBuilder builder = new StringBuilder(batch.size() * 96);
+        if (dropped > 0) {
+            builder.append("[AsyncLogWriter] ").append(dropped).append(" log line(s) dropped, buffer was full")
+                    .append(System.lineSeparator());
+        }
+        for (String line : batch) {
+            builder.append(line);
+        }
+        write(builder.toString());
+        writtenLines.addAndGet(batch.size());
+    }
+
+    private void write(String text) {
+        synchronized (out) {
+            out.print(text);
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/* Per-run statistics of the NetworkBlocker, shared by all browser sessions (DevTools events arrive on their own threads).
+A blocked request is never downloaded, so its size is unknown. Bytes saved are therefore estimated from the average
+response size per host, measured by a run with -Dnetwork.block.mode=report: that mode lets the listed requests through,
+counts their transferred bytes and stores the averages in -Dnetwork.block.sizes (default
+test-history/blocked-request-sizes.tsv, next to the duration history). Hosts without a measurement count 0 bytes.
+SuiteMetricsListener logs the summary after the suite. */
+
+public final class BlockedRequestMetrics {
+
+    private static final String SEPARATOR = "\t";
+    private static final BlockedRequestMetrics GLOBAL = new BlockedRequestMetrics(
+            Paths.get(ConfigReader.getString("network.block.sizes", "test-history/blocked-request-sizes.tsv")));
+
+    private final Path sizesFile;
+    private final Map<String, HostStats> hosts = new ConcurrentHashMap<>();
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private volatile Map<String, Long> averageSizes;
+
+    public BlockedRequestMetrics(@NotNull Path sizesFile) {
+        this.sizesFile = sizesFile;
+    }
+
+    public static BlockedRequestMetrics global() {
+        return GLOBAL;
+    }
+
+
+    //region    Recording (called from the DevTools event threads)
+    public void recordBlocked(@NotNull String host) {
+        hosts.computeIfAbsent(host, HostStats::new).blocked.increment();
+    }
+
+    // Report mode: a response from a listed host that blocking would have saved
+    public void recordMatchedResponse(@NotNull String host, long encodedBytes) {
+        HostStats stats = hosts.computeIfAbsent(host, HostStats::new);
+        stats.matchedResponses.increment();
+        stats.matchedBytes.add(encodedBytes);
+    }
+
+    // Every response that was downloaded, listed or not
+    public void recordResponse(long encodedBytes) {
+        responses.increment();
+        responseBytes.add(encodedBytes);
+    }
+    //endregion
+
+
+    //region    Results
+    public long getBlockedCount() {
+        return hosts.values().stream().mapToLong(stats -> stats.blocked.sum()).sum();
+    }
+
+    public long getBlockedCount(@NotNull String host) {
+        HostStats stats = hosts.get(host);
+        return stats == null ? 0 : stats.blocked.sum();
+    }
+
+    public long getMatchedBytes() {
+        return hosts.values().stream().mapToLong(stats -> stats.matchedBytes.sum()).sum();
+    }
+
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    // Blocked requests times the measured average size of their host
+    public long getEstimatedBytesSaved() {
+        Map<String, Long> sizes = averageSizes();
+        long bytes = 0;
+        for (HostStats stats : hosts.values()) {
+            bytes += stats.blocked.sum() * sizes.getOrDefault(stats.host, 0L);
+        }
+        return bytes;
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder();
+        if (getBlockedCount() > 0) {
+            summary.append(String.format(Locale.ROOT, "Blocked requests: %d, ~%s saved (%s downloaded in %d responses)",
+                    getBlockedCount(), formatBytes(getEstimatedBytesSaved()), formatBytes(getResponseBytes()),
+                    responses.sum()));
+        } else {
+            summary.append(String.format(Locale.ROOT, "Blocklisted requests let through: %d, %s of %s downloaded",
+                    hosts.values().stream().mapToLong(stats -> stats.matchedResponses.sum()).sum(),
+                    formatBytes(getMatchedBytes()), formatBytes(getResponseBytes())));
+        }
+        List<HostStats> byVolume = new ArrayList<>(hosts.values());
+        byVolume.sort(Comparator.comparingLong((HostStats stats) -> stats.blocked.sum() + stats.matchedResponses.sum()).reversed());
+        for (HostStats stats : byVolume.subList(0, Math.min(10, byVolume.size()))) {
+            summary.append(String.format(Locale.ROOT, "%n  %-45s blocked=%-6d let through=%-6d %s",
+                    stats.host, stats.blocked.sum(), stats.matchedResponses.sum(), formatBytes(stats.matchedBytes.sum())));
+        }
+        return summary.toString();
+    }
+
+    public void reset() {
+        hosts.clear();
+        responses.reset();
+        responseBytes.reset();
+    }
+    //endregion
+
+
+    //region    Average response size per host, measured in report mode
+    public Map<String, Long> averageSizes() {
+        Map<String, Long> sizes = averageSizes;
+        if (sizes == null) {
+            sizes = readSizes();
+            averageSizes = sizes;
+        }
+        return sizes;
+    }
+
+    // Merges this run's measurements into the sizes file; hosts not seen in this run keep their previous average
+    public void writeSizes() throws IOException {
+        Map<String, Long> sizes = new TreeMap<>(readSizes());
+        for (HostStats stats : hosts.values()) {
+            long count = stats.matchedResponses.sum();
+            if (count > 0) {
+                sizes.put(stats.host, stats.matchedBytes.sum() / count);
+            }
+        }
+        if (sizesFile.getParent() != null) {
+            Files.createDirectories(sizesFile.getParent());
+        }
+        try (Writer out = Files.newBufferedWriter(sizesFile, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Long> size : sizes.entrySet()) {
+                out.write(size.getKey() + SEPARATOR + size.getValue() + "\n");
+            }
+        }
+        averageSizes = sizes;
+    }
+
+    // Logs the summary and, after a report-mode run, stores the measured sizes; never throws at the end of a suite
+    public void reportQuietly() {
+        if (hosts.isEmpty() && responses.sum() == 0) {
+            return;
+        }
+        LoggerUtil.info(summary());
+        if (getMatchedBytes() > 0) {
+            try {
+                writeSizes();
+                LoggerUtil.info("Blocklisted response sizes written to " + sizesFile.toAbsolutePath());
+            } catch (IOException e) {
+                LoggerUtil.error("Could not write blocklisted response sizes to " + sizesFile, e);
+            }
+        }
+    }
+
+    private Map<String, Long> readSizes() {
+        Map<String, Long> sizes = new TreeMap<>();
+        if (!Files.isRegularFile(sizesFile)) {
+            return sizes;
+        }
+        try {
+            for (String line : Files.readAllLines(sizesFile, StandardCharsets.UTF_8)) {
+                String[] fields = line.split(SEPARATOR);
+                if (fields.length == 2) {
+                    try {
+                        sizes.put(fields[0], Long.parseLong(fields[1].trim()));
+                    } catch (NumberFormatException e) {
+                        LoggerUtil.warning("Skipping malformed line in " + sizesFile + ": " + line);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LoggerUtil.warning("Could not read " + sizesFile + ", bytes saved are not estimated: " + e.getMessage());
+        }
+        return sizes;
+    }
+    //endregion
+
+
+    // Helper methods
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    private static final class HostStats {
+        private final String host;
+        private final LongAdder blocked = new LongAdder();
+        private final LongAdder matchedResponses = new LongAdder();
+        private final LongAdder matchedBytes = new LongAdder();
+
+        private HostStats(String host) {
+            this.host = host;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/* Named browser launch profiles applied by WebDriverManager, per browser (Chrome/Edge share the Chromium switches).
+Profiles combine, e.g. -Dbrowser.profile=headless,no-images or the TestNG parameter <parameter name="profile" .../>.
+ - headed          visible, maximized window (what every run used before)
+ - headless        new headless mode, no window at all
+ - reduced-gpu     no GPU process, extensions or background networking; less CPU and memory per browser
+ - no-images       images are never downloaded or decoded
+ - fixed-viewport  deterministic window size from -Dbrowser.viewport=1920x1080, no maximize round-trip
+ - ci              alias for headless,reduced-gpu,no-images,fixed-viewport
+Without a setting the profile is "headed"; CI jobs opt in with -Dbrowser.profile=ci. */
+
+public enum BrowserProfile {
+
+    HEADED("headed") {
+        @Override
+        void applyTo(ChromiumOptions<?> options, Map<String, Object> prefs) {
+            options.addArguments("--start-maximized");
+        }
+
+        @Override
+        void applyTo(FirefoxOptions options) {
+            // Firefox has no maximize switch, WebDriverManager maximizes the window once after launch
+        }
+    },
+
+    HEADLESS("headless") {
+        @Override
+        void applyTo(ChromiumOptions<?> options, Map<String, Object> prefs) {
+            options.addArguments("--headless=new");
+        }
+
+        @Override
+        void applyTo(FirefoxOptions options) {
+            options.addArguments("-headless");
+        }
+    },
+
+    REDUCED_GPU("reduced-gpu") {
+        @Override
+        void applyTo(ChromiumOptions<?> options, Map<String, Object> prefs) {
+            options.addArguments("--disable-gpu", "--disable-dev-shm-usage", "--disable-extensions",
+                    "--disable-background-networking", "--disable-renderer-backgrounding");
+        }
+
+        @Override
+        void applyTo(FirefoxOptions options) {
+            options.addPreference("layers.acceleration.disabled", true);
+            options.addPreference("gfx.webrender.software", true);
+            options.addPreference("browser.tabs.remote.autostart", false);
+        }
+    },
+
+    NO_IMAGES("no-images") {
+        @Override
+        void applyTo(ChromiumOptions<?> options, Map<String, Object> prefs) {
+            prefs.put("profile.managed_default_content_settings.images", 2);
+        }
+
+        @Override
+        void applyTo(FirefoxOptions options) {
+            options.addPreference("permissions.default.image", 2);
+        }
+    },
+
+    FIXED_VIEWPORT("fixed-viewport") {
+        @Override
+        void applyTo(ChromiumOptions<?> options, Map<String, Object> prefs) {
+            int[] size = viewport();
+            options.addArguments("--window-size=" + size[0] + "," + size[1]);
+        }
+
+        @Override
+        void applyTo(FirefoxOptions options) {
+            int[] size = viewport();
+            options.addArguments("--width=" + size[0], "--height=" + size[1]);
+        }
+    };
+
+    private static final Set<BrowserProfile> CI = Collections.unmodifiableSet(
+            EnumSet.of(HEADLESS, REDUCED_GPU, NO_IMAGES, FIXED_VIEWPORT));
+
+    private final String profileName;
+
+    BrowserProfile(String profileName) {
+        this.profileName = profileName;
+    }
+
+    // Chrome and Edge: add switches, or content-setting preferences to the shared prefs map
+    abstract void applyTo(ChromiumOptions<?> options, Map<String, Object> prefs);
+
+    abstract void applyTo(FirefoxOptions options);
+
+    public String getProfileName() {
+        return profileName;
+    }
+
+
+    //region    Profile selection
+    // Profiles from the TestNG parameter when given, otherwise from -Dbrowser.profile, otherwise "headed"
+    public static Set<BrowserProfile> resolve(String parameterValue) {
+        if (parameterValue != null && !parameterValue.isBlank()) {
+            return parse(parameterValue);
+        }
+        return parse(ConfigReader.getString("browser.profile", HEADED.profileName));
+    }
+
+    // Parses a comma separated list such as "headless, no-images"; unknown names are reported and ignored
+    public static Set<BrowserProfile> parse(@NotNull String profileNames) {
+        EnumSet<BrowserProfile> profiles = EnumSet.noneOf(BrowserProfile.class);
+        for (String name : profileNames.split(",")) {
+            String trimmed = name.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (trimmed.equals("ci")) {
+                profiles.addAll(CI);
+                continue;
+            }
+            BrowserProfile profile = byName(trimmed);
+            if (profile == null) {
+                LoggerUtil.warning("Unknown browser profile '" + trimmed + "' ignored");
+            } else {
+                profiles.add(profile);
+            }
+        }
+        if (profiles.contains(HEADLESS)) {
+            // A maximized window means nothing without a screen
+            profiles.remove(HEADED);
+        }
+        if (profiles.isEmpty()) {
+            profiles.add(HEADED);
+        }
+        return Collections.unmodifiableSet(profiles);
+    }
+
+    private static BrowserProfile byName(String profileName) {
+        for (BrowserProfile profile : values()) {
+            if (profile.profileName.equals(profileName)) {
+                return profile;
+            }
+        }
+        return null;
+    }
+
+    // Canonical text form, e.g. "headless,no-images"
+    public static String toProfileNames(@NotNull Set<BrowserProfile> profiles) {
+        return profiles.stream().map(BrowserProfile::getProfileName).collect(Collectors.joining(","));
+    }
+    //endregion
+
+
+    // Window size from -Dbrowser.viewport=WIDTHxHEIGHT, 1920x1080 when missing or malformed
+    static int[] viewport() {
+        String value = ConfigReader.getString("browser.viewport", "1920x1080");
+        String[] parts = value.toLowerCase(Locale.ROOT).split("x");
+        try {
+            if (parts.length == 2) {
+                return new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())};
+            }
+        } catch (NumberFormatException ignored) {
+            // Falls through to the warning below
+        }
+        LoggerUtil.warning("Invalid browser.viewport value '" + value + "', using 1920x1080");
+        return new int[]{1920, 1080};
+    }
+}
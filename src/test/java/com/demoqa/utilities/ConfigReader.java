@@ -0,0 +1,76 @@
+package com.demoqa.utilities;
+
+/* Central place for reading framework settings.
+Every value can be overridden with a JVM system property (e.g. -Ddriver.pool.size=4) and falls back to the given default,
+so the suites keep working without any extra configuration. */
+
+public class ConfigReader {
+
+    private ConfigReader() {
+        // Private constructor to prevent instantiation
+    }
+
+
+    //region    Read a String setting, falling back to the default when the property is missing or blank.
+    public static String getString(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        return (value == null || value.isBlank()) ? defaultValue : value.trim();
+    }
+    //endregion
+
+
+    //region    Read an int setting, falling back to the default when the property is missing or not a number.
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            LoggerUtil.warning("Invalid int value '" + value + "' for property " + key + ", using default " + defaultValue);
+            return defaultValue;
+        }
+    }
+    //endregion
+
+
+    //region    Read a long setting, falling back to the default when the property is missing or not a number.
+    public static long getLong(String key, long defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            LoggerUtil.warning("Invalid long value '" + value + "' for property " + key + ", using default " + defaultValue);
+            return defaultValue;
+        }
+    }
+    //endregion
+
+
+    //region    Read a double setting, falling back to the default when the property is missing or not a number.
+    public static double getDouble(String key, double defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            LoggerUtil.warning("Invalid double value '" + value + "' for property " + key + ", using default " + defaultValue);
+            return defaultValue;
+        }
+    }
+    //endregion
+
+
+    //region    Read a boolean setting, falling back to the default when the property is missing.
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+    //endregion
+}
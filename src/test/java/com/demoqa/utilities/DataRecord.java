@@ -0,0 +1,57 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+
+/* One row of a DataSource (a CSV line or a JSON Lines object), handed to data-driven tests as a single parameter.
+Values are kept as text, exactly as the page objects type them into the forms. toString() names the source line so a
+failing row can be found in the report. */
+
+public class DataRecord {
+
+    private final String source;
+    private final long lineNumber;
+    private final Map<String, String> values;
+
+    public DataRecord(@NotNull String source, long lineNumber, @NotNull Map<String, String> values) {
+        this.source = source;
+        this.lineNumber = lineNumber;
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    // Value of a column, throws when the column does not exist so that typos in tests fail loudly
+    public String get(@NotNull String column) {
+        String value = values.get(column);
+        if (value == null && !values.containsKey(column)) {
+            throw new IllegalArgumentException("Column '" + column + "' not found in " + this + ", available: " + values.keySet());
+        }
+        return value;
+    }
+
+    public String getOrDefault(@NotNull String column, String defaultValue) {
+        return values.getOrDefault(column, defaultValue);
+    }
+
+    public int getInt(@NotNull String column) {
+        return Integer.parseInt(get(column).trim());
+    }
+
+    public Map<String, String> getValues() {
+        return values;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public String toString() {
+        return source + ":" + lineNumber + " " + values;
+    }
+}
@@ -0,0 +1,323 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/* Streams test data rows from CSV or JSON Lines files for TestNG data providers.
+Rows are read lazily, one line at a time, and returned as Iterator<Object[]> (one DataRecord per invocation), which
+TestNG consumes as it runs, so files with tens of thousands of rows never sit in memory as an Object[][].
+ - DataSource.open("classpath:/data/web-table-users.csv") or a file system path; the format follows the extension
+ - shard(index, count) keeps every count-th row starting at index, so parallel <test> blocks or JVMs split one file
+ - limit(n) stops after n rows of the shard (handy for a quick smoke run over a large file)
+CSV: the first line is the header, fields may be quoted ("a, b" and "" for a quote). JSON Lines: one flat object per line. */
+
+public final class DataSource {
+
+    private enum Format {CSV, JSONL}
+
+    private final String location;
+    private final Format format;
+    private final int shardIndex;
+    private final int shardCount;
+    private final long limit;
+
+    private DataSource(String location, Format format, int shardIndex, int shardCount, long limit) {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Invalid shard " + shardIndex + " of " + shardCount);
+        }
+        this.location = location;
+        this.format = format;
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+        this.limit = limit;
+    }
+
+    public static DataSource open(@NotNull String location) {
+        String lowerCase = location.toLowerCase();
+        if (lowerCase.endsWith(".csv")) {
+            return new DataSource(location, Format.CSV, 0, 1, Long.MAX_VALUE);
+        }
+        if (lowerCase.endsWith(".jsonl") || lowerCase.endsWith(".ndjson")) {
+            return new DataSource(location, Format.JSONL, 0, 1, Long.MAX_VALUE);
+        }
+        throw new IllegalArgumentException("Unsupported data file (expected .csv or .jsonl): " + location);
+    }
+
+    public DataSource shard(int index, int count) {
+        return new DataSource(location, format, index, count, limit);
+    }
+
+    public DataSource limit(long maxRows) {
+        return new DataSource(location, format, shardIndex, shardCount, maxRows);
+    }
+
+    // Lazily reads the rows of this shard; the file is closed when the last row has been returned
+    public Iterator<Object[]> iterator() {
+        return new RowIterator(openReader());
+    }
+
+    private BufferedReader openReader() {
+        try {
+            InputStream in;
+            if (location.startsWith("classpath:")) {
+                String resource = location.substring("classpath:".length());
+                in = DataSource.class.getResourceAsStream(resource.startsWith("/") ? resource : "/" + resource);
+                if (in == null) {
+                    throw new IllegalArgumentException("Data file not found on the classpath: " + resource);
+                }
+            } else {
+                in = Files.newInputStream(Paths.get(location));
+            }
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open data file " + location, e);
+        }
+    }
+
+    private String sourceName() {
+        int slash = Math.max(location.lastIndexOf('/'), location.lastIndexOf('\\'));
+        return location.substring(slash + 1);
+    }
+
+
+    private final class RowIterator implements Iterator<Object[]>, Closeable {
+        private final BufferedReader reader;
+        private final String sourceName = sourceName();
+        private List<String> header;
+        private long lineNumber;
+        private long rowIndex = -1;
+        private long returnedRows;
+        private DataRecord next;
+        private boolean closed;
+
+        private RowIterator(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !closed) {
+                next = readNextRowOfShard();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            DataRecord record = next;
+            next = null;
+            returnedRows++;
+            return new Object[]{record};
+        }
+
+        private DataRecord readNextRowOfShard() {
+            try {
+                if (returnedRows >= limit) {
+                    close();
+                    return null;
+                }
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    if (format == Format.CSV && header == null) {
+                        header = parseCsvLine(line);
+                        continue;
+                    }
+                    rowIndex++;
+                    // Rows of other shards are skipped without being parsed
+                    if (rowIndex % shardCount != shardIndex) {
+                        continue;
+                    }
+                    return new DataRecord(sourceName, lineNumber, format == Format.CSV ? csvRecord(line) : parseJsonObject(line));
+                }
+                close();
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read " + location, e);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(sourceName + ":" + lineNumber + " " + e.getMessage(), e);
+            }
+        }
+
+        private Map<String, String> csvRecord(String line) {
+            List<String> fields = parseCsvLine(line);
+            if (fields.size() != header.size()) {
+                throw new IllegalArgumentException("expected " + header.size() + " fields but found " + fields.size());
+            }
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                values.put(header.get(i), fields.get(i));
+            }
+            return values;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                reader.close();
+            }
+        }
+    }
+
+
+    //region    Parsers
+    // One CSV record per line: comma separated, double quotes around fields containing commas, "" for a literal quote
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // A flat JSON object with string, number, boolean or null values; everything is returned as text
+    static Map<String, String> parseJsonObject(String line) {
+        JsonCursor cursor = new JsonCursor(line);
+        Map<String, String> values = new LinkedHashMap<>();
+        cursor.expect('{');
+        if (!cursor.consumeIf('}')) {
+            do {
+                String key = cursor.readString();
+                cursor.expect(':');
+                values.put(key, cursor.readValue());
+            } while (cursor.consumeIf(','));
+            cursor.expect('}');
+        }
+        cursor.expectEnd();
+        return values;
+    }
+
+    private static final class JsonCursor {
+        private final String text;
+        private int position;
+
+        private JsonCursor(String text) {
+            this.text = text;
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean consumeIf(char expected) {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) {
+            if (!consumeIf(expected)) {
+                throw new IllegalArgumentException("expected '" + expected + "' at column " + (position + 1));
+            }
+        }
+
+        private void expectEnd() {
+            skipWhitespace();
+            if (position != text.length()) {
+                throw new IllegalArgumentException("unexpected content at column " + (position + 1));
+            }
+        }
+
+        private String readValue() {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == '"') {
+                return readString();
+            }
+            int start = position;
+            while (position < text.length() && ",}".indexOf(text.charAt(position)) < 0) {
+                position++;
+            }
+            String literal = text.substring(start, position).trim();
+            if (literal.isEmpty() || literal.startsWith("{") || literal.startsWith("[")) {
+                throw new IllegalArgumentException("only flat string, number, boolean or null values are supported, at column " + (start + 1));
+            }
+            return literal.equals("null") ? null : literal;
+        }
+
+        private String readString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (position >= text.length()) {
+                    break;
+                }
+                char escaped = text.charAt(position++);
+                switch (escaped) {
+                    case 'n': value.append('\n'); break;
+                    case 't': value.append('\t'); break;
+                    case 'r': value.append('\r'); break;
+                    case 'b': value.append('\b'); break;
+                    case 'f': value.append('\f'); break;
+                    case 'u':
+                        if (position + 4 > text.length()) {
+                            throw new IllegalArgumentException("invalid unicode escape at column " + position);
+                        }
+                        value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                        position += 4;
+                        break;
+                    default: value.append(escaped);
+                }
+            }
+            throw new IllegalArgumentException("unterminated string");
+        }
+    }
+    //endregion
+}
@@ -1,18 +1,27 @@
 package com.demoqa.utilities;
 
-import java.text.SimpleDateFormat;
-import java.time.LocalDateTime;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Calendar;
+import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 
+/* Date and time helpers for test output, safe to call from parallel test methods.
+Everything is built on immutable java.time types and formatters created once, instead of the shared Calendar and the
+per-call SimpleDateFormat used before. Dates are interpreted in the system time zone, captured when the class loads.
+appendTimestamp(...) is the allocation-free variant for hot paths that already own a StringBuilder. */
+
 public class DateTimeUtils {
 
     // Date format used for formatting date/time strings
     private static final String DEFAULT_DATE_FORMAT = "dd-MM-yyyy HH:mm:ss";
 
-    // Calendar instance used for date/time calculations
-    private static final Calendar CALENDAR = Calendar.getInstance();
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern(DEFAULT_DATE_FORMAT).withZone(ZONE);
+    private static final DateTimeFormatter CURRENT_DATE_FORMATTER = DateTimeFormatter.ofPattern("EEEE, dd MMM yyy");
+    private static final TimestampAppender TIMESTAMP_APPENDER = new TimestampAppender(ZONE, TimestampAppender.Layout.DAY_FIRST);
 
     private DateTimeUtils() {
         // Private constructor to prevent instantiation
@@ -21,46 +30,49 @@ public class DateTimeUtils {
 
     //region    Get the current timestamp as a formatted string.
     public static String getCurrentTimestamp() {
-        return formatTimestamp(new Date());
+        return TIMESTAMP_APPENDER.format(System.currentTimeMillis());
     }
     //endregion
 
 
     //region    Format a given date as a string using the default date format.
-    public static String formatTimestamp(Date date) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat(DEFAULT_DATE_FORMAT);
-        return dateFormat.format(date);
+    public static String formatTimestamp(@NotNull Date date) {
+        return TIMESTAMP_APPENDER.format(date.getTime());
+    }
+
+    // Any java.time value with a date and a time (LocalDateTime, ZonedDateTime, Instant, ...)
+    public static String formatTimestamp(@NotNull TemporalAccessor dateTime) {
+        return TIMESTAMP_FORMATTER.format(dateTime);
+    }
+
+    // Appends the timestamp of epochMillis without allocating
+    public static StringBuilder appendTimestamp(@NotNull StringBuilder builder, long epochMillis) {
+        return TIMESTAMP_APPENDER.append(builder, epochMillis);
     }
     //endregion
 
 
     //region    Add a specified number of days to a given date.
-    public static Date addDaysToDate(Date date, int daysToAdd) {
-        CALENDAR.setTime(date);
-        CALENDAR.add(Calendar.DAY_OF_MONTH, daysToAdd);
-        return CALENDAR.getTime();
+    // Calendar days, so the local time of day is kept across daylight saving time changes
+    public static Date addDaysToDate(@NotNull Date date, int daysToAdd) {
+        return Date.from(date.toInstant().atZone(ZONE).plusDays(daysToAdd).toInstant());
     }
     //endregion
 
     public static String getCurrentDate(){
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("EEEE, dd MMM yyy");
-        LocalDateTime now = LocalDateTime.now();
-        return dtf.format(now);
+        return CURRENT_DATE_FORMATTER.format(LocalDate.now(ZONE));
     }
 
     //region    Get the hour of the day from a given date.
-    public static int getHourOfDay(Date date) {
-        CALENDAR.setTime(date);
-        return CALENDAR.get(Calendar.HOUR_OF_DAY);
+    public static int getHourOfDay(@NotNull Date date) {
+        return TIMESTAMP_APPENDER.secondOfDay(date.getTime()) / 3600;
     }
     //endregion
 
 
     //region    Get the minute of the hour from a given date.
-    public static int getMinuteOfHour(Date date) {
-        CALENDAR.setTime(date);
-        return CALENDAR.get(Calendar.MINUTE);
+    public static int getMinuteOfHour(@NotNull Date date) {
+        return TIMESTAMP_APPENDER.secondOfDay(date.getTime()) / 60 % 60;
     }
     //endregion
 }
-
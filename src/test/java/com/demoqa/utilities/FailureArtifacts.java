@@ -0,0 +1,389 @@
+package com.demoqa.utilities;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/* Screenshot, page source and browser console log of a failed test, attached to its Allure result
+(see FailureArtifactListener).
+Only the browser calls run on the test thread. The attachment entries are announced to Allure right away, which is a
+plain in-memory update. Compression and writing the files happen on a small background executor:
+ - screenshots are re-encoded from PNG to JPEG (-Dartifacts.screenshotFormat=png keeps the PNG)
+ - page sources are gzipped (.html.gz, opened with a download in the report)
+ - the console log is kept as plain text, limited to its last -Dartifacts.consoleLines=500 entries
+A page source identical to one already attached in this run (same SHA-256) is linked to the existing file instead of
+being stored again. Captured bytes count against -Dartifacts.maxBytesPerTest=8388608 and
+-Dartifacts.maxBytesPerRun=104857600 before compression; artifacts that do not fit are skipped and counted.
+-Dartifacts.capture=false switches capturing off. The suite listener waits for the pending files before it ends. */
+
+public class FailureArtifacts {
+
+    // Where attachments go; the Allure implementation is AllureSink, tests use their own
+    public interface Sink {
+        // Test thread: announces a new attachment and returns the name of the file it will be written to
+        String prepare(@NotNull String name, @NotNull String mimeType, @NotNull String fileExtension);
+
+        // Test thread: attaches a file that was already written for an earlier attachment
+        void link(@NotNull String name, @NotNull String mimeType, @NotNull String source);
+
+        // Background thread: stores the content of a prepared attachment
+        void write(@NotNull String source, @NotNull byte[] content) throws IOException;
+    }
+
+    private static final FailureArtifacts GLOBAL = new FailureArtifacts(
+            ConfigReader.getInt("artifacts.threads", 2),
+            ConfigReader.getLong("artifacts.maxBytesPerTest", 8L * 1024 * 1024),
+            ConfigReader.getLong("artifacts.maxBytesPerRun", 100L * 1024 * 1024),
+            !ConfigReader.getString("artifacts.screenshotFormat", "jpeg").equalsIgnoreCase("png"),
+            (float) ConfigReader.getDouble("artifacts.jpegQuality", 0.75),
+            ConfigReader.getInt("artifacts.consoleLines", 500));
+
+    private final ExecutorService executor;
+    private final long maxBytesPerTest;
+    private final long maxBytesPerRun;
+    private final boolean jpegScreenshots;
+    private final float jpegQuality;
+    private final int consoleLines;
+
+    private final AtomicLong reservedBytes = new AtomicLong();
+    // SHA-256 of a page source -> file it was written to
+    private final Map<String, String> pageSources = new ConcurrentHashMap<>();
+    private final Queue<Future<?>> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean runCapWarningLogged = new AtomicBoolean();
+    private final LongAdder attached = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder capturedBytes = new LongAdder();
+    private final LongAdder writtenBytes = new LongAdder();
+
+    public FailureArtifacts(int threads, long maxBytesPerTest, long maxBytesPerRun, boolean jpegScreenshots,
+                            float jpegQuality, int consoleLines) {
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "failure-artifacts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.maxBytesPerTest = maxBytesPerTest;
+        this.maxBytesPerRun = maxBytesPerRun;
+        this.jpegScreenshots = jpegScreenshots;
+        this.jpegQuality = jpegQuality;
+        this.consoleLines = consoleLines;
+    }
+
+    public static FailureArtifacts global() {
+        return GLOBAL;
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("artifacts.capture", true);
+    }
+
+
+    //region    Capture (test thread)
+    // Captures what the browser can give and hands it over; returns the number of attachments made
+    public int capture(@NotNull WebDriver driver, @NotNull Sink sink) {
+        long testBudget = maxBytesPerTest;
+        int attachments = 0;
+
+        byte[] screenshot = captureQuietly("screenshot", () -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+        if (screenshot != null && screenshot.length > 0 && reserve(screenshot.length, testBudget)) {
+            testBudget -= screenshot.length;
+            boolean jpeg = jpegScreenshots;
+            String source = jpeg ? sink.prepare("Screenshot", "image/jpeg", ".jpg") : sink.prepare("Screenshot", "image/png", ".png");
+            submit(sink, source, () -> jpeg ? toJpeg(screenshot, jpegQuality) : screenshot);
+            attachments++;
+        }
+
+        String pageSource = captureQuietly("page source", driver::getPageSource);
+        if (pageSource != null) {
+            byte[] bytes = pageSource.getBytes(StandardCharsets.UTF_8);
+            String hash = sha256(bytes);
+            String existing = pageSources.get(hash);
+            if (existing != null) {
+                sink.link("Page source", "application/gzip", existing);
+                deduplicated.increment();
+                attachments++;
+            } else if (reserve(bytes.length, testBudget)) {
+                testBudget -= bytes.length;
+                String source = sink.prepare("Page source", "application/gzip", ".html.gz");
+                // Two failures on the same page at once both store it; later ones link to the first file
+                pageSources.putIfAbsent(hash, source);
+                submit(sink, source, () -> gzip(bytes));
+                attachments++;
+            }
+        }
+
+        String consoleLog = captureQuietly("console log", () -> consoleLog(driver));
+        if (consoleLog != null && !consoleLog.isEmpty()) {
+            byte[] bytes = consoleLog.getBytes(StandardCharsets.UTF_8);
+            if (reserve(bytes.length, testBudget)) {
+                String source = sink.prepare("Browser console", "text/plain", ".txt");
+                submit(sink, source, () -> bytes);
+                attachments++;
+            }
+        }
+        return attachments;
+    }
+
+    private String consoleLog(WebDriver driver) {
+        LogEntries entries = driver.manage().logs().get(LogType.BROWSER);
+        List<LogEntry> all = entries.getAll();
+        List<LogEntry> last = all.subList(Math.max(0, all.size() - consoleLines), all.size());
+        StringBuilder log = new StringBuilder();
+        if (last.size() < all.size()) {
+            log.append("(").append(all.size() - last.size()).append(" earlier entries left out)").append('\n');
+        }
+        for (LogEntry entry : last) {
+            log.append(Instant.ofEpochMilli(entry.getTimestamp())).append(' ')
+                    .append(entry.getLevel()).append(' ')
+                    .append(entry.getMessage()).append('\n');
+        }
+        return log.toString();
+    }
+
+    // Reserves run budget for an artifact that fits the remaining budget of its test
+    private boolean reserve(long bytes, long testBudget) {
+        if (bytes > testBudget) {
+            skipped.increment();
+            return false;
+        }
+        long reserved;
+        do {
+            reserved = reservedBytes.get();
+            if (reserved + bytes > maxBytesPerRun) {
+                skipped.increment();
+                if (runCapWarningLogged.compareAndSet(false, true)) {
+                    LoggerUtil.warning("Failure artifacts reached -Dartifacts.maxBytesPerRun=" + maxBytesPerRun
+                            + ", further artifacts are skipped");
+                }
+                return false;
+            }
+        } while (!reservedBytes.compareAndSet(reserved, reserved + bytes));
+        capturedBytes.add(bytes);
+        return true;
+    }
+    //endregion
+
+
+    //region    Compress and write (background executor)
+    private interface Content {
+        byte[] produce() throws IOException;
+    }
+
+    private void submit(Sink sink, String source, Content content) {
+        attached.increment();
+        pendingWrites.removeIf(Future::isDone);
+        pendingWrites.add(executor.submit(() -> {
+            try {
+                byte[] bytes = content.produce();
+                sink.write(source, bytes);
+                writtenBytes.add(bytes.length);
+            } catch (IOException | RuntimeException e) {
+                LoggerUtil.warning("Could not store failure artifact " + source + ": " + e.getMessage());
+            }
+        }));
+    }
+
+    // Waits for the files that are still being compressed or written; false when some were not done in time
+    public boolean awaitCompletion(@NotNull Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Iterator<Future<?>> pending = pendingWrites.iterator(); pending.hasNext(); ) {
+            Future<?> write = pending.next();
+            try {
+                write.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                pending.remove();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                pending.remove();
+            } catch (java.util.concurrent.TimeoutException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static byte[] gzip(@NotNull byte[] content) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(content);
+        }
+        return buffer.toByteArray();
+    }
+
+    // Falls back to the original PNG when it cannot be decoded
+    public static byte[] toJpeg(@NotNull byte[] png, float quality) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            return png;
+        }
+        // JPEG has no alpha channel, so transparent pixels are painted on white first
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(png.length / 4 + 64);
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(buffer)) {
+            writer.setOutput(out);
+            ImageWriteParam params = writer.getDefaultWriteParam();
+            params.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            params.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(rgb, null, null), params);
+        } finally {
+            writer.dispose();
+        }
+        return buffer.toByteArray();
+    }
+    //endregion
+
+
+    //region    Results
+    public long getAttachedCount() {
+        return attached.sum();
+    }
+
+    public long getDeduplicatedCount() {
+        return deduplicated.sum();
+    }
+
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    public long getWrittenBytes() {
+        return writtenBytes.sum();
+    }
+
+    public String summary() {
+        return String.format(Locale.ROOT, "Failure artifacts: %d stored (%s captured, %s written), %d duplicate page"
+                        + " sources linked, %d skipped by the size caps", getAttachedCount(),
+                BlockedRequestMetrics.formatBytes(capturedBytes.sum()), BlockedRequestMetrics.formatBytes(getWrittenBytes()),
+                getDeduplicatedCount(), getSkippedCount());
+    }
+    //endregion
+
+
+    // Helper methods
+    private interface Capture<T> {
+        T get();
+    }
+
+    // A browser that cannot deliver one artifact may still deliver the others
+    private static <T> T captureQuietly(String what, Capture<T> capture) {
+        try {
+            return capture.get();
+        } catch (RuntimeException e) {
+            LoggerUtil.warning("Could not capture the " + what + " of the failed test: " + firstLine(e.getMessage()));
+            return null;
+        }
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int end = message.indexOf('\n');
+        return end < 0 ? message : message.substring(0, end);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+
+    // Attaches to the Allure result of the test running on the current thread
+    public static final class AllureSink implements Sink {
+        private final AllureLifecycle lifecycle;
+        private final String testCaseUuid;
+
+        private AllureSink(AllureLifecycle lifecycle, String testCaseUuid) {
+            this.lifecycle = lifecycle;
+            this.testCaseUuid = testCaseUuid;
+        }
+
+        public static Optional<Sink> forCurrentTest() {
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            return lifecycle.getCurrentTestCase().map(uuid -> new AllureSink(lifecycle, uuid));
+        }
+
+        @Override
+        public String prepare(@NotNull String name, @NotNull String mimeType, @NotNull String fileExtension) {
+            return lifecycle.prepareAttachment(name, mimeType, fileExtension);
+        }
+
+        @Override
+        public void link(@NotNull String name, @NotNull String mimeType, @NotNull String source) {
+            lifecycle.updateTestCase(testCaseUuid, result -> {
+                List<Attachment> attachments = result.getAttachments() == null ? new ArrayList<>() : result.getAttachments();
+                attachments.add(new Attachment().setName(name).setType(mimeType).setSource(source));
+                result.setAttachments(attachments);
+            });
+        }
+
+        @Override
+        public void write(@NotNull String source, @NotNull byte[] content) {
+            try (InputStream in = new ByteArrayInputStream(content)) {
+                lifecycle.writeAttachment(source, in);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not write " + source, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/* Default WaitStrategy.
+Most interactions target an element that is already on screen, so the condition is checked once up front and the call
+returns without any polling. Only when that check fails does a FluentWait poll at a fine interval (100ms instead of
+WebDriverWait's 500ms). PageFactory proxies locate the element again on every call, so a stale or not-yet-rendered
+element is simply retried within the same deadline instead of starting a second full wait. */
+
+public class FastPathWaitStrategy implements WaitStrategy {
+
+    private static final Predicate<WebElement> VISIBLE = WebElement::isDisplayed;
+    private static final Predicate<WebElement> CLICKABLE = element -> element.isDisplayed() && element.isEnabled();
+
+    private final Duration timeout;
+    private final Duration pollInterval;
+    private final StepMetrics metrics;
+
+    public FastPathWaitStrategy(@NotNull Duration timeout, @NotNull Duration pollInterval, @NotNull StepMetrics metrics) {
+        this.timeout = timeout;
+        this.pollInterval = pollInterval;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public WebElement untilVisible(@NotNull WebElement element) {
+        return await(element, VISIBLE, "visibility");
+    }
+
+    @Override
+    public WebElement untilClickable(@NotNull WebElement element) {
+        return await(element, CLICKABLE, "clickability");
+    }
+
+    private WebElement await(WebElement element, Predicate<WebElement> condition, String conditionName) {
+        long start = System.nanoTime();
+        if (checkOnce(element, condition, metrics)) {
+            metrics.recordWait(StepMetrics.WaitOutcome.FAST_PATH, System.nanoTime() - start);
+            return element;
+        }
+
+        try {
+            new FluentWait<>(element)
+                    .withTimeout(timeout)
+                    .pollingEvery(pollInterval)
+                    .ignoring(NoSuchElementException.class)
+                    .ignoring(StaleElementReferenceException.class)
+                    .withMessage(() -> "waiting for " + conditionName + " of " + element)
+                    .until(polled -> {
+                        try {
+                            return condition.test(polled);
+                        } catch (StaleElementReferenceException e) {
+                            metrics.recordStaleRetry();
+                            throw e;
+                        }
+                    });
+            metrics.recordWait(StepMetrics.WaitOutcome.POLLED, System.nanoTime() - start);
+            return element;
+        } catch (TimeoutException e) {
+            metrics.recordWait(StepMetrics.WaitOutcome.TIMED_OUT, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    private static boolean checkOnce(WebElement element, Predicate<WebElement> condition, StepMetrics metrics) {
+        try {
+            return condition.test(element);
+        } catch (NoSuchElementException e) {
+            return false;
+        } catch (StaleElementReferenceException e) {
+            metrics.recordStaleRetry();
+            return false;
+        }
+    }
+}
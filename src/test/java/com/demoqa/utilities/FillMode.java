@@ -0,0 +1,25 @@
+package com.demoqa.utilities;
+
+import java.util.Locale;
+
+/* How BasePage.fillFields populates a form.
+ - form.fillMode=type (default)  real keystrokes field by field: a visibility wait plus sendKeys per field
+ - form.fillMode=fast            every field in one executeScript call through the native value setter, followed by
+                                 input and change events so React-controlled inputs update their state
+Fast-fill replaces the field value instead of appending to it and sends no key events; tests that exercise typing
+(special characters, key handlers, input masks) keep using the typed mode or the per-field page methods. */
+
+public enum FillMode {
+    TYPE, FAST;
+
+    public static FillMode configured() {
+        String name = ConfigReader.getString("form.fillMode", "type").toLowerCase(Locale.ROOT);
+        if (name.equals("fast")) {
+            return FAST;
+        }
+        if (!name.equals("type")) {
+            LoggerUtil.warning("Unknown form.fillMode '" + name + "', typing field by field");
+        }
+        return TYPE;
+    }
+}
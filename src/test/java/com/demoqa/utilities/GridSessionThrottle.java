@@ -0,0 +1,154 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/* Holds back new remote sessions while the Selenium Grid has no free slot for their browser, instead of letting the
+grid's own queue time the requests out (or a hub without capacity reject them).
+Callers line up first come, first served on a fair lock. The caller at the head polls the grid's /status (GridStatus)
+until a slot is free, and counts its session as starting until the grid has created it, so several threads never
+claim the same free slot between two polls. Everybody else waits behind it; a caller that gets no slot within
+-Dgrid.queueTimeoutSeconds fails with an IllegalStateException, like a WebDriverPool lease that times out.
+ - -Dgrid.pollMillis=500            interval between two /status reads while the grid is saturated
+ - -Dgrid.queueTimeoutSeconds=300   longest wait for a slot
+One throttle exists per grid URL (forUrl); SuiteMetricsListener logs how often and how long sessions were queued. */
+
+public class GridSessionThrottle {
+
+    public interface StatusSource {
+        GridStatus read() throws IOException;
+    }
+
+    private static final Map<String, GridSessionThrottle> THROTTLES = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final StatusSource statusSource;
+    private final long pollMillis;
+    private final long queueTimeoutMillis;
+    private final ReentrantLock queue = new ReentrantLock(true);
+    // Sessions that were let through but do not show up as busy in /status yet, by lower-case browser name.
+    // Not guarded by the queue lock: the caller at the head holds it while it waits for these sessions to start.
+    private final Map<String, Integer> startingSessions = new ConcurrentHashMap<>();
+    private final LongAdder queuedSessions = new LongAdder();
+    private final LongAdder queuedMillis = new LongAdder();
+    private final LongAdder grantedSessions = new LongAdder();
+
+    public GridSessionThrottle(@NotNull String name, @NotNull StatusSource statusSource, long pollMillis, long queueTimeoutMillis) {
+        this.name = name;
+        this.statusSource = statusSource;
+        this.pollMillis = pollMillis;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+    }
+
+    public static GridSessionThrottle forUrl(@NotNull String gridUrl) {
+        return THROTTLES.computeIfAbsent(gridUrl, url -> new GridSessionThrottle(url, () -> GridStatus.fetch(url),
+                ConfigReader.getLong("grid.pollMillis", 500),
+                TimeUnit.SECONDS.toMillis(ConfigReader.getLong("grid.queueTimeoutSeconds", 300))));
+    }
+
+    // Summaries of every grid used by this JVM, or an empty string
+    public static String summaries() {
+        StringBuilder summaries = new StringBuilder();
+        for (GridSessionThrottle throttle : THROTTLES.values()) {
+            summaries.append(summaries.length() == 0 ? "" : System.lineSeparator()).append(throttle.summary());
+        }
+        return summaries.toString();
+    }
+
+
+    //region    Wait for a free slot, then hand it back once the session exists (or failed to start)
+    public void acquire(@NotNull String browserName) {
+        String browser = browserName.toLowerCase(Locale.ROOT);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+        try {
+            if (!queue.tryLock(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw timeout(browserName, null, null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a " + browserName + " slot on " + name, e);
+        }
+
+        try {
+            boolean queued = false;
+            while (true) {
+                GridStatus status;
+                IOException failure = null;
+                try {
+                    status = statusSource.read();
+                } catch (IOException | RuntimeException e) {
+                    status = GridStatus.unavailable();
+                    failure = e instanceof IOException ? (IOException) e : new IOException(e);
+                }
+                if (status.freeSlots(browser) > starting(browser)) {
+                    startingSessions.merge(browser, 1, Integer::sum);
+                    break;
+                }
+                if (!queued) {
+                    queued = true;
+                    queuedSessions.increment();
+                    LoggerUtil.info("Grid " + name + " has no free " + browserName + " slot (" + status + "), queueing the session");
+                }
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollMillis) > deadline) {
+                    throw timeout(browserName, status, failure);
+                }
+                Thread.sleep(pollMillis);
+            }
+            grantedSessions.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a " + browserName + " slot on " + name, e);
+        } finally {
+            queuedMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            TraceRecorder.global().complete("grid", "wait for grid slot", start);
+            queue.unlock();
+        }
+    }
+
+    // Called once the session was created or its creation failed; from then on /status tells whether the slot is busy
+    public void release(@NotNull String browserName) {
+        startingSessions.computeIfPresent(browserName.toLowerCase(Locale.ROOT), (key, count) -> count > 1 ? count - 1 : null);
+    }
+    //endregion
+
+
+    //region    Results
+    public long getQueuedCount() {
+        return queuedSessions.sum();
+    }
+
+    public long getGrantedCount() {
+        return grantedSessions.sum();
+    }
+
+    public String summary() {
+        return String.format(Locale.ROOT, "Grid %s: %d sessions started, %d queued for a free slot, %.1f s spent waiting",
+                name, getGrantedCount(), getQueuedCount(), queuedMillis.sum() / 1000.0);
+    }
+    //endregion
+
+
+    // Helper methods
+    private int starting(String browser) {
+        return startingSessions.getOrDefault(browser, 0);
+    }
+
+    private IllegalStateException timeout(String browserName, GridStatus status, IOException failure) {
+        String message = "No " + browserName + " slot became free on grid " + name + " within "
+                + TimeUnit.MILLISECONDS.toSeconds(queueTimeoutMillis) + " seconds";
+        if (status != null && status.isReady() && status.capacity(browserName) == 0) {
+            message += "; no node of the grid offers " + browserName;
+        } else if (failure != null) {
+            message += "; last status check failed: " + failure.getMessage();
+        }
+        return new IllegalStateException(message, failure);
+    }
+}
@@ -0,0 +1,167 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/* Snapshot of the session capacity of a Selenium Grid (hub or standalone server), read from its /status endpoint.
+A node offers one slot per stereotype (browser) and session, but runs at most maxSessions sessions at once, so the free
+capacity for a browser is, per node that is UP, the smaller of its free slots for that browser and its unused
+maxSessions. A grid that is not ready has no free capacity. Browser names are compared without case, as in the
+stereotypes ("chrome", "MicrosoftEdge", "firefox"). */
+
+public final class GridStatus {
+
+    private static final Json JSON = new Json();
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private final boolean ready;
+    private final List<Node> nodes;
+
+    private GridStatus(boolean ready, List<Node> nodes) {
+        this.ready = ready;
+        this.nodes = Collections.unmodifiableList(nodes);
+    }
+
+    // Reads <gridUrl>/status; IOExceptions and non-200 answers are left to the caller, which keeps polling
+    public static GridStatus fetch(@NotNull String gridUrl) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(statusUrl(gridUrl)))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        try {
+            HttpResponse<String> response = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("Grid status answered " + response.statusCode());
+            }
+            return parse(response.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the grid status", e);
+        }
+    }
+
+    public static GridStatus parse(@NotNull String json) {
+        Map<String, Object> root = JSON.toType(json, Json.MAP_TYPE);
+        Map<?, ?> value = root.get("value") instanceof Map ? (Map<?, ?>) root.get("value") : root;
+        List<Node> nodes = new ArrayList<>();
+        if (value.get("nodes") instanceof List) {
+            for (Object node : (List<?>) value.get("nodes")) {
+                if (node instanceof Map) {
+                    nodes.add(Node.parse((Map<?, ?>) node));
+                }
+            }
+        }
+        return new GridStatus(Boolean.TRUE.equals(value.get("ready")), nodes);
+    }
+
+    public static GridStatus unavailable() {
+        return new GridStatus(false, Collections.emptyList());
+    }
+
+    static String statusUrl(String gridUrl) {
+        return (gridUrl.endsWith("/") ? gridUrl : gridUrl + "/") + "status";
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Sessions of this browser the grid could start right now
+    public int freeSlots(@NotNull String browserName) {
+        if (!ready) {
+            return 0;
+        }
+        int free = 0;
+        for (Node node : nodes) {
+            free += node.freeSlots(browserName);
+        }
+        return free;
+    }
+
+    // Sessions of this browser the grid could run at most, busy or not
+    public int capacity(@NotNull String browserName) {
+        int capacity = 0;
+        for (Node node : nodes) {
+            capacity += node.up ? Math.min(node.slotsFor(browserName), node.maxSessions) : 0;
+        }
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return (ready ? "ready" : "not ready") + ", " + nodes.size() + " node(s)";
+    }
+
+
+    // One grid node: availability, session limit and the browser of each slot with whether it is busy
+    private static final class Node {
+        private final boolean up;
+        private final int maxSessions;
+        private final List<String> slotBrowsers;
+        private final List<Boolean> slotBusy;
+
+        private Node(boolean up, int maxSessions, List<String> slotBrowsers, List<Boolean> slotBusy) {
+            this.up = up;
+            this.maxSessions = maxSessions;
+            this.slotBrowsers = slotBrowsers;
+            this.slotBusy = slotBusy;
+        }
+
+        static Node parse(Map<?, ?> node) {
+            List<String> browsers = new ArrayList<>();
+            List<Boolean> busy = new ArrayList<>();
+            if (node.get("slots") instanceof List) {
+                for (Object slot : (List<?>) node.get("slots")) {
+                    if (!(slot instanceof Map)) {
+                        continue;
+                    }
+                    Object stereotype = ((Map<?, ?>) slot).get("stereotype");
+                    Object browserName = stereotype instanceof Map ? ((Map<?, ?>) stereotype).get("browserName") : null;
+                    browsers.add(browserName == null ? "" : browserName.toString());
+                    busy.add(((Map<?, ?>) slot).get("session") != null);
+                }
+            }
+            int maxSessions = node.get("maxSessions") instanceof Number
+                    ? ((Number) node.get("maxSessions")).intValue()
+                    : browsers.size();
+            return new Node("UP".equalsIgnoreCase(String.valueOf(node.get("availability"))), maxSessions, browsers, busy);
+        }
+
+        int slotsFor(String browserName) {
+            int slots = 0;
+            for (String browser : slotBrowsers) {
+                if (browser.equalsIgnoreCase(browserName)) {
+                    slots++;
+                }
+            }
+            return slots;
+        }
+
+        int freeSlots(String browserName) {
+            if (!up) {
+                return 0;
+            }
+            int busySessions = 0;
+            int freeForBrowser = 0;
+            for (int i = 0; i < slotBrowsers.size(); i++) {
+                if (slotBusy.get(i)) {
+                    busySessions++;
+                } else if (slotBrowsers.get(i).equalsIgnoreCase(browserName)) {
+                    freeForBrowser++;
+                }
+            }
+            return Math.max(0, Math.min(freeForBrowser, maxSessions - busySessions));
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* Starts a Selenium server in standalone mode as a separate process on this machine, so the remote driver path
+(WebDriverManager with a grid URL, GridSessionThrottle) can be run and debugged without Docker or a shared grid.
+The standalone server is hub and node in one and launches the local browsers itself.
+ - grid.local=true                       start it once per suite (SuiteEnvironmentListener) and send every session to it
+ - grid.local.jar=tools/selenium-server.jar   the selenium-server-<version>.jar of the Selenium release in the pom
+ - grid.local.port=0                     0 picks a free port
+ - grid.local.maxSessions=<processors>   concurrent browsers of the node; more than the processor count is allowed
+ - grid.local.startupTimeoutSeconds=60
+The server writes its output to target/selenium-server.log. */
+
+public class LocalGridServer {
+
+    private static LocalGridServer shared;
+
+    private final Path serverJar;
+    private final int requestedPort;
+    private final int maxSessions;
+    private final Duration startupTimeout;
+    private final Path logFile;
+
+    private Process process;
+    private int port;
+
+    public LocalGridServer(@NotNull Path serverJar, int port, int maxSessions, @NotNull Duration startupTimeout,
+                           @NotNull Path logFile) {
+        this.serverJar = serverJar;
+        this.requestedPort = port;
+        this.maxSessions = maxSessions;
+        this.startupTimeout = startupTimeout;
+        this.logFile = logFile;
+    }
+
+
+    //region    Shared server of the suite
+    public static synchronized LocalGridServer startShared() {
+        if (shared == null) {
+            LocalGridServer server = new LocalGridServer(
+                    Paths.get(ConfigReader.getString("grid.local.jar", "tools/selenium-server.jar")),
+                    ConfigReader.getInt("grid.local.port", 0),
+                    ConfigReader.getInt("grid.local.maxSessions", Runtime.getRuntime().availableProcessors()),
+                    Duration.ofSeconds(ConfigReader.getLong("grid.local.startupTimeoutSeconds", 60)),
+                    Paths.get("target", "selenium-server.log"));
+            try {
+                server.start();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not start the local Selenium server", e);
+            }
+            shared = server;
+        }
+        return shared;
+    }
+
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.stop();
+            shared = null;
+        }
+    }
+    //endregion
+
+
+    //region    Process lifecycle
+    public synchronized void start() throws IOException {
+        if (process != null) {
+            return;
+        }
+        if (!Files.isRegularFile(serverJar)) {
+            throw new IOException("Selenium server jar not found at " + serverJar.toAbsolutePath()
+                    + "; download selenium-server-<version>.jar from https://github.com/SeleniumHQ/selenium/releases"
+                    + " and point -Dgrid.local.jar at it");
+        }
+        port = requestedPort > 0 ? requestedPort : freePort();
+        if (logFile.getParent() != null) {
+            Files.createDirectories(logFile.getParent());
+        }
+        process = new ProcessBuilder(command())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        try {
+            awaitReady();
+        } catch (IOException | RuntimeException e) {
+            stop();
+            throw e;
+        }
+        LoggerUtil.info("Local Selenium server with " + maxSessions + " sessions at " + getUrl() + " (log: " + logFile + ")");
+    }
+
+    public synchronized void stop() {
+        if (process == null) {
+            return;
+        }
+        process.destroy();
+        try {
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+        }
+        process = null;
+        LoggerUtil.info("Local Selenium server stopped");
+    }
+
+    public synchronized String getUrl() {
+        if (process == null) {
+            throw new IllegalStateException("Local Selenium server is not running");
+        }
+        return "http://localhost:" + port + "/";
+    }
+
+    // The java of this JVM runs the server, so no other Java installation is needed
+    public List<String> command() {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(serverJar.toString());
+        command.add("standalone");
+        command.add("--port");
+        command.add(String.valueOf(port > 0 ? port : requestedPort));
+        command.add("--max-sessions");
+        command.add(String.valueOf(maxSessions));
+        if (maxSessions > Runtime.getRuntime().availableProcessors()) {
+            // The server caps sessions at the processor count unless told otherwise
+            command.add("--override-max-sessions");
+            command.add("true");
+        }
+        return command;
+    }
+    //endregion
+
+
+    // Helper methods
+    private void awaitReady() throws IOException {
+        long deadline = System.nanoTime() + startupTimeout.toNanos();
+        String url = "http://localhost:" + port + "/";
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("Selenium server exited with code " + process.exitValue() + ": " + logTail());
+            }
+            try {
+                if (GridStatus.fetch(url).isReady()) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            try {
+                Thread.sleep(250);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the Selenium server", e);
+            }
+        }
+        throw new IOException("Selenium server was not ready within " + startupTimeout.getSeconds() + " seconds: " + logTail());
+    }
+
+    private String logTail() {
+        try {
+            List<String> lines = Files.readAllLines(logFile, StandardCharsets.UTF_8);
+            return String.join(System.lineSeparator(), lines.subList(Math.max(0, lines.size() - 10), lines.size()));
+        } catch (IOException e) {
+            return "(no log at " + logFile + ")";
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.demoqa.utilities;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/* Embedded HTTP server that serves recorded snapshots of the demoqa pages from a local directory, so suites can run
+offline, without the latency and throttling of the public site, and with far more parallel browsers.
+ - mirror.enabled=true            start it once per suite (SuiteEnvironmentListener) and point SiteUrls at it
+ - mirror.dir=src/test/mirror     snapshot directory ("/" is index.html, "/text-box" is the file text-box, assets keep their path)
+ - mirror.mode=replay|record      record fetches every missing file from mirror.upstream once and stores it
+ - mirror.port=0, mirror.threads=16
+demoqa is a single page application: a route without a file extension that was never recorded is answered with
+index.html, and the client-side router renders the page from the recorded scripts. */
+
+public class LocalMirrorServer {
+
+    public enum Mode {REPLAY, RECORD}
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "json", "application/json; charset=utf-8",
+            "svg", "image/svg+xml",
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "gif", "image/gif",
+            "ico", "image/x-icon",
+            "woff2", "font/woff2");
+
+    private static LocalMirrorServer shared;
+
+    private final Path snapshotDir;
+    private final int port;
+    private final int threads;
+    private final Mode mode;
+    private final String upstreamUrl;
+    // Snapshots never change during a run, so every file is read from disk at most once
+    private final Map<Path, byte[]> fileCache = new ConcurrentHashMap<>();
+    private final AtomicLong servedRequests = new AtomicLong();
+    private final AtomicLong missedRequests = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private HttpClient upstreamClient;
+
+    public LocalMirrorServer(@NotNull Path snapshotDir, int port, int threads, @NotNull Mode mode, @NotNull String upstreamUrl) {
+        this.snapshotDir = snapshotDir.toAbsolutePath().normalize();
+        this.port = port;
+        this.threads = Math.max(1, threads);
+        this.mode = mode;
+        this.upstreamUrl = upstreamUrl.endsWith("/") ? upstreamUrl : upstreamUrl + "/";
+    }
+
+
+    //region    Shared instance started once per suite (see SuiteEnvironmentListener)
+    public static synchronized LocalMirrorServer startShared() {
+        if (shared == null) {
+            LocalMirrorServer mirror = new LocalMirrorServer(
+                    Paths.get(ConfigReader.getString("mirror.dir", "src/test/mirror")),
+                    ConfigReader.getInt("mirror.port", 0),
+                    ConfigReader.getInt("mirror.threads", 16),
+                    mode(ConfigReader.getString("mirror.mode", "replay")),
+                    ConfigReader.getString("mirror.upstream", SiteUrls.PUBLIC_SITE));
+            try {
+                mirror.start();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not start the local mirror server", e);
+            }
+            shared = mirror;
+        }
+        return shared;
+    }
+
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.stop();
+            shared = null;
+        }
+    }
+
+    private static Mode mode(String value) {
+        try {
+            return Mode.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LoggerUtil.warning("Unknown mirror.mode value '" + value + "', using REPLAY");
+            return Mode.REPLAY;
+        }
+    }
+    //endregion
+
+
+    //region    Lifecycle
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            return;
+        }
+        if (mode == Mode.RECORD) {
+            Files.createDirectories(snapshotDir);
+            upstreamClient = HttpClient.newBuilder()
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+        } else if (!Files.isDirectory(snapshotDir)) {
+            throw new IOException("Mirror snapshot directory not found: " + snapshotDir
+                    + " (record it first with -Dmirror.mode=record)");
+        }
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/", this::handle);
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "local-mirror");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+        LoggerUtil.info("Local mirror (" + mode + ") serving " + snapshotDir + " at " + getBaseUrl());
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        LoggerUtil.info("Local mirror stopped after " + servedRequests.get() + " requests ("
+                + missedRequests.get() + " not found)");
+    }
+
+    public synchronized String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Local mirror server is not running");
+        }
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    public long getServedRequestCount() {
+        return servedRequests.get();
+    }
+
+    public long getMissedRequestCount() {
+        return missedRequests.get();
+    }
+    //endregion
+
+
+    //region    Request handling
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            Path file = resolve(path);
+            if (file == null) {
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+
+            if (!Files.isRegularFile(file) && mode == Mode.RECORD) {
+                record(exchange.getRequestURI(), file);
+            }
+            if (!Files.isRegularFile(file) && !hasExtension(file)) {
+                // Unrecorded client-side route: the single page application renders it from index.html
+                file = snapshotDir.resolve("index.html");
+            }
+            if (!Files.isRegularFile(file)) {
+                missedRequests.incrementAndGet();
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] body = fileCache.computeIfAbsent(file, LocalMirrorServer::readFile);
+            exchange.getResponseHeaders().set("Content-Type", contentType(file));
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=3600");
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+            } else {
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+            servedRequests.incrementAndGet();
+        } catch (RuntimeException e) {
+            LoggerUtil.error("Local mirror failed to serve " + exchange.getRequestURI(), e);
+            throw e;
+        } finally {
+            // HttpExchange is only AutoCloseable from JDK 18 on, the project targets Java 11
+            exchange.close();
+        }
+    }
+
+    // Maps a request path to a file inside the snapshot directory, or null when it would escape it
+    private Path resolve(String requestPath) {
+        String relativePath = requestPath.startsWith("/") ? requestPath.substring(1) : requestPath;
+        if (relativePath.isEmpty() || relativePath.endsWith("/")) {
+            relativePath += "index.html";
+        }
+        Path file = snapshotDir.resolve(relativePath).normalize();
+        return file.startsWith(snapshotDir) ? file : null;
+    }
+
+    // Fetches a missing file from the upstream site and stores it, only successful responses are kept
+    private void record(URI requestUri, Path file) {
+        String upstreamPath = requestUri.getRawPath().substring(1)
+                + (requestUri.getRawQuery() == null ? "" : "?" + requestUri.getRawQuery());
+        try {
+            HttpResponse<byte[]> response = upstreamClient.send(
+                    HttpRequest.newBuilder(URI.create(upstreamUrl + upstreamPath)).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                LoggerUtil.warning("Not recording " + upstreamPath + ", upstream answered " + response.statusCode());
+                return;
+            }
+            Files.createDirectories(file.getParent());
+            Files.write(file, response.body());
+            LoggerUtil.info("Recorded " + upstreamUrl + upstreamPath);
+        } catch (IOException e) {
+            LoggerUtil.warning("Could not record " + upstreamPath + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] readFile(Path file) {
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read mirror file " + file, e);
+        }
+    }
+
+    private static boolean hasExtension(Path file) {
+        return file.getFileName().toString().contains(".");
+    }
+
+    // Routes are recorded without an extension and are HTML documents
+    private static String contentType(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        if (dot < 0) {
+            return CONTENT_TYPES.get("html");
+        }
+        return CONTENT_TYPES.getOrDefault(name.substring(dot + 1).toLowerCase(Locale.ROOT), "application/octet-stream");
+    }
+    //endregion
+}
@@ -2,12 +2,20 @@ package com.demoqa.utilities;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.ZoneId;
 import java.util.logging.*;
 
+/* Colored console logger shared by all test threads.
+Each message is formatted exactly once, on the calling thread (so the thread name is the test's), with a shared
+TimestampAppender. By default the formatted line is handed to an AsyncLogWriter so test threads never wait on console I/O:
+ - logger.async=false               writes synchronously to stderr instead
+ - logger.async.bufferSize=8192     capacity of the ring buffer between test threads and the writer thread
+ - logger.async.overflow=block|drop what to do when the buffer is full (block waits, drop discards and reports a count) */
+
 public class LoggerUtil {
-    private static final Logger logger = Logger.getLogger(LoggerUtil.class.getName());
 
     // Define ANSI escape codes for colors
     private static final String ANSI_RESET = "\u001B[0m";
@@ -15,70 +23,105 @@ public class LoggerUtil {
     private static final String ANSI_YELLOW = "\u001B[33m";
     private static final String ANSI_RED = "\u001B[31m";
 
+    // Captured once, like the ConsoleHandler used to do
+    private static final PrintStream STDERR = System.err;
+    private static final AsyncLogWriter ASYNC_WRITER;
+
     static {
-        // Remove existing handlers to avoid duplicate log messages
-        for (Handler handler : logger.getHandlers()) {
-            logger.removeHandler(handler);
+        if (ConfigReader.getBoolean("logger.async", true)) {
+            ASYNC_WRITER = new AsyncLogWriter(
+                    STDERR,
+                    ConfigReader.getInt("logger.async.bufferSize", 8192),
+                    overflowPolicy(ConfigReader.getString("logger.async.overflow", "block")));
+            // Make sure buffered lines reach the console when the JVM exits
+            Runtime.getRuntime().addShutdownHook(new Thread(ASYNC_WRITER::shutdown, "async-log-writer-shutdown"));
+        } else {
+            ASYNC_WRITER = null;
         }
-
-        // Create a new console handler and set the custom formatter
-        ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setFormatter(new CustomFormatter());
-        consoleHandler.setLevel(Level.ALL);
-
-        // Add the new console handler to the logger
-        logger.addHandler(consoleHandler);
-        logger.setLevel(Level.ALL);
     }
 
     // Log an informational message in green
     public static void info(String message) {
-        log(Level.INFO, message, ANSI_GREEN);
+        log(Level.INFO, message, ANSI_GREEN, null);
     }
 
     // Log a warning message in yellow
     public static void warning(String message) {
-        log(Level.WARNING, message, ANSI_YELLOW);
+        log(Level.WARNING, message, ANSI_YELLOW, null);
     }
 
     // Log an error message in red along with a throwable
     public static void error(String message, Throwable throwable) {
-        LogRecord record = new LogRecord(Level.SEVERE, message);
-        record.setThrown(throwable);
-        logRecord(record, ANSI_RED);
+        log(Level.SEVERE, message, ANSI_RED, throwable);
     }
 
-    // Common method to log a message with a specific color
-    private static void log(Level level, String message, String color) {
-        LogRecord record = new LogRecord(level, color + message + ANSI_RESET);
-        logRecord(record, color);
+    // Wait until all queued messages are written (no-op in synchronous mode)
+    public static void flush() {
+        if (ASYNC_WRITER != null) {
+            ASYNC_WRITER.flush(5_000);
+        }
     }
 
-    // Common method to log a LogRecord with a specific color
-    private static void logRecord(LogRecord record, String color) {
-        String formattedMessage = new CustomFormatter().format(record);
-        logger.log(record.getLevel(), formattedMessage);
+    private static AsyncLogWriter.OverflowPolicy overflowPolicy(String value) {
+        try {
+            return AsyncLogWriter.OverflowPolicy.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            STDERR.println("Unknown logger.async.overflow value '" + value + "', using BLOCK");
+            return AsyncLogWriter.OverflowPolicy.BLOCK;
+        }
+    }
+
+    // Common method to format a message with a specific color once and hand it to the writer
+    private static void log(Level level, String message, String color, Throwable throwable) {
+        StringBuilder builder = new StringBuilder(128);
+        CustomFormatter.appendLine(builder, System.currentTimeMillis(), level, Thread.currentThread().getName(),
+                color, message, throwable);
+        String line = builder.toString();
+
+        if (ASYNC_WRITER != null) {
+            ASYNC_WRITER.submit(line);
+        } else {
+            synchronized (STDERR) {
+                STDERR.print(line);
+            }
+        }
     }
 
     // Custom formatter to include timestamps and thread information
-    private static class CustomFormatter extends Formatter {
-        private static final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    public static class CustomFormatter extends Formatter {
+        // Thread-safe and allocation-free for the timestamps of the current day
+        private static final TimestampAppender TIMESTAMP_FORMAT =
+                new TimestampAppender(ZoneId.systemDefault(), TimestampAppender.Layout.YEAR_FIRST);
 
         @NotNull
         @Override
         public String format(@NotNull LogRecord record) {
-            StringBuilder builder = new StringBuilder();
-            builder.append(dateFormat.format(new Date(record.getMillis())))
-                    .append(" [").append(record.getLevel()).append("] ")
-                    .append("[").append(Thread.currentThread().getName()).append("] ");
+            StringBuilder builder = new StringBuilder(128);
+            appendLine(builder, record.getMillis(), record.getLevel(), Thread.currentThread().getName(),
+                    null, formatMessage(record), record.getThrown());
+            return builder.toString();
+        }
+
+        static void appendLine(StringBuilder builder, long millis, Level level, String threadName,
+                               String color, String message, Throwable throwable) {
+            TIMESTAMP_FORMAT.append(builder, millis);
+            builder.append(" [").append(level.getName()).append("] ")
+                    .append('[').append(threadName).append("] ");
 
-            String message = formatMessage(record);
             if (message != null) {
-                builder.append(message);
+                if (color != null) {
+                    builder.append(color).append(message).append(ANSI_RESET);
+                } else {
+                    builder.append(message);
+                }
             }
-
             builder.append(System.lineSeparator());
-            return builder.toString();
+
+            if (throwable != null) {
+                StringWriter stackTrace = new StringWriter();
+                throwable.printStackTrace(new PrintWriter(stackTrace));
+                builder.append(stackTrace);
+            }
         }
     }
 }
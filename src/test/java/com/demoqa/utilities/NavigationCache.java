@@ -0,0 +1,187 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/* Remembers where a navigation chain (e.g. home page > Elements > Check Box) ends up, so later tests can jump there.
+The first test that walks a chain clicks through it and records a Snapshot: the URL it reached plus the cookies and
+localStorage entries of that page. Every later test of the JVM restores cookies and localStorage on the page it is on
+(the home page after BaseTest.setUp, same origin) and opens the URL directly, one navigation instead of a menu click,
+a page transition and a sub-category click. BaseTest.navigateVia falls back to the clicks when the shortcut cannot be
+used and marks the tests that took it.
+Keys include the base URL, so snapshots of the public site and of the local mirror never mix.
+ - -Dnavigation.cache=false   every test clicks through its chain again */
+
+public final class NavigationCache {
+
+    // Returns {url, origin, storage} of the current document, storage holding its localStorage entries
+    private static final String READ_STATE_SCRIPT =
+            "var entries = {};" +
+            "for (var i = 0; i < window.localStorage.length; i++) {" +
+            "    var key = window.localStorage.key(i);" +
+            "    entries[key] = window.localStorage.getItem(key);" +
+            "}" +
+            "return {url: window.location.href, origin: window.location.origin, storage: entries};";
+
+    // Writes arguments[1] into localStorage when the current document has the origin arguments[0]; returns whether it did
+    private static final String WRITE_STORAGE_SCRIPT =
+            "if (window.location.origin !== arguments[0]) { return false; }" +
+            "var entries = arguments[1];" +
+            "for (var key in entries) { window.localStorage.setItem(key, entries[key]); }" +
+            "return true;";
+
+    private static final NavigationCache GLOBAL = new NavigationCache(ConfigReader.getBoolean("navigation.cache", true));
+
+    private final boolean enabled;
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final LongAdder shortcuts = new LongAdder();
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public NavigationCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static NavigationCache global() {
+        return GLOBAL;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public static String key(@NotNull String baseUrl, @NotNull String chain) {
+        return baseUrl + "#" + chain;
+    }
+
+
+    //region    Record, look up and restore snapshots
+    public Optional<Snapshot> get(@NotNull String key) {
+        return enabled ? Optional.ofNullable(snapshots.get(key)) : Optional.empty();
+    }
+
+    // Captures the page the driver is on as the end of the chain; a page that cannot be read is simply not cached
+    public void record(@NotNull String key, @NotNull WebDriver driver) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            snapshots.put(key, Snapshot.capture(driver));
+            recorded.increment();
+        } catch (RuntimeException e) {
+            LoggerUtil.warning("Navigation to " + key + " was not cached: " + e.getMessage());
+        }
+    }
+
+    // A snapshot whose shortcut did not lead to a ready page is recorded again by the next test that clicks through
+    public void evict(@NotNull String key) {
+        snapshots.remove(key);
+        fallbacks.increment();
+    }
+
+    // Restores cookies and localStorage on the current page; false when that page is not on the snapshot's origin
+    public boolean restoreState(@NotNull WebDriver driver, @NotNull Snapshot snapshot) {
+        Object written = ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT,
+                snapshot.getOrigin(), snapshot.getLocalStorage());
+        if (!Boolean.TRUE.equals(written)) {
+            return false;
+        }
+        Date now = new Date();
+        for (Cookie cookie : snapshot.getCookies()) {
+            if (cookie.getExpiry() != null && cookie.getExpiry().before(now)) {
+                continue;
+            }
+            try {
+                driver.manage().addCookie(cookie);
+            } catch (WebDriverException e) {
+                LoggerUtil.warning("Cookie " + cookie.getName() + " could not be restored: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    public void recordShortcut() {
+        shortcuts.increment();
+    }
+    //endregion
+
+
+    //region    Results
+    public long getShortcutCount() {
+        return shortcuts.sum();
+    }
+
+    public long getRecordedCount() {
+        return recorded.sum();
+    }
+
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    public String summary() {
+        return String.format("Navigation cache: %d chains recorded, %d shortcuts taken, %d shortcuts fell back to clicks",
+                getRecordedCount(), getShortcutCount(), getFallbackCount());
+    }
+    //endregion
+
+
+    // Where a navigation chain ended: the URL, its origin, cookies and localStorage entries
+    public static final class Snapshot {
+        private final String url;
+        private final String origin;
+        private final List<Cookie> cookies;
+        private final Map<String, String> localStorage;
+
+        public Snapshot(@NotNull String url, @NotNull String origin, @NotNull List<Cookie> cookies,
+                        @NotNull Map<String, String> localStorage) {
+            this.url = url;
+            this.origin = origin;
+            this.cookies = Collections.unmodifiableList(new ArrayList<>(cookies));
+            this.localStorage = Collections.unmodifiableMap(new HashMap<>(localStorage));
+        }
+
+        static Snapshot capture(WebDriver driver) {
+            Object result = ((JavascriptExecutor) driver).executeScript(READ_STATE_SCRIPT);
+            if (!(result instanceof Map)) {
+                throw new IllegalStateException("Could not read the state of " + driver.getCurrentUrl());
+            }
+            Map<?, ?> state = (Map<?, ?>) result;
+            Map<String, String> storage = new HashMap<>();
+            if (state.get("storage") instanceof Map) {
+                ((Map<?, ?>) state.get("storage")).forEach((key, value) -> storage.put(String.valueOf(key), String.valueOf(value)));
+            }
+            return new Snapshot(String.valueOf(state.get("url")), String.valueOf(state.get("origin")),
+                    new ArrayList<>(driver.manage().getCookies()), storage);
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getOrigin() {
+            return origin;
+        }
+
+        public List<Cookie> getCookies() {
+            return cookies;
+        }
+
+        public Map<String, String> getLocalStorage() {
+            return localStorage;
+        }
+    }
+}
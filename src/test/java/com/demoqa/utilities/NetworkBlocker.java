@@ -0,0 +1,130 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/* Keeps Chrome and Edge sessions from loading the third-party requests on the NetworkBlocklist, through the DevTools
+protocol. WebDriverManager attaches it to every new Chromium session.
+Network.setBlockedURLs makes the browser itself fail matching requests before they are sent, so no request waits for a
+round-trip to the test JVM (unlike Fetch interception). The Network events are only listened to for BlockedRequestMetrics.
+ - -Dnetwork.block=false          switches blocking off
+ - -Dnetwork.block.mode=report    lets the listed requests through and measures them instead (see BlockedRequestMetrics)
+The raw protocol commands are used instead of the generated v1xx classes, so a browser update does not need a new
+Selenium DevTools artifact. Blocking applies to the tab the session was created with, which is the one pooled sessions
+keep. Firefox is not covered: the BiDi network module of Selenium 4.15 can observe requests but not intercept them. */
+
+public class NetworkBlocker {
+
+    public enum Mode {BLOCK, REPORT}
+
+    private static final AtomicBoolean UNSUPPORTED_WARNING_LOGGED = new AtomicBoolean();
+
+    private final NetworkBlocklist blocklist;
+    private final Mode mode;
+    private final BlockedRequestMetrics metrics;
+    // URLs of the in-flight requests that match the blocklist, by DevTools request id
+    private final Map<String, String> matchedRequests = new ConcurrentHashMap<>();
+
+    public NetworkBlocker(@NotNull NetworkBlocklist blocklist, @NotNull Mode mode, @NotNull BlockedRequestMetrics metrics) {
+        this.blocklist = blocklist;
+        this.mode = mode;
+        this.metrics = metrics;
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("network.block", true);
+    }
+
+    public static Mode configuredMode() {
+        String name = ConfigReader.getString("network.block.mode", "block").toUpperCase(Locale.ROOT);
+        try {
+            return Mode.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            LoggerUtil.warning("Unknown network.block.mode '" + name + "', blocking");
+            return Mode.BLOCK;
+        }
+    }
+
+    // Called by WebDriverManager for every new session; a session without DevTools is left as it is
+    public static void attachIfEnabled(WebDriver driver, @NotNull String browserName) {
+        if (driver == null || !isEnabled()) {
+            return;
+        }
+        NetworkBlocklist blocklist = NetworkBlocklist.fromConfig();
+        if (blocklist.isEmpty()) {
+            return;
+        }
+        if (browserName.equalsIgnoreCase("firefox") || !(driver instanceof HasDevTools)) {
+            if (UNSUPPORTED_WARNING_LOGGED.compareAndSet(false, true)) {
+                LoggerUtil.warning("Request blocking needs the DevTools protocol, " + browserName + " sessions load ads and trackers");
+            }
+            return;
+        }
+        new NetworkBlocker(blocklist, configuredMode(), BlockedRequestMetrics.global()).attach((HasDevTools) driver);
+    }
+
+    public void attach(@NotNull HasDevTools driver) {
+        try {
+            DevTools devTools = driver.maybeGetDevTools().orElse(null);
+            if (devTools == null) {
+                LoggerUtil.warning("No DevTools connection, requests are not blocked in this session");
+                return;
+            }
+            devTools.createSessionIfThereIsNotOne();
+            devTools.addListener(event("Network.requestWillBeSent"), this::onRequestWillBeSent);
+            devTools.addListener(event("Network.loadingFailed"), this::onLoadingFailed);
+            devTools.addListener(event("Network.loadingFinished"), this::onLoadingFinished);
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+            if (mode == Mode.BLOCK) {
+                devTools.send(new Command<Void>("Network.setBlockedURLs", Map.of("urls", blocklist.getPatterns())));
+            }
+        } catch (RuntimeException e) {
+            // An unsupported browser version must not fail the test run, it only loses the speed-up
+            LoggerUtil.warning("Could not set up request blocking: " + e.getMessage());
+        }
+    }
+
+
+    //region    DevTools events (public so they can be exercised without a browser)
+    public void onRequestWillBeSent(@NotNull Map<String, Object> event) {
+        Object request = event.get("request");
+        Object url = request instanceof Map ? ((Map<?, ?>) request).get("url") : null;
+        if (url != null && blocklist.matches(url.toString())) {
+            matchedRequests.put(String.valueOf(event.get("requestId")), url.toString());
+        }
+    }
+
+    public void onLoadingFailed(@NotNull Map<String, Object> event) {
+        String url = matchedRequests.remove(String.valueOf(event.get("requestId")));
+        if (event.get("blockedReason") != null) {
+            metrics.recordBlocked(NetworkBlocklist.hostOf(url == null ? "unknown" : url));
+        }
+    }
+
+    public void onLoadingFinished(@NotNull Map<String, Object> event) {
+        Object length = event.get("encodedDataLength");
+        long bytes = length instanceof Number ? ((Number) length).longValue() : 0;
+        metrics.recordResponse(bytes);
+        String url = matchedRequests.remove(String.valueOf(event.get("requestId")));
+        if (url != null) {
+            metrics.recordMatchedResponse(NetworkBlocklist.hostOf(url), bytes);
+        }
+    }
+    //endregion
+
+
+    // Helper methods
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
@@ -0,0 +1,111 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/* URL patterns of third-party requests (ads, analytics, consent and tracking scripts) that NetworkBlocker keeps the
+browser from loading. Patterns use the DevTools syntax, where * matches any run of characters, so the same strings are
+handed to the browser and matched here for the statistics.
+ - -Dnetwork.blocklist=<p1>,<p2>        replaces the built-in list below
+ - -Dnetwork.blocklist.extra=<p1>,<p2>  adds patterns to it
+demoqa itself (demoqa.com and its static assets) is never on the list, so blocking cannot change what the tests see
+apart from the ad slots staying empty. */
+
+public final class NetworkBlocklist {
+
+    // Hosts that demoqa pages pull ads and tracking from
+    public static final List<String> DEFAULT_PATTERNS = Collections.unmodifiableList(Arrays.asList(
+            "*googlesyndication.com*",
+            "*doubleclick.net*",
+            "*googleadservices.com*",
+            "*adservice.google.*",
+            "*googletagmanager.com*",
+            "*googletagservices.com*",
+            "*google-analytics.com*",
+            "*fundingchoicesmessages.google.com*",
+            "*ad.plus*",
+            "*amazon-adsystem.com*",
+            "*adsrvr.org*",
+            "*criteo.com*",
+            "*pubmatic.com*",
+            "*rubiconproject.com*",
+            "*casalemedia.com*",
+            "*openx.net*",
+            "*3lift.com*",
+            "*taboola.com*",
+            "*facebook.net*",
+            "*hotjar.com*"));
+
+    private final List<String> patterns;
+    private final List<Pattern> compiled = new ArrayList<>();
+
+    public NetworkBlocklist(@NotNull List<String> patterns) {
+        this.patterns = Collections.unmodifiableList(new ArrayList<>(patterns));
+        for (String pattern : this.patterns) {
+            compiled.add(toRegex(pattern));
+        }
+    }
+
+    public static NetworkBlocklist fromConfig() {
+        List<String> patterns = new ArrayList<>(split(ConfigReader.getString("network.blocklist", null), DEFAULT_PATTERNS));
+        patterns.addAll(split(ConfigReader.getString("network.blocklist.extra", null), Collections.emptyList()));
+        return new NetworkBlocklist(patterns);
+    }
+
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    public boolean isEmpty() {
+        return patterns.isEmpty();
+    }
+
+    public boolean matches(@NotNull String url) {
+        for (Pattern pattern : compiled) {
+            if (pattern.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Host name used to group the statistics, the URL itself when it has none
+    public static String hostOf(@NotNull String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? url : host.toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+
+    // Helper methods
+    private static List<String> split(String value, List<String> defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        List<String> patterns = new ArrayList<>();
+        for (String pattern : value.split(",")) {
+            if (!pattern.isBlank()) {
+                patterns.add(pattern.trim());
+            }
+        }
+        return patterns;
+    }
+
+    private static Pattern toRegex(String pattern) {
+        List<String> literals = new ArrayList<>();
+        for (String literal : pattern.split("\\*", -1)) {
+            literals.add(literal.isEmpty() ? "" : Pattern.quote(literal));
+        }
+        return Pattern.compile(String.join(".*", literals), Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    }
+}
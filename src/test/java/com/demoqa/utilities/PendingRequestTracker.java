@@ -0,0 +1,66 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.util.Map;
+
+/* Counts the page's pending fetch and XMLHttpRequest calls in window.__pendingRequests, for the "no pending requests"
+readiness signal (PageReadiness).
+In Chrome and Edge the counter is registered with Page.addScriptToEvaluateOnNewDocument, so it wraps fetch and XHR
+before any page script runs. In other browsers BasePage installs it on the first readiness check instead, which only
+sees the requests started from then on. */
+
+public final class PendingRequestTracker {
+
+    // Idempotent: a document that already has the counter keeps it
+    public static final String INSTALL_SCRIPT =
+            "(function () {" +
+            "    if (typeof window.__pendingRequests === 'number') { return; }" +
+            "    window.__pendingRequests = 0;" +
+            "    var done = function () { window.__pendingRequests = Math.max(0, window.__pendingRequests - 1); };" +
+            "    if (window.fetch) {" +
+            "        var fetch = window.fetch;" +
+            "        window.fetch = function () {" +
+            "            window.__pendingRequests++;" +
+            "            try {" +
+            "                var result = fetch.apply(this, arguments);" +
+            "                result.then(done, done);" +
+            "                return result;" +
+            "            } catch (e) { done(); throw e; }" +
+            "        };" +
+            "    }" +
+            "    var send = XMLHttpRequest.prototype.send;" +
+            "    XMLHttpRequest.prototype.send = function () {" +
+            "        window.__pendingRequests++;" +
+            "        this.addEventListener('loadend', done);" +
+            "        try { return send.apply(this, arguments); } catch (e) { done(); throw e; }" +
+            "    };" +
+            "})();";
+
+    private PendingRequestTracker() {
+        // Private constructor to prevent instantiation
+    }
+
+    // Called by WebDriverManager for sessions that do not wait for the load event; other sessions are left as they are
+    public static void attachIfSupported(WebDriver driver, @NotNull String browserName) {
+        if (!(driver instanceof HasDevTools) || browserName.equalsIgnoreCase("firefox")) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).maybeGetDevTools().orElse(null);
+            if (devTools == null) {
+                return;
+            }
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<Void>("Page.enable", Map.of()));
+            devTools.send(new Command<Void>("Page.addScriptToEvaluateOnNewDocument", Map.of("source", INSTALL_SCRIPT)));
+        } catch (RuntimeException e) {
+            // Readiness checks fall back to installing the counter themselves
+            LoggerUtil.warning("Could not register the pending request counter: " + e.getMessage());
+        }
+    }
+}
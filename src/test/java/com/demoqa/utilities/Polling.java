@@ -0,0 +1,73 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/* Immutable polling settings for the eventually-style assertions in AssertionUtils.
+The first re-check happens after the initial interval, every following interval is multiplied by the backoff factor
+(capped at the max interval), and polling stops at the overall timeout. Defaults can be tuned per run with
+-Dassert.poll.initialMs, -Dassert.poll.backoff, -Dassert.poll.maxIntervalMs and -Dassert.poll.timeoutMs. */
+
+public final class Polling {
+
+    private static final Polling DEFAULT = new Polling(
+            Duration.ofMillis(ConfigReader.getLong("assert.poll.initialMs", 50)),
+            ConfigReader.getDouble("assert.poll.backoff", 2.0),
+            Duration.ofMillis(ConfigReader.getLong("assert.poll.maxIntervalMs", 1000)),
+            Duration.ofMillis(ConfigReader.getLong("assert.poll.timeoutMs", 5000)));
+
+    private final Duration initialInterval;
+    private final double backoffFactor;
+    private final Duration maxInterval;
+    private final Duration timeout;
+
+    private Polling(Duration initialInterval, double backoffFactor, Duration maxInterval, Duration timeout) {
+        if (initialInterval.isNegative() || timeout.isNegative() || backoffFactor < 1.0) {
+            throw new IllegalArgumentException("Invalid polling settings: interval=" + initialInterval
+                    + ", backoff=" + backoffFactor + ", timeout=" + timeout);
+        }
+        this.initialInterval = initialInterval;
+        this.backoffFactor = backoffFactor;
+        this.maxInterval = maxInterval.compareTo(initialInterval) < 0 ? initialInterval : maxInterval;
+        this.timeout = timeout;
+    }
+
+    // Default settings (50ms, doubling up to 1s, 5s deadline unless overridden by system properties)
+    public static Polling defaults() {
+        return DEFAULT;
+    }
+
+    // Poll at a fixed interval, e.g. Polling.every(Duration.ofMillis(100)).within(Duration.ofSeconds(3))
+    public static Polling every(@NotNull Duration interval) {
+        return new Polling(interval, 1.0, interval, DEFAULT.timeout);
+    }
+
+    public Polling withBackoff(double factor, @NotNull Duration maxInterval) {
+        return new Polling(initialInterval, factor, maxInterval, timeout);
+    }
+
+    public Polling within(@NotNull Duration timeout) {
+        return new Polling(initialInterval, backoffFactor, maxInterval, timeout);
+    }
+
+    public Duration getInitialInterval() {
+        return initialInterval;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    // Interval to sleep after the given one, applying the backoff factor and the cap
+    public long nextIntervalMillis(long currentIntervalMillis) {
+        long next = (long) Math.ceil(currentIntervalMillis * backoffFactor);
+        return Math.min(Math.max(next, 1), maxInterval.toMillis());
+    }
+
+    @Override
+    public String toString() {
+        return "Polling{interval=" + initialInterval.toMillis() + "ms, backoff=" + backoffFactor
+                + ", maxInterval=" + maxInterval.toMillis() + "ms, timeout=" + timeout.toMillis() + "ms}";
+    }
+}
@@ -0,0 +1,54 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/* The wait BasePage used before FastPathWaitStrategy: refreshed(visibilityOf) on the page's WebDriverWait, repeated once
+after a StaleElementReferenceException. Kept behind -Dwait.strategy=refreshed to compare timings. */
+
+public class RefreshedWaitStrategy implements WaitStrategy {
+
+    private final WebDriverWait wait;
+    private final StepMetrics metrics;
+
+    public RefreshedWaitStrategy(@NotNull WebDriverWait wait, @NotNull StepMetrics metrics) {
+        this.wait = wait;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public WebElement untilVisible(@NotNull WebElement element) {
+        long start = System.nanoTime();
+        try {
+            try {
+                wait.until(ExpectedConditions.refreshed(ExpectedConditions.visibilityOf(element)));
+            } catch (StaleElementReferenceException e) {
+                metrics.recordStaleRetry();
+                LoggerUtil.warning("Stale element reference encountered. Refreshing and retrying...");
+                wait.until(ExpectedConditions.refreshed(ExpectedConditions.visibilityOf(element)));
+            }
+            metrics.recordWait(StepMetrics.WaitOutcome.POLLED, System.nanoTime() - start);
+            return element;
+        } catch (TimeoutException e) {
+            metrics.recordWait(StepMetrics.WaitOutcome.TIMED_OUT, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @Override
+    public WebElement untilClickable(@NotNull WebElement element) {
+        long start = System.nanoTime();
+        try {
+            wait.until(ExpectedConditions.elementToBeClickable(element));
+            metrics.recordWait(StepMetrics.WaitOutcome.POLLED, System.nanoTime() - start);
+            return element;
+        } catch (TimeoutException e) {
+            metrics.recordWait(StepMetrics.WaitOutcome.TIMED_OUT, System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+/* Single source of the site address used by BaseTest and the page objects.
+Defaults to the public site and can be pointed elsewhere with -Dbase.url=http://host:port/ ; when the embedded
+LocalMirrorServer is enabled it switches the base URL to its own address for the rest of the run. */
+
+public final class SiteUrls {
+
+    public static final String PUBLIC_SITE = "https://demoqa.com/";
+
+    private static volatile String baseUrl = normalize(ConfigReader.getString("base.url", PUBLIC_SITE));
+
+    private SiteUrls() {
+        // Private constructor to prevent instantiation
+    }
+
+    // Base URL of the site under test, always ending with "/"
+    public static String baseUrl() {
+        return baseUrl;
+    }
+
+    // Absolute URL of a page, e.g. SiteUrls.of("text-box") -> "https://demoqa.com/text-box"
+    public static String of(@NotNull String path) {
+        String relativePath = path.startsWith("/") ? path.substring(1) : path;
+        return baseUrl + relativePath;
+    }
+
+    // Point every following navigation and URL assertion at another host (used by the local mirror)
+    public static void useBaseUrl(@NotNull String url) {
+        baseUrl = normalize(url);
+    }
+
+    // Go back to the configured base URL
+    public static void reset() {
+        baseUrl = normalize(ConfigReader.getString("base.url", PUBLIC_SITE));
+    }
+
+    private static String normalize(String url) {
+        return url.endsWith("/") ? url : url + "/";
+    }
+}
@@ -0,0 +1,268 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/* Latency of every BasePage interaction, per page class and operation (e.g. TextBoxPage#sendKeysToElement), plus
+timeout and stale-element counters. Recording is lock-free and safe from any number of test threads.
+BasePage opens a step around every interaction. Steps nest (clickElement waits through waitUntilElementIsVisible), so
+stale elements retried by the WaitStrategy count towards the innermost step open on the thread, and a timeout or stale
+element that fails several nested steps counts only in the innermost one; the counters of all steps add up to the total.
+Every element wait also counts its outcome towards the innermost step: FAST_PATH (condition already met, no polling),
+POLLED (met after polling) or TIMED_OUT.
+SuiteMetricsListener writes the report after the suite to -Dmetrics.stepReport (target/step-metrics.json), slowest p95 first. */
+
+public final class StepMetrics {
+
+    public enum WaitOutcome {FAST_PATH, POLLED, TIMED_OUT}
+
+    private static final StepMetrics GLOBAL = new StepMetrics();
+
+    // Waits outside any BasePage step (e.g. a WaitStrategy used on its own) are counted under this page and operation
+    private static final String NO_STEP_PAGE = "NoStep";
+    private static final String NO_STEP_OPERATION = "elementWait";
+
+    private final ConcurrentHashMap<String, Step> steps = new ConcurrentHashMap<>();
+    private final ThreadLocal<OpenStep> innermostStep = new ThreadLocal<>();
+    // The last timeout or stale element counted on this thread, so that the steps it also fails don't count it again
+    private final ThreadLocal<Throwable> countedFailure = new ThreadLocal<>();
+
+    public static StepMetrics global() {
+        return GLOBAL;
+    }
+
+
+    //region    Recording
+    // Opens a step on the calling thread; it must be closed on the same thread, innermost first
+    public OpenStep open(@NotNull String page, @NotNull String operation) {
+        OpenStep opened = new OpenStep(step(page, operation), innermostStep.get());
+        innermostStep.set(opened);
+        return opened;
+    }
+
+    // A StaleElementReferenceException seen (and retried) while waiting, counted towards the innermost open step
+    public void recordStaleRetry() {
+        OpenStep open = innermostStep.get();
+        (open != null ? open.step : step(NO_STEP_PAGE, NO_STEP_OPERATION)).staleElements.increment();
+    }
+
+    // The outcome of an element wait; a wait outside any step is timed here, inside a step the step times it
+    public void recordWait(@NotNull WaitOutcome outcome, long elapsedNanos) {
+        OpenStep open = innermostStep.get();
+        Step step = open != null ? open.step : step(NO_STEP_PAGE, NO_STEP_OPERATION);
+        step.waits[outcome.ordinal()].increment();
+        if (open == null) {
+            step.latency.recordNanos(elapsedNanos);
+        }
+    }
+
+    private Step step(String page, String operation) {
+        String key = page + '#' + operation;
+        Step step = steps.get(key);
+        return step != null ? step : steps.computeIfAbsent(key, k -> new Step(page, operation));
+    }
+
+    public void reset() {
+        steps.clear();
+    }
+
+    // A BasePage step in progress on one thread
+    public final class OpenStep {
+        private final Step step;
+        private final OpenStep outer;
+        private final long startNanos = System.nanoTime();
+
+        private OpenStep(Step step, OpenStep outer) {
+            this.step = step;
+            this.outer = outer;
+        }
+
+        // Counts a timeout or stale element that ends this step, unless a nested step already counted it (or the exception it wraps)
+        public void failed(@NotNull RuntimeException failure) {
+            Throwable counted = countedFailure.get();
+            for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+                if (cause == counted) {
+                    return;
+                }
+            }
+            countedFailure.set(failure);
+            if (failure instanceof StaleElementReferenceException) {
+                step.staleElements.increment();
+            } else if (failure instanceof TimeoutException) {
+                step.timeouts.increment();
+            }
+        }
+
+        // Records the latency of the step and makes the step around it the innermost one again
+        public void close() {
+            step.latency.recordNanos(System.nanoTime() - startNanos);
+            if (outer == null) {
+                innermostStep.remove();
+                countedFailure.remove();
+            } else {
+                innermostStep.set(outer);
+            }
+        }
+    }
+    //endregion
+
+
+    //region    Reporting
+    // Statistics of every recorded step, slowest p95 first
+    public List<StepStats> snapshot() {
+        List<StepStats> stats = new ArrayList<>(steps.size());
+        for (Step step : steps.values()) {
+            stats.add(new StepStats(step));
+        }
+        stats.sort(Comparator.comparingDouble(StepStats::getP95Millis).reversed()
+                .thenComparing(StepStats::getPage).thenComparing(StepStats::getOperation));
+        return stats;
+    }
+
+    public void writeReport(@NotNull Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("{\n");
+            out.write("  \"generatedAt\": \"" + Instant.now() + "\",\n");
+            out.write("  \"steps\": [");
+            List<StepStats> stats = snapshot();
+            for (int i = 0; i < stats.size(); i++) {
+                out.write(i == 0 ? "\n" : ",\n");
+                out.write("    " + stats.get(i).toJson());
+            }
+            out.write(stats.isEmpty() ? "]\n" : "\n  ]\n");
+            out.write("}\n");
+        }
+    }
+
+    // Writes the report and logs the slowest steps; failures are logged, never thrown at the end of a suite
+    public void writeReportQuietly(@NotNull Path file, int slowestToLog) {
+        try {
+            writeReport(file);
+            List<StepStats> stats = snapshot();
+            LoggerUtil.info("Step timings written to " + file.toAbsolutePath() + " (" + stats.size() + " steps)");
+            for (StepStats step : stats.subList(0, Math.min(slowestToLog, stats.size()))) {
+                LoggerUtil.info(String.format(Locale.ROOT, "  %-50s n=%-6d p50=%.1fms p95=%.1fms p99=%.1fms",
+                        step.getPage() + "#" + step.getOperation(), step.getCount(),
+                        step.getP50Millis(), step.getP95Millis(), step.getP99Millis()));
+            }
+        } catch (IOException e) {
+            LoggerUtil.error("Could not write step timings to " + file, e);
+        }
+    }
+    //endregion
+
+
+    private static final class Step {
+        private final String page;
+        private final String operation;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder staleElements = new LongAdder();
+        private final LongAdder[] waits = new LongAdder[WaitOutcome.values().length];
+
+        private Step(String page, String operation) {
+            this.page = page;
+            this.operation = operation;
+            for (int i = 0; i < waits.length; i++) {
+                waits[i] = new LongAdder();
+            }
+        }
+    }
+
+    // Point-in-time statistics of one page operation
+    public static final class StepStats {
+        private final String page;
+        private final String operation;
+        private final long count;
+        private final double meanMillis;
+        private final double p50Millis;
+        private final double p95Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+        private final long timeouts;
+        private final long staleElements;
+        private final long[] waits = new long[WaitOutcome.values().length];
+
+        private StepStats(Step step) {
+            this.page = step.page;
+            this.operation = step.operation;
+            this.count = step.latency.getCount();
+            this.meanMillis = step.latency.getMeanMillis();
+            this.p50Millis = step.latency.getPercentileMillis(50);
+            this.p95Millis = step.latency.getPercentileMillis(95);
+            this.p99Millis = step.latency.getPercentileMillis(99);
+            this.maxMillis = step.latency.getMaxMillis();
+            this.timeouts = step.timeouts.sum();
+            this.staleElements = step.staleElements.sum();
+            for (int i = 0; i < waits.length; i++) {
+                waits[i] = step.waits[i].sum();
+            }
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getP50Millis() {
+            return p50Millis;
+        }
+
+        public double getP95Millis() {
+            return p95Millis;
+        }
+
+        public double getP99Millis() {
+            return p99Millis;
+        }
+
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        public long getStaleElements() {
+            return staleElements;
+        }
+
+        public long getWaits(@NotNull WaitOutcome outcome) {
+            return waits[outcome.ordinal()];
+        }
+
+        // Page and operation names are Java identifiers, so they need no JSON escaping
+        String toJson() {
+            return String.format(Locale.ROOT, "{\"page\": \"%s\", \"operation\": \"%s\", \"count\": %d, "
+                            + "\"meanMs\": %.3f, \"p50Ms\": %.3f, \"p95Ms\": %.3f, \"p99Ms\": %.3f, \"maxMs\": %.3f, "
+                            + "\"timeouts\": %d, \"staleElements\": %d, \"waits\": {\"fastPath\": %d, \"polled\": %d, \"timedOut\": %d}}",
+                    page, operation, count, meanMillis, p50Millis, p95Millis, p99Millis, maxMillis, timeouts, staleElements,
+                    waits[WaitOutcome.FAST_PATH.ordinal()], waits[WaitOutcome.POLLED.ordinal()], waits[WaitOutcome.TIMED_OUT.ordinal()]);
+        }
+    }
+}
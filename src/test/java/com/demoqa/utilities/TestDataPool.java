@@ -0,0 +1,156 @@
+package com.demoqa.utilities;
+
+import com.github.javafaker.Faker;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/* Pre-generated, seedable test data, built once per suite instead of eight Faker calls per test class instance.
+The pool is an immutable array of TestPerson filled in chunks of CHUNK_SIZE. Every chunk is generated from its own seed
+(derived from the pool seed and the chunk number), so the content depends only on seed and size, never on how many
+threads built it or in which order. Building runs on -Ddata.pool.threads workers, one Faker per worker.
+Threads take entries without contention: each thread claims a block of BLOCK_SIZE indexes with one atomic increment and
+then serves it from its own cursor, so no two threads hand out the same entry until the pool wraps around.
+ - -Ddata.seed=<long>        replays the data of an earlier run; the seed in use is logged when the pool is built
+ - -Ddata.pool.size=256      entries before the values repeat (a warning is logged once when that happens)
+ - -Ddata.pool.threads=<n>   build parallelism, the number of processors by default
+With one test thread the same seed yields the same values in the same order; with parallel tests each thread still gets
+values from the same pool, in an order that depends on scheduling. */
+
+public final class TestDataPool {
+
+    static final int CHUNK_SIZE = 16;
+    private static final int BLOCK_SIZE = 16;
+    // Spreads the chunk seeds (the 64-bit golden ratio, as used by SplittableRandom)
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+    private static volatile TestDataPool shared;
+
+    private final long seed;
+    private final TestPerson[] people;
+    private final AtomicLong nextBlock = new AtomicLong();
+    private final AtomicBoolean wrapWarningLogged = new AtomicBoolean();
+    // {next index, end of the claimed block} of the current thread
+    private final ThreadLocal<long[]> cursor = ThreadLocal.withInitial(() -> new long[2]);
+
+    private TestDataPool(long seed, TestPerson[] people) {
+        this.seed = seed;
+        this.people = people;
+    }
+
+
+    //region    Build
+    // The pool of the suite, built from the -Ddata.* settings on first use
+    public static TestDataPool shared() {
+        TestDataPool pool = shared;
+        if (pool == null) {
+            synchronized (TestDataPool.class) {
+                pool = shared;
+                if (pool == null) {
+                    long seed = ConfigReader.getLong("data.seed", new SecureRandom().nextLong());
+                    long start = System.nanoTime();
+                    pool = build(seed, ConfigReader.getInt("data.pool.size", 256),
+                            ConfigReader.getInt("data.pool.threads", Runtime.getRuntime().availableProcessors()));
+                    LoggerUtil.info(String.format("Test data pool: %d people from seed %d in %.0f ms (replay with -Ddata.seed=%d)",
+                            pool.size(), seed, (System.nanoTime() - start) / 1e6, seed));
+                    shared = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    public static TestDataPool build(long seed, int size, int threads) {
+        if (size < 1) {
+            throw new IllegalArgumentException("data.pool.size must be at least 1, was " + size);
+        }
+        TestPerson[] people = new TestPerson[size];
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int workers = Math.max(1, Math.min(threads, chunks));
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "test-data-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int worker = 0; worker < workers; worker++) {
+                int firstChunk = worker;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random();
+                    Faker faker = new Faker(random);
+                    for (int chunk = firstChunk; chunk < chunks; chunk += workers) {
+                        random.setSeed(seed + SEED_INCREMENT * (chunk + 1));
+                        for (int index = chunk * CHUNK_SIZE; index < Math.min(size, (chunk + 1) * CHUNK_SIZE); index++) {
+                            people[index] = generate(faker, index);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building the test data pool", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not build the test data pool", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        // The Future.get() calls above make the workers' writes visible to every thread that reads the pool
+        return new TestDataPool(seed, people);
+    }
+
+    // The same eight values, in the same order, that BaseTest used to ask RandomDataGenerator for
+    private static TestPerson generate(Faker faker, int index) {
+        String email = faker.internet().emailAddress();
+        String password = faker.internet().password(8, 12);
+        String firstName = faker.name().firstName();
+        String lastName = faker.name().lastName();
+        String fullName = faker.name().fullName();
+        String phoneNumber = faker.phoneNumber().subscriberNumber(10);
+        String cellNumber = faker.phoneNumber().cellPhone();
+        String address = faker.address().streetAddress();
+        return new TestPerson(index, firstName, lastName, fullName, email, password, phoneNumber, cellNumber, address);
+    }
+    //endregion
+
+
+    //region    Serve
+    // The next entry for the calling thread
+    public TestPerson next() {
+        long[] position = cursor.get();
+        if (position[0] == position[1]) {
+            long start = nextBlock.getAndIncrement() * BLOCK_SIZE;
+            position[0] = start;
+            position[1] = start + BLOCK_SIZE;
+        }
+        if (position[0] >= people.length && !wrapWarningLogged.get() && wrapWarningLogged.compareAndSet(false, true)) {
+            LoggerUtil.warning("Test data pool of " + people.length + " people is used up, values repeat from now on"
+                    + " (raise -Ddata.pool.size)");
+        }
+        return people[(int) Math.floorMod(position[0]++, (long) people.length)];
+    }
+
+    public TestPerson get(int index) {
+        return people[index];
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int size() {
+        return people.length;
+    }
+    //endregion
+}
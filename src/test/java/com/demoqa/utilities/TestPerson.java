@@ -0,0 +1,75 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+/* One pre-generated set of the personal data a test class uses (see TestDataPool). The full name is generated on its
+own, like RandomDataGenerator.getRandomFullName(), so it does not match the first and last name. toString() names the
+pool index, which together with the seed identifies the values in a replayed run. */
+
+public final class TestPerson {
+
+    private final int index;
+    private final String firstName;
+    private final String lastName;
+    private final String fullName;
+    private final String email;
+    private final String password;
+    private final String phoneNumber;
+    private final String cellNumber;
+    private final String address;
+
+    public TestPerson(int index, @NotNull String firstName, @NotNull String lastName, @NotNull String fullName,
+                      @NotNull String email, @NotNull String password, @NotNull String phoneNumber,
+                      @NotNull String cellNumber, @NotNull String address) {
+        this.index = index;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.fullName = fullName;
+        this.email = email;
+        this.password = password;
+        this.phoneNumber = phoneNumber;
+        this.cellNumber = cellNumber;
+        this.address = address;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public String getCellNumber() {
+        return cellNumber;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    @Override
+    public String toString() {
+        return "TestPerson#" + index + "(" + fullName + ", " + email + ")";
+    }
+}
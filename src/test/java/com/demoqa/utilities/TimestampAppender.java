@@ -0,0 +1,145 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/* Appends "dd-MM-yyyy HH:mm:ss" or "yyyy-MM-dd HH:mm:ss" timestamps of epoch milliseconds to a StringBuilder without
+allocating, for the logging and timestamp hot paths (LoggerUtil, DateTimeUtils).
+The date and the zone offset are resolved once per local day and kept in an immutable CachedDay, valid until midnight
+or the next offset transition (daylight saving time), whichever comes first. Within that window the time of day is plain
+arithmetic on the milliseconds; outside of it the first caller resolves the new day and publishes it through a volatile
+field. Concurrent callers that race on a day change each resolve it and one of the equal results wins, so no locking is
+needed. Instances are thread-safe and meant to be shared. */
+
+public final class TimestampAppender {
+
+    public enum Layout {
+        // dd-MM-yyyy HH:mm:ss
+        DAY_FIRST,
+        // yyyy-MM-dd HH:mm:ss
+        YEAR_FIRST
+    }
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final ZoneId zone;
+    private final Layout layout;
+    private volatile CachedDay cachedDay;
+
+    public TimestampAppender(@NotNull ZoneId zone, @NotNull Layout layout) {
+        this.zone = zone;
+        this.layout = layout;
+        this.cachedDay = CachedDay.resolve(System.currentTimeMillis(), zone);
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    // Appends the 19 characters of the timestamp; allocation-free whenever the day is already cached
+    public StringBuilder append(@NotNull StringBuilder builder, long epochMillis) {
+        CachedDay day = day(epochMillis);
+        int secondOfDay = day.secondOfDay(epochMillis);
+        if (layout == Layout.DAY_FIRST) {
+            appendTwoDigits(builder, day.dayOfMonth).append('-');
+            appendTwoDigits(builder, day.month).append('-');
+            appendYear(builder, day.year);
+        } else {
+            appendYear(builder, day.year).append('-');
+            appendTwoDigits(builder, day.month).append('-');
+            appendTwoDigits(builder, day.dayOfMonth);
+        }
+        builder.append(' ');
+        appendTwoDigits(builder, secondOfDay / 3600).append(':');
+        appendTwoDigits(builder, secondOfDay / 60 % 60).append(':');
+        return appendTwoDigits(builder, secondOfDay % 60);
+    }
+
+    public String format(long epochMillis) {
+        return append(new StringBuilder(19), epochMillis).toString();
+    }
+
+    // Seconds since local midnight, in the zone of this appender
+    public int secondOfDay(long epochMillis) {
+        return day(epochMillis).secondOfDay(epochMillis);
+    }
+
+
+    // Helper methods
+    private CachedDay day(long epochMillis) {
+        CachedDay day = cachedDay;
+        if (!day.contains(epochMillis)) {
+            day = CachedDay.resolve(epochMillis, zone);
+            cachedDay = day;
+        }
+        return day;
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder builder, int value) {
+        return builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static StringBuilder appendYear(StringBuilder builder, int year) {
+        if (year < 1000 || year > 9999) {
+            // Outside of the four-digit years; rare enough to take the allocating path
+            return builder.append(String.format("%04d", year));
+        }
+        appendTwoDigits(builder, year / 100);
+        return appendTwoDigits(builder, year % 100);
+    }
+
+    // One local day (or the part of it with a single zone offset) and its date fields
+    private static final class CachedDay {
+        private final long validFrom;
+        private final long validUntil;
+        private final long offsetMillis;
+        private final int year;
+        private final int month;
+        private final int dayOfMonth;
+
+        private CachedDay(long validFrom, long validUntil, long offsetMillis, LocalDate date) {
+            this.validFrom = validFrom;
+            this.validUntil = validUntil;
+            this.offsetMillis = offsetMillis;
+            this.year = date.getYear();
+            this.month = date.getMonthValue();
+            this.dayOfMonth = date.getDayOfMonth();
+        }
+
+        static CachedDay resolve(long epochMillis, ZoneId zone) {
+            Instant instant = Instant.ofEpochMilli(epochMillis);
+            ZonedDateTime dateTime = instant.atZone(zone);
+            LocalDate date = dateTime.toLocalDate();
+            ZoneOffset offset = dateTime.getOffset();
+            long validFrom = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            long validUntil = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+            ZoneRules rules = zone.getRules();
+            // previousTransition is strictly before its argument, so this finds a transition at exactly epochMillis too
+            ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochMilli(epochMillis + 1));
+            if (previous != null) {
+                validFrom = Math.max(validFrom, previous.getInstant().toEpochMilli());
+            }
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            if (next != null) {
+                validUntil = Math.min(validUntil, next.getInstant().toEpochMilli());
+            }
+            return new CachedDay(validFrom, validUntil, offset.getTotalSeconds() * 1000L, date);
+        }
+
+        boolean contains(long epochMillis) {
+            return epochMillis >= validFrom && epochMillis < validUntil;
+        }
+
+        int secondOfDay(long epochMillis) {
+            return (int) (Math.floorMod(epochMillis + offsetMillis, MILLIS_PER_DAY) / 1000);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/* Execution timeline of a suite run in the Chrome trace event format, which https://ui.perfetto.dev and chrome://tracing
+open as they are. Every span is written as a complete ("X") event on the track of the thread that recorded it, so each
+TestNG worker gets its own row: gaps are idle workers, long bars are slow waits, and bars that only ever run on one row at
+a time while the others wait are serialization points (pool leases, the grid queue).
+Categories: test and config (TestNG methods, TraceListener), driver (browser launch, driver.get and driver.navigate()
+calls), page and wait (BasePage steps), assert (AssertionUtils), pool and grid (waiting for a session or a grid slot).
+Recording is lock-free: one small object per span on a concurrent queue, nothing at all with -Dtrace.enabled=false.
+At most -Dtrace.maxEvents (200000) spans are kept per suite, later ones are only counted. */
+
+public final class TraceRecorder {
+
+    private static final TraceRecorder GLOBAL = new TraceRecorder(
+            ConfigReader.getBoolean("trace.enabled", true),
+            ConfigReader.getInt("trace.maxEvents", 200_000));
+
+    private final boolean enabled;
+    private final int maxEvents;
+    private final ConcurrentLinkedQueue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger spanCount = new AtomicInteger();
+    private final LongAdder droppedSpans = new LongAdder();
+    // Name of every thread that recorded a span, by thread id; the viewer labels the tracks with them
+    private final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+    private volatile long originNanos = System.nanoTime();
+
+    public TraceRecorder(boolean enabled, int maxEvents) {
+        this.enabled = enabled;
+        this.maxEvents = maxEvents;
+    }
+
+    public static TraceRecorder global() {
+        return GLOBAL;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+
+    //region    Recording
+    // A span of the current thread from startNanos (System.nanoTime()) until now; detail is optional, e.g. "timeout"
+    public void complete(@NotNull String category, @NotNull String name, long startNanos, String detail) {
+        if (!enabled) {
+            return;
+        }
+        long endNanos = System.nanoTime();
+        if (spanCount.incrementAndGet() > maxEvents) {
+            spanCount.decrementAndGet();
+            droppedSpans.increment();
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        long threadId = thread.getId();
+        if (!threadNames.containsKey(threadId)) {
+            threadNames.putIfAbsent(threadId, thread.getName());
+        }
+        spans.add(new Span(category, name, startNanos, endNanos - startNanos, threadId, detail));
+    }
+
+    public void complete(@NotNull String category, @NotNull String name, long startNanos) {
+        complete(category, name, startNanos, null);
+    }
+
+    // Runs the action as a span; an exception is recorded as the detail of the span and rethrown
+    public <T> T span(@NotNull String category, @NotNull String name, @NotNull Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        String detail = null;
+        try {
+            return action.get();
+        } catch (RuntimeException | Error e) {
+            detail = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            complete(category, name, start, detail);
+        }
+    }
+
+    public void span(@NotNull String category, @NotNull String name, @NotNull Runnable action) {
+        span(category, name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // Starts a new timeline, e.g. at the start of a suite; spans still running keep their start time.
+    // Threads are named again by their first span, so the timeline has no empty tracks of earlier suites
+    public void reset() {
+        spans.clear();
+        threadNames.clear();
+        spanCount.set(0);
+        droppedSpans.reset();
+        originNanos = System.nanoTime();
+    }
+
+    public int getSpanCount() {
+        return spanCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedSpans.sum();
+    }
+    //endregion
+
+
+    //region    Writing
+    public void write(@NotNull Path file, @NotNull String processName) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        long origin = originNanos;
+        List<Span> snapshot = new ArrayList<>(spans);
+        // Enclosing spans before the ones they contain, so viewers that nest by order draw them correctly
+        snapshot.sort(Comparator.comparingLong((Span span) -> span.startNanos).thenComparing(span -> -span.durationNanos));
+        Map<Long, String> threads = new TreeMap<>(threadNames);
+
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("{\"displayTimeUnit\": \"ms\", \"otherData\": {\"generatedAt\": \"" + Instant.now()
+                    + "\", \"droppedSpans\": " + getDroppedCount() + "},\n\"traceEvents\": [\n");
+            StringBuilder line = new StringBuilder(256);
+            line.append("{\"name\": \"process_name\", \"ph\": \"M\", \"pid\": 1, \"tid\": 0, \"args\": {\"name\": ");
+            appendString(line, processName).append("}}");
+            out.append(line);
+            for (Map.Entry<Long, String> thread : threads.entrySet()) {
+                line.setLength(0);
+                line.append(",\n{\"name\": \"thread_name\", \"ph\": \"M\", \"pid\": 1, \"tid\": ").append(thread.getKey())
+                        .append(", \"args\": {\"name\": ");
+                appendString(line, thread.getValue()).append("}}");
+                out.append(line);
+            }
+            for (Span span : snapshot) {
+                line.setLength(0);
+                line.append(",\n{\"name\": ");
+                appendString(line, span.name).append(", \"cat\": ");
+                appendString(line, span.category).append(", \"ph\": \"X\", \"ts\": ");
+                appendMicros(line, span.startNanos - origin).append(", \"dur\": ");
+                appendMicros(line, span.durationNanos).append(", \"pid\": 1, \"tid\": ").append(span.threadId);
+                if (span.detail != null) {
+                    line.append(", \"args\": {\"detail\": ");
+                    appendString(line, span.detail).append('}');
+                }
+                line.append('}');
+                out.append(line);
+            }
+            out.write("\n]}\n");
+        }
+    }
+
+    // Writes the timeline and logs where it is; failures are logged, never thrown at the end of a suite
+    public void writeQuietly(@NotNull Path file, @NotNull String processName) {
+        try {
+            write(file, processName);
+            LoggerUtil.info("Execution timeline written to " + file.toAbsolutePath() + " (" + getSpanCount() + " spans"
+                    + (getDroppedCount() > 0 ? ", " + getDroppedCount() + " dropped" : "")
+                    + "), open it in https://ui.perfetto.dev");
+        } catch (IOException e) {
+            LoggerUtil.error("Could not write the execution timeline to " + file, e);
+        }
+    }
+    //endregion
+
+
+    // Helper methods
+    // Trace timestamps are microseconds; nanoseconds are kept as three decimals
+    private static StringBuilder appendMicros(StringBuilder builder, long nanos) {
+        if (nanos < 0) {
+            builder.append('-');
+            nanos = -nanos;
+        }
+        long fraction = nanos % 1000;
+        builder.append(nanos / 1000).append('.');
+        if (fraction < 100) {
+            builder.append(fraction < 10 ? "00" : "0");
+        }
+        return builder.append(fraction);
+    }
+
+    private static StringBuilder appendString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"');
+    }
+
+
+    private static final class Span {
+        private final String category;
+        private final String name;
+        private final long startNanos;
+        private final long durationNanos;
+        private final long threadId;
+        private final String detail;
+
+        private Span(String category, String name, long startNanos, long durationNanos, long threadId, String detail) {
+            this.category = category;
+            this.name = name;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.threadId = threadId;
+            this.detail = detail;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/* How BasePage waits for an element before interacting with it.
+ - wait.strategy=fast-path (default)  check once and return immediately when the element is already usable, otherwise
+                                      poll every wait.pollMs (100) up to wait.timeoutMs (10000), see FastPathWaitStrategy
+ - wait.strategy=refreshed            the previous refreshed(visibilityOf) wait on the page's WebDriverWait
+Every call counts its outcome towards the BasePage step it runs in, see StepMetrics. */
+
+public interface WaitStrategy {
+
+    // Returns the element once it is displayed, throws org.openqa.selenium.TimeoutException otherwise
+    WebElement untilVisible(@NotNull WebElement element);
+
+    // Returns the element once it is displayed and enabled, throws org.openqa.selenium.TimeoutException otherwise
+    WebElement untilClickable(@NotNull WebElement element);
+
+
+    static WaitStrategy configured(@NotNull WebDriverWait wait) {
+        String name = ConfigReader.getString("wait.strategy", "fast-path").toLowerCase(Locale.ROOT);
+        if (name.equals("refreshed")) {
+            return new RefreshedWaitStrategy(wait, StepMetrics.global());
+        }
+        if (!name.equals("fast-path")) {
+            LoggerUtil.warning("Unknown wait.strategy '" + name + "', using fast-path");
+        }
+        return new FastPathWaitStrategy(
+                Duration.ofMillis(ConfigReader.getLong("wait.timeoutMs", 10_000)),
+                Duration.ofMillis(ConfigReader.getLong("wait.pollMs", 100)),
+                StepMetrics.global());
+    }
+}
@@ -1,33 +1,191 @@
 package com.demoqa.utilities;
 
 import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/* Launches local browsers with the selected BrowserProfile set, with third-party ads and trackers blocked (NetworkBlocker).
+A driver key ("chrome" or "chrome|headless,no-images", see driverKey) identifies browser and profiles together, so the
+WebDriverPool never hands a headless session to a test that asked for a headed one.
+-Dbrowser.pageLoadStrategy=eager|none makes driver.get return at DOMContentLoaded or right after the navigation starts
+instead of after the load event (normal, the default); page objects then wait for their own readiness signals
+(see PageReadiness). The setting applies to every session of the JVM, so it is not part of the driver key.
+-Dgrid.url=http://host:4444/ starts every session on that Selenium Grid instead, with the same options, once the
+GridSessionThrottle has seen a free slot for the browser; LocalGridServer can provide such a grid on this machine. */
 
 public class WebDriverManager {
+    private static final String PROFILE_SEPARATOR = "|";
+
+    // Set by LocalGridServer for the rest of the run, takes precedence over -Dgrid.url
+    private static volatile String gridUrlOverride;
+
     private WebDriver driver;
 
-    public WebDriver initiateDriver(@NotNull String browserName) {
+    // URL of the Selenium Grid sessions are started on, or null for local browsers
+    public static String gridUrl() {
+        String override = gridUrlOverride;
+        if (override != null) {
+            return override;
+        }
+        String configured = ConfigReader.getString("grid.url", "");
+        return configured.isEmpty() ? null : configured;
+    }
+
+    public static void useGrid(String url) {
+        gridUrlOverride = url;
+    }
+
+    // normal, eager or none; unknown values fall back to normal
+    public static PageLoadStrategy pageLoadStrategy() {
+        String name = ConfigReader.getString("browser.pageLoadStrategy", "normal");
+        for (PageLoadStrategy strategy : PageLoadStrategy.values()) {
+            if (strategy.toString().equalsIgnoreCase(name)) {
+                return strategy;
+            }
+        }
+        LoggerUtil.warning("Unknown browser.pageLoadStrategy '" + name + "', using normal");
+        return PageLoadStrategy.NORMAL;
+    }
+
+    // Builds the key used to request sessions from the WebDriverPool
+    public static String driverKey(@NotNull String browserName, @NotNull Set<BrowserProfile> profiles) {
+        return browserName.toLowerCase() + PROFILE_SEPARATOR + BrowserProfile.toProfileNames(profiles);
+    }
+
+    // Accepts a plain browser name (profiles from -Dbrowser.profile) or a driver key
+    public WebDriver initiateDriver(@NotNull String browserNameOrKey) {
+        int separator = browserNameOrKey.indexOf(PROFILE_SEPARATOR);
+        if (separator < 0) {
+            return initiateDriver(browserNameOrKey, BrowserProfile.resolve(null));
+        }
+        return initiateDriver(browserNameOrKey.substring(0, separator),
+                BrowserProfile.parse(browserNameOrKey.substring(separator + 1)));
+    }
+
+    public WebDriver initiateDriver(@NotNull String browserName, @NotNull Set<BrowserProfile> profiles) {
         if (browserName.equalsIgnoreCase("chrome")) {
             ChromeOptions options = new ChromeOptions();
-            options.addArguments("--start-maximized", "--disable-popup-blocking", "--incognito", "--disable-logging");
-            driver = new ChromeDriver(options);
+            options.addArguments("--disable-popup-blocking", "--incognito", "--disable-logging");
+            applyProfiles(options, profiles);
+            options.setPageLoadStrategy(pageLoadStrategy());
+            options.setCapability("goog:loggingPrefs", browserLogs());
+            driver = start(options, () -> new ChromeDriver(options));
+            attachListeners(browserName);
         } else if (browserName.equalsIgnoreCase("edge")) {
             EdgeOptions edgeOptions = new EdgeOptions();
-            edgeOptions.addArguments("--start-maximized", "--disable-popup-blocking", "--inprivate");
-            driver = new EdgeDriver(edgeOptions);
+            edgeOptions.addArguments("--disable-popup-blocking", "--inprivate");
+            applyProfiles(edgeOptions, profiles);
+            edgeOptions.setPageLoadStrategy(pageLoadStrategy());
+            edgeOptions.setCapability("ms:loggingPrefs", browserLogs());
+            driver = start(edgeOptions, () -> new EdgeDriver(edgeOptions));
+            attachListeners(browserName);
         } else if (browserName.equalsIgnoreCase("firefox")) {
             FirefoxOptions firefoxOptions = new FirefoxOptions();
-            firefoxOptions.addArguments("--start-maximized", "--disable-popup-blocking", "-private");
-            driver = new FirefoxDriver(firefoxOptions);
+            firefoxOptions.addArguments("-private");
+            applyProfiles(firefoxOptions, profiles);
+            firefoxOptions.setPageLoadStrategy(pageLoadStrategy());
+            driver = start(firefoxOptions, () -> new FirefoxDriver(firefoxOptions));
+            attachListeners(browserName);
+            if (profiles.contains(BrowserProfile.HEADED) && !profiles.contains(BrowserProfile.FIXED_VIEWPORT)) {
+                // Done once per session; pooled sessions keep their window size between tests
+                driver.manage().window().maximize();
+            }
         } else {
             System.out.println("Invalid browser name provided");
         }
         return driver;
     }
+
+    // A local browser, or a remote session on the grid once it has a free slot for the browser
+    private static WebDriver start(Capabilities options, Supplier<WebDriver> localDriver) {
+        String gridUrl = gridUrl();
+        if (gridUrl == null) {
+            return localDriver.get();
+        }
+        URL url;
+        try {
+            url = new URL(gridUrl);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid grid.url '" + gridUrl + "'", e);
+        }
+        GridSessionThrottle throttle = GridSessionThrottle.forUrl(gridUrl);
+        String browserName = options.getBrowserName();
+        throttle.acquire(browserName);
+        try {
+            return augment(new RemoteWebDriver(url, options));
+        } finally {
+            throttle.release(browserName);
+        }
+    }
+
+    // Adds the DevTools interfaces when the grid exposes them (se:cdp), so request blocking also works remotely
+    private static WebDriver augment(RemoteWebDriver driver) {
+        if (driver.getCapabilities().getCapability("se:cdp") == null) {
+            return driver;
+        }
+        try {
+            return new Augmenter().augment(driver);
+        } catch (WebDriverException | IllegalStateException e) {
+            LoggerUtil.warning("Remote session without DevTools: " + e.getMessage());
+            return driver;
+        }
+    }
+
+    // Keeps the console messages of the page, so FailureArtifacts can attach them (Firefox offers no log endpoint)
+    private static LoggingPreferences browserLogs() {
+        LoggingPreferences logs = new LoggingPreferences();
+        logs.enable(LogType.BROWSER, Level.ALL);
+        return logs;
+    }
+
+    // DevTools hooks of a new session: request blocking and, when driver.get does not wait for the load event, the
+    // pending request counter behind PageReadiness.noPendingRequests()
+    private void attachListeners(String browserName) {
+        NetworkBlocker.attachIfEnabled(driver, browserName);
+        if (pageLoadStrategy() != PageLoadStrategy.NORMAL) {
+            PendingRequestTracker.attachIfSupported(driver, browserName);
+        }
+    }
+
+    //region    Profile switches per browser family
+    static void applyProfiles(@NotNull ChromiumOptions<?> options, @NotNull Set<BrowserProfile> profiles) {
+        Map<String, Object> prefs = new HashMap<>();
+        for (BrowserProfile profile : profiles) {
+            if (profile == BrowserProfile.HEADED && profiles.contains(BrowserProfile.FIXED_VIEWPORT)) {
+                continue; // --start-maximized would override the fixed window size
+            }
+            profile.applyTo(options, prefs);
+        }
+        if (!prefs.isEmpty()) {
+            options.setExperimentalOption("prefs", prefs);
+        }
+    }
+
+    static void applyProfiles(@NotNull FirefoxOptions options, @NotNull Set<BrowserProfile> profiles) {
+        for (BrowserProfile profile : profiles) {
+            profile.applyTo(options);
+        }
+    }
+    //endregion
 }
@@ -0,0 +1,278 @@
+package com.demoqa.utilities;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogType;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/* Thread-safe pool of browser sessions that are leased to tests instead of launching and quitting a browser per test method.
+ - At most `driver.pool.size` sessions are leased at the same time; further callers wait up to `driver.pool.acquireTimeoutSeconds`.
+ - Every session is health-checked before it is handed out and reset (tabs, alerts, cookies, storage, console log) when it is returned.
+ - Sessions that crashed, failed the reset or were used `driver.pool.maxUses` times are quit and replaced on the next lease.
+Setting -Ddriver.pool.maxUses=1 restores the old "fresh browser per test" behaviour. */
+
+public class WebDriverPool {
+
+    private static final String BLANK_PAGE = "about:blank";
+
+    private static final WebDriverPool INSTANCE = new WebDriverPool(
+            ConfigReader.getInt("driver.pool.size", 6),
+            ConfigReader.getInt("driver.pool.maxUses", 50),
+            ConfigReader.getLong("driver.pool.acquireTimeoutSeconds", 120),
+            browserName -> new WebDriverManager().initiateDriver(browserName));
+
+    private final int maxSize;
+    private final int maxUses;
+    private final long acquireTimeoutSeconds;
+    private final Function<String, WebDriver> driverFactory;
+    private final Semaphore leasePermits;
+
+    // Idle sessions grouped by browser name, guarded by "this"
+    private final Map<String, Deque<PooledDriver>> idleSessions = new HashMap<>();
+    private final Map<WebDriver, PooledDriver> leasedSessions = new ConcurrentHashMap<>();
+
+    public WebDriverPool(int maxSize, int maxUses, long acquireTimeoutSeconds, @NotNull Function<String, WebDriver> driverFactory) {
+        if (maxSize < 1 || maxUses < 1) {
+            throw new IllegalArgumentException("Pool size and max uses must be positive, got " + maxSize + " / " + maxUses);
+        }
+        this.maxSize = maxSize;
+        this.maxUses = maxUses;
+        this.acquireTimeoutSeconds = acquireTimeoutSeconds;
+        this.driverFactory = driverFactory;
+        this.leasePermits = new Semaphore(maxSize, true);
+    }
+
+    public static WebDriverPool getInstance() {
+        return INSTANCE;
+    }
+
+
+    //region    Lease a healthy session for the given browser, reusing an idle one when possible.
+    public WebDriver acquire(@NotNull String browserName) {
+        String key = browserName.toLowerCase();
+        long leaseStart = System.nanoTime();
+        try {
+            if (!leasePermits.tryAcquire(acquireTimeoutSeconds, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("No WebDriver session became available within " + acquireTimeoutSeconds + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a WebDriver session", e);
+        } finally {
+            TraceRecorder.global().complete("pool", "wait for session", leaseStart);
+        }
+
+        try {
+            PooledDriver pooledDriver;
+            while ((pooledDriver = pollIdle(key)) != null) {
+                if (isHealthy(pooledDriver)) {
+                    break;
+                }
+                LoggerUtil.warning("Evicting unhealthy " + key + " session from the pool");
+                quitQuietly(pooledDriver.driver);
+            }
+
+            if (pooledDriver == null) {
+                evictIdleSessionOfOtherBrowser(key);
+                WebDriver driver = TraceRecorder.global().span("driver", "launch " + key, () -> driverFactory.apply(key));
+                if (driver == null) {
+                    throw new IllegalArgumentException("Could not create a WebDriver for browser: " + browserName);
+                }
+                try {
+                    pooledDriver = new PooledDriver(key, driver);
+                } catch (WebDriverException e) {
+                    quitQuietly(driver);
+                    throw e;
+                }
+            }
+
+            leasedSessions.put(pooledDriver.driver, pooledDriver);
+            return pooledDriver.driver;
+        } catch (RuntimeException e) {
+            leasePermits.release();
+            throw e;
+        }
+    }
+    //endregion
+
+
+    //region    Return a leased session; it is reset and kept for reuse unless it is worn out or broken.
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        PooledDriver pooledDriver = leasedSessions.remove(driver);
+        if (pooledDriver == null) {
+            // Not a pooled session (or already released), nothing to hand back
+            quitQuietly(driver);
+            return;
+        }
+
+        try {
+            pooledDriver.uses++;
+            if (pooledDriver.uses >= maxUses || !TraceRecorder.global().span("pool", "reset session", () -> reset(pooledDriver))) {
+                quitQuietly(pooledDriver.driver);
+            } else {
+                synchronized (this) {
+                    idleSessions.computeIfAbsent(pooledDriver.browserName, k -> new ArrayDeque<>()).push(pooledDriver);
+                }
+            }
+        } finally {
+            leasePermits.release();
+        }
+    }
+    //endregion
+
+
+    //region    Return a leased session that must not be reused (e.g. after a driver crash); it is quit immediately.
+    public void invalidate(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        PooledDriver pooledDriver = leasedSessions.remove(driver);
+        quitQuietly(driver);
+        if (pooledDriver != null) {
+            leasePermits.release();
+        }
+    }
+    //endregion
+
+
+    //region    Quit every idle session; leased sessions are quit when they are released.
+    public void shutdown() {
+        Deque<PooledDriver> toQuit = new ArrayDeque<>();
+        synchronized (this) {
+            idleSessions.values().forEach(toQuit::addAll);
+            idleSessions.clear();
+        }
+        toQuit.forEach(pooledDriver -> quitQuietly(pooledDriver.driver));
+    }
+    //endregion
+
+
+    public synchronized int getIdleCount() {
+        return idleSessions.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    public int getLeasedCount() {
+        return leasedSessions.size();
+    }
+
+
+    // Helper methods
+    private synchronized PooledDriver pollIdle(String browserName) {
+        Deque<PooledDriver> sessions = idleSessions.get(browserName);
+        return sessions == null ? null : sessions.poll();
+    }
+
+    // Keeps the number of live browsers within the pool size when suites mix browsers
+    private void evictIdleSessionOfOtherBrowser(String browserName) {
+        PooledDriver victim = null;
+        synchronized (this) {
+            if (getIdleCount() + leasedSessions.size() < maxSize) {
+                return;
+            }
+            for (Map.Entry<String, Deque<PooledDriver>> entry : idleSessions.entrySet()) {
+                if (!entry.getKey().equals(browserName) && !entry.getValue().isEmpty()) {
+                    victim = entry.getValue().pollLast();
+                    break;
+                }
+            }
+        }
+        if (victim != null) {
+            quitQuietly(victim.driver);
+        }
+    }
+
+    private boolean isHealthy(PooledDriver pooledDriver) {
+        try {
+            pooledDriver.driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    // Brings the session back to a clean state: single tab, no alert, no cookies and no web storage
+    private boolean reset(PooledDriver pooledDriver) {
+        WebDriver driver = pooledDriver.driver;
+        try {
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(pooledDriver.primaryWindowHandle)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(pooledDriver.primaryWindowHandle);
+
+            try {
+                driver.switchTo().alert().dismiss();
+            } catch (NoAlertPresentException ignored) {
+                // No alert left open by the previous test
+            }
+
+            driver.manage().deleteAllCookies();
+            clearWebStorage(driver);
+            driver.get(BLANK_PAGE);
+            drainBrowserLog(driver);
+            return true;
+        } catch (WebDriverException e) {
+            LoggerUtil.warning("Could not reset pooled " + pooledDriver.browserName + " session, it will be replaced: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Chromium hands out every console entry once; reading them here keeps them out of the next test's failure artifacts
+    private void drainBrowserLog(WebDriver driver) {
+        try {
+            driver.manage().logs().get(LogType.BROWSER);
+        } catch (WebDriverException ignored) {
+            // Firefox and Safari offer no browser log
+        }
+    }
+
+    private void clearWebStorage(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        try {
+            ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        } catch (WebDriverException ignored) {
+            // Storage is not accessible on some pages (e.g. about:blank or data: URLs)
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            TraceRecorder.global().span("driver", "quit", driver::quit);
+        } catch (WebDriverException e) {
+            LoggerUtil.warning("Failed to quit WebDriver session: " + e.getMessage());
+        }
+    }
+
+
+    // A browser session together with its pool bookkeeping
+    private static class PooledDriver {
+        private final String browserName;
+        private final WebDriver driver;
+        private final String primaryWindowHandle;
+        private int uses;
+
+        private PooledDriver(String browserName, WebDriver driver) {
+            this.browserName = browserName;
+            this.driver = driver;
+            this.primaryWindowHandle = driver.getWindowHandle();
+        }
+    }
+}